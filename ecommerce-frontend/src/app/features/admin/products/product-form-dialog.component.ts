@@ -153,6 +153,7 @@ export class ProductFormDialogComponent {
 
   isEdit = false;
   editingProductId: number | null = null;
+  editingVersion: number | null = null;
   isSubmitting = false;
 
   productForm = this.fb.group({
@@ -168,6 +169,7 @@ export class ProductFormDialogComponent {
       // Edit mode
       this.isEdit = true;
       this.editingProductId = product.id;
+      this.editingVersion = product.version ?? null;
       this.productForm.patchValue({
         name: product.name,
         description: product.description,
@@ -179,6 +181,7 @@ export class ProductFormDialogComponent {
       // Create mode
       this.isEdit = false;
       this.editingProductId = null;
+      this.editingVersion = null;
       this.productForm.reset({
         name: '',
         description: '',
@@ -220,7 +223,9 @@ export class ProductFormDialogComponent {
       stock: formValue.stock,
       category: {
         id: formValue.categoryId
-      }
+      },
+      // Verrouillage optimiste : version lue à l'ouverture du formulaire (obligatoire en modification)
+      version: this.isEdit ? this.editingVersion : undefined
     };
 
     // Use PUT for edit, POST for create
@@ -241,6 +246,10 @@ export class ProductFormDialogComponent {
           this.toastService.show('Erreur réseau. Impossible d\'enregistrer le produit.', 'error');
         } else if (error.status === 400) {
           this.toastService.show('Données produit invalides. Veuillez vérifier vos entrées.', 'error');
+        } else if (error.status === 409) {
+          this.toastService.show('Produit modifié entre-temps par un autre administrateur. Rechargez-le puis réessayez.', 'error');
+          this.close();
+          this.saved.emit();
         } else if (error.status === 403) {
           this.toastService.show('Non autorisé. Accès administrateur requis.', 'error');
         } else {
@@ -2,8 +2,10 @@ package com.anh.e_commerce_platform;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class ECommercePlatformApplication {
 
 	public static void main(String[] args) {
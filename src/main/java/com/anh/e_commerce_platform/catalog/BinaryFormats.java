@@ -0,0 +1,50 @@
+package com.anh.e_commerce_platform.catalog;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+// Formats binaires compacts (Jackson CBOR et Smile) proposés en plus du JSON.
+// Le JSON reste le format par défaut : un format binaire n'est servi que s'il est demandé explicitement
+// et préféré (qualité) à tout type compatible avec le JSON.
+public final class BinaryFormats {
+
+    public static final MediaType CBOR = MediaType.APPLICATION_CBOR;
+    public static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    private BinaryFormats() {
+    }
+
+    // Format binaire préféré par l'en-tête Accept, ou null si le JSON convient
+    public static MediaType preferred(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return null;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (InvalidMediaTypeException e) {
+            return null;
+        }
+        // Tri stable : à qualité égale, l'ordre du client est conservé
+        accepted.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType type : accepted) {
+            if (type.getQualityValue() == 0.0) {
+                continue;
+            }
+            if (type.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return null;
+            }
+            if (type.equalsTypeAndSubtype(CBOR)) {
+                return CBOR;
+            }
+            if (type.equalsTypeAndSubtype(SMILE)) {
+                return SMILE;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,27 @@
+package com.anh.e_commerce_platform.catalog;
+
+// Catalogue public pré-encodé (liste des produits, liste des catégories), remplacé d'un bloc à chaque reconstruction
+public final class CatalogSnapshot {
+
+    private final EncodedJson products;
+    private final EncodedJson categories;
+    private final long builtAt;
+
+    public CatalogSnapshot(EncodedJson products, EncodedJson categories, long builtAt) {
+        this.products = products;
+        this.categories = categories;
+        this.builtAt = builtAt;
+    }
+
+    public EncodedJson getProducts() {
+        return products;
+    }
+
+    public EncodedJson getCategories() {
+        return categories;
+    }
+
+    public long getBuiltAt() {
+        return builtAt;
+    }
+}
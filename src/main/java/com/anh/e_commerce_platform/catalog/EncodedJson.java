@@ -0,0 +1,137 @@
+package com.anh.e_commerce_platform.catalog;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.zip.GZIPOutputStream;
+
+// Corps JSON encodé une fois pour toutes : octets bruts, version gzip et ETag.
+// Servir une réponse ne coûte plus qu'une copie de tableau, sans JPA ni Jackson.
+public final class EncodedJson {
+
+    private final byte[] identity;
+    private final byte[] gzip;
+    private final String etag;
+
+    private EncodedJson(byte[] identity, byte[] gzip, String etag) {
+        this.identity = identity;
+        this.gzip = gzip;
+        this.etag = etag;
+    }
+
+    public static EncodedJson of(byte[] json, int gzipLevel) {
+        return new EncodedJson(json, gzip(json, gzipLevel), "\"" + sha256(json) + "\"");
+    }
+
+    // Tableau JSON assemblé à partir d'éléments déjà encodés (aucune resérialisation)
+    public static EncodedJson ofArray(Collection<byte[]> elements, int gzipLevel) {
+        int length = 2 + Math.max(0, elements.size() - 1);
+        for (byte[] element : elements) {
+            length += element.length;
+        }
+        byte[] json = new byte[length];
+        int offset = 0;
+        json[offset++] = '[';
+        for (byte[] element : elements) {
+            if (offset > 1) {
+                json[offset++] = ',';
+            }
+            System.arraycopy(element, 0, json, offset, element.length);
+            offset += element.length;
+        }
+        json[offset] = ']';
+        return of(json, gzipLevel);
+    }
+
+    public byte[] getIdentity() {
+        return identity;
+    }
+
+    public byte[] getGzip() {
+        return gzip;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    // Réponse conditionnelle (304 si l'ETag correspond) et négociée (gzip si le client l'accepte)
+    public ResponseEntity<byte[]> toResponse(WebRequest request) {
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        boolean useGzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        if (useGzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return builder.body(useGzip ? gzip : identity);
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            String name = parts[0].trim();
+            if (name.equalsIgnoreCase("gzip") || name.equals("*")) {
+                // gzip;q=0 signifie explicitement "refusé" ; une valeur illisible aussi (réponse non compressée)
+                for (int i = 1; i < parts.length; i++) {
+                    String param = parts[i].trim();
+                    if (param.startsWith("q=") && !(quality(param.substring(2)) > 0.0)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Valeur q de l'en-tête envoyé par le client, NaN si elle n'est pas un nombre
+    private static double quality(String value) {
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    // Niveau choisi par l'appelant : la compression est payée à chaque reconstruction, pas à chaque requête
+    private static byte[] gzip(byte[] data, int level) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(level);
+            }
+        }) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String sha256(byte[] data) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(data);
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.anh.e_commerce_platform.catalog;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+// Compteurs de facettes du catalogue, tenus à jour produit par produit :
+// par catégorie, nombre de produits par tranche de prix, en stock ou non.
+// Une requête de navigation ne lit que ces compteurs (catégories x tranches x 2), jamais les produits.
+public final class FacetIndex {
+
+    // Bornes basses des tranches de prix en centimes, croissantes, la première vaut 0
+    private final long[] bounds;
+
+    // Dernier état connu de chaque produit indexé
+    private final Map<Long, Entry> products = new HashMap<>();
+
+    // Catégorie -> compteurs [tranche * 2 + (en stock ? 1 : 0)]
+    private final Map<Long, long[]> counts = new HashMap<>();
+
+    public FacetIndex(long[] bounds) {
+        if (bounds.length == 0 || bounds[0] != 0) {
+            throw new IllegalArgumentException("La première tranche de prix doit commencer à 0");
+        }
+        for (int i = 1; i < bounds.length; i++) {
+            if (bounds[i] <= bounds[i - 1]) {
+                throw new IllegalArgumentException("Les tranches de prix doivent être croissantes");
+            }
+        }
+        this.bounds = bounds.clone();
+    }
+
+    public long[] getBounds() {
+        return bounds.clone();
+    }
+
+    public int bucketCount() {
+        return bounds.length;
+    }
+
+    // Un prix négatif (donnée invalide en base) est compté dans la première tranche plutôt que de casser l'index
+    public int bucketOf(long priceCents) {
+        if (priceCents < 0) {
+            return 0;
+        }
+        int index = Arrays.binarySearch(bounds, priceCents);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    // Ajouter ou mettre à jour un produit ; un état plus ancien (version inférieure) que celui indexé est ignoré
+    public synchronized void put(long productId, Long categoryId, long priceCents, int stock, long version) {
+        Entry previous = products.get(productId);
+        if (previous != null && previous.version > version) {
+            return;
+        }
+        if (previous != null) {
+            add(previous, -1);
+        }
+        Entry entry = new Entry(categoryId, bucketOf(priceCents), stock > 0, version);
+        products.put(productId, entry);
+        add(entry, 1);
+    }
+
+    public synchronized void remove(long productId) {
+        Entry previous = products.remove(productId);
+        if (previous != null) {
+            add(previous, -1);
+        }
+    }
+
+    public synchronized void clear() {
+        products.clear();
+        counts.clear();
+    }
+
+    public synchronized int size() {
+        return products.size();
+    }
+
+    // Catégorie (éventuellement null) des produits indexés parmi ceux donnés ; les produits inconnus sont absents
+    public synchronized Map<Long, Long> categoriesOf(Collection<Long> productIds) {
+        Map<Long, Long> categories = new HashMap<>();
+        for (Long productId : productIds) {
+            Entry entry = products.get(productId);
+            if (entry != null) {
+                categories.put(productId, entry.categoryId);
+            }
+        }
+        return categories;
+    }
+
+    // Copie cohérente des compteurs, à filtrer hors verrou
+    public synchronized Map<Long, long[]> snapshot() {
+        Map<Long, long[]> copy = new HashMap<>(counts.size() * 2);
+        counts.forEach((categoryId, values) -> copy.put(categoryId, values.clone()));
+        return copy;
+    }
+
+    private void add(Entry entry, int delta) {
+        if (entry.categoryId == null) {
+            return;
+        }
+        long[] values = counts.computeIfAbsent(entry.categoryId, key -> new long[bounds.length * 2]);
+        values[entry.bucket * 2 + (entry.inStock ? 1 : 0)] += delta;
+    }
+
+    private static final class Entry {
+
+        private final Long categoryId;
+        private final int bucket;
+        private final boolean inStock;
+        private final long version;
+
+        private Entry(Long categoryId, int bucket, boolean inStock, long version) {
+            this.categoryId = categoryId;
+            this.bucket = bucket;
+            this.inStock = inStock;
+            this.version = version;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.anh.e_commerce_platform.cluster;
+
+import java.util.function.Consumer;
+
+// Canal de diffusion des invalidations entre nœuds. Un message n'est jamais remis au nœud qui l'a publié.
+public interface InvalidationBus {
+
+    void publish(InvalidationMessage message);
+
+    void subscribe(String nodeId, Consumer<InvalidationMessage> listener);
+
+    void unsubscribe(String nodeId);
+}
@@ -0,0 +1,38 @@
+package com.anh.e_commerce_platform.cluster;
+
+import java.util.Collection;
+import java.util.Set;
+
+// Message diffusé aux autres nœuds après un commit : identifiants à oublier dans leurs caches locaux
+public class InvalidationMessage {
+
+    private final String origin;
+    private final InvalidationTopic topic;
+    private final String reason;
+
+    // Identifiants touchés (vide : aucun en particulier, null : inconnus, tout invalider)
+    private final Set<Long> ids;
+
+    public InvalidationMessage(String origin, InvalidationTopic topic, String reason, Collection<Long> ids) {
+        this.origin = origin;
+        this.topic = topic;
+        this.reason = reason;
+        this.ids = ids == null ? null : Set.copyOf(ids);
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+
+    public InvalidationTopic getTopic() {
+        return topic;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public Set<Long> getIds() {
+        return ids;
+    }
+}
@@ -0,0 +1,8 @@
+package com.anh.e_commerce_platform.cluster;
+
+// Familles de caches locaux tenues cohérentes entre les nœuds
+public enum InvalidationTopic {
+
+    CATALOG, // produits et catégories : cache de second niveau, instantané, facettes, niveaux de stock
+    USERS; // utilisateurs authentifiés (cache du filtre JWT)
+}
@@ -0,0 +1,55 @@
+package com.anh.e_commerce_platform.cluster;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+// Bus en boucle locale : les nœuds d'une même JVM (mode multinode) partagent un canal par nom.
+// Remise synchrone, sur le thread qui publie : quand le commit d'un nœud est terminé, les autres ont déjà invalidé.
+// Tient lieu de broker (Redis pub/sub, Kafka...) : les services ne dépendent que d'InvalidationBus.
+public class LoopbackInvalidationBus implements InvalidationBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoopbackInvalidationBus.class);
+
+    private static final Map<String, LoopbackInvalidationBus> CHANNELS = new ConcurrentHashMap<>();
+
+    private final String channel;
+    private final Map<String, Consumer<InvalidationMessage>> subscribers = new ConcurrentHashMap<>();
+
+    private LoopbackInvalidationBus(String channel) {
+        this.channel = channel;
+    }
+
+    public static LoopbackInvalidationBus channel(String name) {
+        return CHANNELS.computeIfAbsent(name, LoopbackInvalidationBus::new);
+    }
+
+    @Override
+    public void publish(InvalidationMessage message) {
+        subscribers.forEach((nodeId, listener) -> {
+            if (nodeId.equals(message.getOrigin())) {
+                return;
+            }
+            // Un nœud en erreur ne doit priver ni l'émetteur ni les autres nœuds de la suite
+            try {
+                listener.accept(message);
+            } catch (RuntimeException e) {
+                logger.error("Invalidation {} non appliquée sur le nœud {} (canal {})", message.getTopic(), nodeId,
+                        channel, e);
+            }
+        });
+    }
+
+    @Override
+    public void subscribe(String nodeId, Consumer<InvalidationMessage> listener) {
+        subscribers.put(nodeId, listener);
+    }
+
+    @Override
+    public void unsubscribe(String nodeId) {
+        subscribers.remove(nodeId);
+    }
+}
@@ -0,0 +1,45 @@
+package com.anh.e_commerce_platform.cluster;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.anh.e_commerce_platform.ECommercePlatformApplication;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Mode multi-nœuds local : plusieurs instances de l'application dans une même JVM, sur des ports successifs,
+// partageant une base (profil multinode) et le bus d'invalidation en boucle locale.
+// mvn spring-boot:run -Dspring-boot.run.main-class=com.anh.e_commerce_platform.cluster.MultiNodeLauncher
+//     -Dspring-boot.run.arguments="3 8080"
+public final class MultiNodeLauncher {
+
+    private MultiNodeLauncher() {
+    }
+
+    public static void main(String[] args) {
+        int nodes = args.length > 0 ? Integer.parseInt(args[0]) : 3;
+        int basePort = args.length > 1 ? Integer.parseInt(args[1]) : 8080;
+        start(nodes, basePort);
+    }
+
+    // Nœuds démarrés l'un après l'autre (le premier crée le schéma et les données) ; basePort 0 : ports libres.
+    // Les arguments supplémentaires (--propriété=valeur) s'appliquent à tous les nœuds.
+    public static List<ConfigurableApplicationContext> start(int nodes, int basePort, String... args) {
+        List<ConfigurableApplicationContext> contexts = new ArrayList<>();
+        try {
+            for (int i = 0; i < nodes; i++) {
+                List<String> nodeArgs = new ArrayList<>(List.of(args));
+                nodeArgs.add("--server.port=" + (basePort == 0 ? 0 : basePort + i));
+                nodeArgs.add("--app.cluster.node-id=node-" + (i + 1));
+                contexts.add(new SpringApplicationBuilder(ECommercePlatformApplication.class)
+                        .profiles("multinode")
+                        .run(nodeArgs.toArray(String[]::new)));
+            }
+        } catch (RuntimeException e) {
+            contexts.forEach(ConfigurableApplicationContext::close);
+            throw e;
+        }
+        return contexts;
+    }
+}
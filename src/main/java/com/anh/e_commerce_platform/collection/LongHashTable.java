@@ -0,0 +1,104 @@
+package com.anh.e_commerce_platform.collection;
+
+// Table de hachage à adressage ouvert (sondage linéaire) indexée par une clé long, sans boxing.
+// Ne gère que les clés et leurs cases : les sous-classes rangent leurs valeurs dans des tableaux
+// parallèles de même capacité, déplacés par moveValues quand la table grandit. Pas de suppression,
+// non synchronisée.
+public abstract class LongHashTable {
+
+    private long[] keys;
+    private boolean[] used;
+    private int size;
+    private int mask;
+
+    protected LongHashTable(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(expectedSize, 4) * 2 - 1) << 1;
+        keys = new long[capacity];
+        used = new boolean[capacity];
+        mask = capacity - 1;
+    }
+
+    // Copie des clés ; la sous-classe copie ses valeurs
+    protected LongHashTable(LongHashTable other) {
+        keys = other.keys.clone();
+        used = other.used.clone();
+        size = other.size;
+        mask = other.mask;
+    }
+
+    public final int size() {
+        return size;
+    }
+
+    protected final int capacity() {
+        return keys.length;
+    }
+
+    // Case de la clé, -1 si elle est absente
+    protected final int find(long key) {
+        int slot = probe(key);
+        return used[slot] ? slot : -1;
+    }
+
+    // Case de la clé, ajoutée si elle est absente. La table grandit avant l'ajout :
+    // la case retournée reste valable jusqu'au prochain appel à insert
+    protected final int insert(long key) {
+        int slot = probe(key);
+        if (used[slot]) {
+            return slot;
+        }
+        if ((size + 1) * 2 > keys.length) {
+            grow();
+            slot = probe(key);
+        }
+        used[slot] = true;
+        keys[slot] = key;
+        size++;
+        return slot;
+    }
+
+    protected final boolean isUsed(int slot) {
+        return used[slot];
+    }
+
+    protected final long keyAt(int slot) {
+        return keys[slot];
+    }
+
+    // Nouveaux tableaux de valeurs de la capacité donnée ; newSlots[ancienne case] = nouvelle case (-1 si vide)
+    protected abstract void moveValues(int capacity, int[] newSlots);
+
+    private int probe(long key) {
+        int slot = mix(key) & mask;
+        while (used[slot] && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        boolean[] oldUsed = used;
+        int capacity = oldKeys.length * 2;
+        keys = new long[capacity];
+        used = new boolean[capacity];
+        mask = capacity - 1;
+        int[] newSlots = new int[oldKeys.length];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldUsed[i]) {
+                int slot = probe(oldKeys[i]);
+                used[slot] = true;
+                keys[slot] = oldKeys[i];
+                newSlots[i] = slot;
+            } else {
+                newSlots[i] = -1;
+            }
+        }
+        moveValues(capacity, newSlots);
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
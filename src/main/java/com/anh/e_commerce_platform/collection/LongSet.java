@@ -0,0 +1,25 @@
+package com.anh.e_commerce_platform.collection;
+
+// Ensemble de clés long sans boxing (LongHashTable sans valeurs)
+public final class LongSet extends LongHashTable {
+
+    public LongSet(int expectedSize) {
+        super(expectedSize);
+    }
+
+    // true si la clé n'y était pas
+    public boolean add(long key) {
+        int before = size();
+        insert(key);
+        return size() > before;
+    }
+
+    public boolean contains(long key) {
+        return find(key) >= 0;
+    }
+
+    @Override
+    protected void moveValues(int capacity, int[] newSlots) {
+        // Aucune valeur
+    }
+}
@@ -0,0 +1,46 @@
+package com.anh.e_commerce_platform.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.anh.e_commerce_platform.cluster.InvalidationBus;
+import com.anh.e_commerce_platform.cluster.LoopbackInvalidationBus;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+import java.net.URI;
+import java.util.UUID;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+
+// Mode multi-nœuds (app.cluster.enabled=true) : bus d'invalidation entre nœuds
+// et cache de second niveau propre à chaque nœud.
+@Configuration
+@ConditionalOnProperty(name = "app.cluster.enabled", havingValue = "true")
+public class ClusterConfig {
+
+    @Value("${app.cluster.channel:local}")
+    private String channel;
+
+    @Bean
+    public InvalidationBus invalidationBus() {
+        return LoopbackInvalidationBus.channel(channel);
+    }
+
+    // Le CacheManager JCache par défaut est unique par JVM : des nœuds lancés ensemble (MultiNodeLauncher)
+    // partageraient leurs entités en cache. Une URI propre au nœud lui en donne un (régions de application.conf).
+    @Bean
+    public CacheManager secondLevelCacheManager() {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        return provider.getCacheManager(URI.create("urn:e-commerce-platform:node:" + UUID.randomUUID()),
+                provider.getDefaultClassLoader());
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer nodeLocalSecondLevelCache(CacheManager secondLevelCacheManager) {
+        return properties -> properties.put("hibernate.javax.cache.cache_manager", secondLevelCacheManager);
+    }
+}
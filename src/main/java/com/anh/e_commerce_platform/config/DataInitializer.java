@@ -7,6 +7,9 @@ import com.anh.e_commerce_platform.entity.Category;
 import com.anh.e_commerce_platform.repository.ProductRepository;
 import com.anh.e_commerce_platform.service.UserService;
 import com.anh.e_commerce_platform.repository.CategoryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
 
@@ -15,19 +18,29 @@ import java.math.BigDecimal;
 @Component
 public class DataInitializer implements CommandLineRunner {
 
+    private static final Logger logger = LoggerFactory.getLogger(DataInitializer.class);
+
     private final ProductRepository productRepository;
     private final CategoryRepository categoryRepository;
     private final UserService userService;
 
+    // Désactivé en production (app.seed-data.enabled) : ni requête au démarrage ni comptes de test
+    private final boolean enabled;
+
     public DataInitializer(ProductRepository productRepository, CategoryRepository categoryRepository,
-            UserService userService) {
+            UserService userService, @Value("${app.seed-data.enabled:true}") boolean enabled) {
         this.productRepository = productRepository;
         this.categoryRepository = categoryRepository;
         this.userService = userService;
+        this.enabled = enabled;
     }
 
     @Override
     public void run(String... args) throws Exception {
+        if (!enabled) {
+            return;
+        }
+
         // Vérifier si des données existent déjà
         if (categoryRepository.count() > 0) {
             return; // Éviter les doublons
@@ -82,7 +95,7 @@ public class DataInitializer implements CommandLineRunner {
         javaBook.setCategory(books);
         productRepository.save(javaBook);
 
-        System.out.println("✅ Données de test créées : " + productRepository.count() + " produits");
+        logger.info("Données de test créées : {} produits", productRepository.count());
 
         // Créer un utilisateur admin par défaut
         if (!userService.emailExists("admin@ecommerce.com"))
@@ -98,7 +111,7 @@ public class DataInitializer implements CommandLineRunner {
             admin.setAddress("Système");
 
             userService.createUser(admin);
-            System.out.println("✅ Utilisateur admin créé : admin@ecommerce.com / admin123");
+            logger.info("Utilisateur admin créé : admin@ecommerce.com / admin123");
         }
 
         // Créer un utilisateur test par défaut
@@ -113,7 +126,7 @@ public class DataInitializer implements CommandLineRunner {
             user.setAddress("123 rue Test");
 
             userService.createUser(user);
-            System.out.println("✅ Utilisateur test créé : john@test.com / password123");
+            logger.info("Utilisateur test créé : john@test.com / password123");
         }
 
     }
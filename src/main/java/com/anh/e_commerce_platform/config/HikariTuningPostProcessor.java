@@ -0,0 +1,65 @@
+package com.anh.e_commerce_platform.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+// Profil high-throughput : dimensionne les pools Hikari d'après le nombre de cœurs
+// (cœurs × multiplicateur + 1, pool de taille fixe) et, sur PostgreSQL, règle le cache
+// des requêtes préparées côté driver et la réécriture des insertions en lot.
+// Les pools déclarés comme beans sont réglés ici ; les réplicas, créés par ReplicaDataSourceConfig, appellent
+// tune() avant leur première connexion.
+@Component
+@ConditionalOnProperty(name = "app.datasource.tuning.enabled", havingValue = "true")
+public class HikariTuningPostProcessor implements BeanPostProcessor {
+
+    private static final Logger logger = LoggerFactory.getLogger(HikariTuningPostProcessor.class);
+
+    // 0 = calculé à partir du nombre de cœurs
+    @Value("${app.datasource.tuning.max-pool-size:0}")
+    private int maxPoolSize;
+
+    @Value("${app.datasource.tuning.connections-per-core:2}")
+    private int connectionsPerCore;
+
+    @Value("${app.datasource.tuning.pg.prepare-threshold:3}")
+    private int prepareThreshold;
+
+    @Value("${app.datasource.tuning.pg.statement-cache-queries:512}")
+    private int statementCacheQueries;
+
+    @Value("${app.datasource.tuning.pg.statement-cache-size-mib:10}")
+    private int statementCacheSizeMiB;
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource dataSource) {
+            tune(dataSource, beanName);
+        }
+        return bean;
+    }
+
+    // À appeler avant la première connexion : la configuration d'un pool démarré est figée
+    public void tune(HikariDataSource dataSource, String poolName) {
+        int poolSize = maxPoolSize > 0 ? maxPoolSize
+                : Runtime.getRuntime().availableProcessors() * connectionsPerCore + 1;
+        dataSource.setMaximumPoolSize(poolSize);
+        dataSource.setMinimumIdle(poolSize);
+
+        String url = dataSource.getJdbcUrl();
+        if (url != null && url.startsWith("jdbc:postgresql:")) {
+            dataSource.addDataSourceProperty("prepareThreshold", prepareThreshold);
+            dataSource.addDataSourceProperty("preparedStatementCacheQueries", statementCacheQueries);
+            dataSource.addDataSourceProperty("preparedStatementCacheSizeMiB", statementCacheSizeMiB);
+            dataSource.addDataSourceProperty("reWriteBatchedInserts", true);
+        }
+
+        logger.info("Pool {} : {} connexions, détection de fuite à {} ms", poolName, poolSize,
+                dataSource.getLeakDetectionThreshold());
+    }
+}
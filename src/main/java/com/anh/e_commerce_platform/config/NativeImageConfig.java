@@ -0,0 +1,127 @@
+package com.anh.e_commerce_platform.config;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.util.ClassUtils;
+
+import com.anh.e_commerce_platform.reporting.ReportRow;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.List;
+
+// Image native GraalVM (mvn -Pnative package) : ce que l'analyse statique ne voit pas seule, déclaré
+// pendant le traitement AOT (target/spring-aot/main/resources/META-INF/native-image).
+// Hibernate s'y passe de proxys générés à l'exécution : aucune association *ToOne paresseuse, aucun getReference.
+@Configuration(proxyBeanMethods = false)
+@ImportRuntimeHints(NativeImageConfig.Hints.class)
+public class NativeImageConfig {
+
+    static class Hints implements RuntimeHintsRegistrar {
+
+        // Implémentations chargées par leur nom depuis jjwt-api (Classes.newInstance / invokeStatic)
+        private static final List<String> JJWT_IMPLEMENTATIONS = List.of(
+                "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+                "io.jsonwebtoken.impl.DefaultJwtBuilder",
+                "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+                "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+                "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+                "io.jsonwebtoken.impl.security.DefaultDynamicJwkBuilder",
+                "io.jsonwebtoken.impl.security.DefaultJwkParserBuilder",
+                "io.jsonwebtoken.impl.security.DefaultJwkSetBuilder",
+                "io.jsonwebtoken.impl.security.DefaultJwkSetParserBuilder",
+                "io.jsonwebtoken.impl.security.DefaultKeyOperationBuilder",
+                "io.jsonwebtoken.impl.security.DefaultKeyOperationPolicyBuilder",
+                "io.jsonwebtoken.impl.security.JwksBridge",
+                "io.jsonwebtoken.impl.security.KeysBridge",
+                "io.jsonwebtoken.impl.security.StandardCurves",
+                "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+                "io.jsonwebtoken.impl.security.StandardHashAlgorithms",
+                "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+                "io.jsonwebtoken.impl.security.StandardKeyOperations",
+                "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+                // Fournisseurs découverts par ServiceLoader (sérialisation JSON, compression)
+                "io.jsonwebtoken.jackson.io.JacksonSerializer",
+                "io.jsonwebtoken.jackson.io.JacksonDeserializer",
+                "io.jsonwebtoken.impl.compression.DeflateCompressionAlgorithm",
+                "io.jsonwebtoken.impl.compression.GzipCompressionAlgorithm");
+
+        // Types du JDK dont jjwt-impl teste la présence (Classes.isAvailable)
+        private static final List<String> JJWT_PROBED_TYPES = List.of(
+                "java.security.interfaces.EdECKey",
+                "java.security.interfaces.XECKey",
+                "java.security.spec.NamedParameterSpec");
+
+        // Corps JSON des contrôleurs : la plupart renvoient ResponseEntity<?>, type que l'AOT ne peut suivre
+        private static final List<String> MODEL_PACKAGES = List.of(
+                "com.anh.e_commerce_platform.entity",
+                "com.anh.e_commerce_platform.dto");
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            for (String type : JJWT_IMPLEMENTATIONS) {
+                hints.reflection().registerTypeIfPresent(classLoader, type,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS);
+            }
+            for (String type : JJWT_PROBED_TYPES) {
+                hints.reflection().registerTypeIfPresent(classLoader, type);
+            }
+            hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+
+            BindingReflectionHintsRegistrar bindings = new BindingReflectionHintsRegistrar();
+            for (Class<?> type : modelTypes(classLoader)) {
+                bindings.registerReflectionHints(hints.reflection(), type);
+            }
+            bindings.registerReflectionHints(hints.reflection(), ReportRow.class);
+
+            // Cache de second niveau : fournisseur JCache nommé dans application.properties, régions
+            // dans application.conf (HOCON, valeurs par défaut dans le reference.conf de caffeine-jcache)
+            hints.reflection().registerTypeIfPresent(classLoader,
+                    "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider",
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+            hints.reflection().registerTypeIfPresent(classLoader,
+                    "com.github.benmanes.caffeine.jcache.copy.JavaSerializationCopier",
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+            hints.resources().registerPattern("application.conf");
+            hints.resources().registerPattern("reference.conf");
+
+            // Caches Caffeine (JCache et cache des utilisateurs) : classes spécialisées générées (SSMSW, PSWMS...),
+            // choisies selon la configuration puis instanciées par MethodHandle, champs accédés par VarHandle
+            for (String type : caffeineGeneratedTypes(classLoader)) {
+                hints.reflection().registerTypeIfPresent(classLoader, type,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.ACCESS_DECLARED_FIELDS);
+            }
+        }
+
+        private static List<Class<?>> modelTypes(ClassLoader classLoader) {
+            ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+            scanner.addIncludeFilter((metadataReader, metadataReaderFactory) -> true);
+            return MODEL_PACKAGES.stream()
+                    .flatMap(basePackage -> scanner.findCandidateComponents(basePackage).stream())
+                    .<Class<?>>map(definition -> ClassUtils.resolveClassName(definition.getBeanClassName(), classLoader))
+                    .toList();
+        }
+
+        private static List<String> caffeineGeneratedTypes(ClassLoader classLoader) {
+            try {
+                Resource[] classes = new PathMatchingResourcePatternResolver(classLoader)
+                        .getResources("classpath*:com/github/benmanes/caffeine/cache/*.class");
+                return Arrays.stream(classes)
+                        .map(Resource::getFilename)
+                        .filter(name -> name != null && name.matches("[A-Z]+\\.class"))
+                        .map(name -> "com.github.benmanes.caffeine.cache." + name.substring(0, name.length() - 6))
+                        .toList();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.anh.e_commerce_platform.config;
+
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.anh.e_commerce_platform.datasource.ReadYourWritesTracker;
+import com.anh.e_commerce_platform.datasource.ReplicaPool;
+import com.anh.e_commerce_platform.datasource.ReplicaRoutingDataSource;
+import com.anh.e_commerce_platform.datasource.WriteStatementInspector;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+
+// Routage primaire / réplicas (app.datasource.replicas.enabled=true) :
+// écritures sur spring.datasource.*, transactions en lecture seule sur les réplicas.
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replicas.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Value("${app.datasource.replicas.urls}")
+    private List<String> replicaUrls;
+
+    @Value("${app.datasource.replicas.username:${spring.datasource.username:}}")
+    private String replicaUsername;
+
+    @Value("${app.datasource.replicas.password:${spring.datasource.password:}}")
+    private String replicaPassword;
+
+    @Value("${app.datasource.replicas.pool-size:10}")
+    private int replicaPoolSize;
+
+    @Value("${app.datasource.replicas.connection-timeout-ms:2000}")
+    private long replicaConnectionTimeoutMs;
+
+    @Value("${app.datasource.replicas.sticky-window-ms:5000}")
+    private long stickyWindowMs;
+
+    // Pool du primaire, configurable comme d'habitude via spring.datasource.hikari.*
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker() {
+        return new ReadYourWritesTracker(stickyWindowMs);
+    }
+
+    @Bean
+    public ReplicaPool replicaPool(DataSourceProperties properties, HikariDataSource primaryDataSource,
+            ReadYourWritesTracker readYourWritesTracker, MeterRegistry meterRegistry,
+            ObjectProvider<HikariTuningPostProcessor> tuning) {
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + (i + 1));
+            replica.setJdbcUrl(replicaUrls.get(i).trim());
+            replica.setDriverClassName(properties.determineDriverClassName());
+            replica.setUsername(replicaUsername);
+            replica.setPassword(replicaPassword);
+            replica.setMaximumPoolSize(replicaPoolSize);
+            replica.setReadOnly(true);
+            replica.setConnectionTimeout(replicaConnectionTimeoutMs);
+            // Durée de vie et détection de fuite comme le primaire (spring.datasource.hikari.*)
+            replica.setMaxLifetime(primaryDataSource.getMaxLifetime());
+            replica.setLeakDetectionThreshold(primaryDataSource.getLeakDetectionThreshold());
+            // Un réplica indisponible au démarrage ne doit pas empêcher l'application de démarrer
+            replica.setInitializationFailTimeout(-1);
+            replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            // Pas un bean : réglage du profil high-throughput appliqué ici, avant le contrôle de santé de ReplicaPool
+            tuning.ifAvailable(postProcessor -> postProcessor.tune(replica, replica.getPoolName()));
+            replicas.add(replica);
+        }
+        return new ReplicaPool(replicas, readYourWritesTracker, 1);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaPool replicaPool,
+            ReadYourWritesTracker readYourWritesTracker, MeterRegistry meterRegistry) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primaryDataSource, replicaPool,
+                readYourWritesTracker, meterRegistry);
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    // La session Hibernate (open-in-view) rend sa connexion à la fin de chaque transaction :
+    // sinon une lecture suivie d'une écriture dans la même requête réutiliserait le réplica.
+    // Les requêtes d'écriture préparées par Hibernate collent leur auteur au primaire.
+    @Bean
+    public HibernatePropertiesCustomizer replicaConnectionHandling(ReadYourWritesTracker readYourWritesTracker) {
+        return properties -> {
+            properties.put("hibernate.connection.handling_mode",
+                    PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+            properties.put("hibernate.session_factory.statement_inspector",
+                    new WriteStatementInspector(readYourWritesTracker));
+        };
+    }
+}
@@ -0,0 +1,32 @@
+package com.anh.e_commerce_platform.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.anh.e_commerce_platform.dto.CacheRegionStatistics;
+import com.anh.e_commerce_platform.service.CacheStatisticsService;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/cache")
+@CrossOrigin(origins = "http://localhost:4200")
+public class CacheController {
+
+    @Autowired
+    private CacheStatisticsService cacheStatisticsService;
+
+    // GET /api/admin/cache/stats - Succès / échecs / insertions par région du cache de second niveau
+    @GetMapping("/stats")
+    public ResponseEntity<List<CacheRegionStatistics>> getStatistics() {
+        return ResponseEntity.ok(cacheStatisticsService.regionStatistics());
+    }
+
+    // POST /api/admin/cache/evict - Vider le cache de second niveau
+    @PostMapping("/evict")
+    public ResponseEntity<Void> evictAll() {
+        cacheStatisticsService.evictAll();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,11 +1,18 @@
 package com.anh.e_commerce_platform.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import com.anh.e_commerce_platform.catalog.BinaryFormats;
+import com.anh.e_commerce_platform.dto.CategoryFacetResponse;
 import com.anh.e_commerce_platform.entity.Category;
+import com.anh.e_commerce_platform.service.CatalogSnapshotService;
 import com.anh.e_commerce_platform.service.CategoryService;
+import com.anh.e_commerce_platform.service.FacetService;
 
 import jakarta.validation.Valid;
 import java.util.List;
@@ -19,11 +26,35 @@ public class CategoryController {
     @Autowired
     private CategoryService categoryService;
 
+    @Autowired
+    private CatalogSnapshotService catalogSnapshotService;
+
+    @Autowired
+    private FacetService facetService;
+
     // GET /api/categories - Récupérer toutes les catégories
+    // Servi depuis l'instantané précompressé du catalogue (ETag, gzip si accepté) ;
+    // CBOR ou Smile si le client les préfère explicitement au JSON
     @GetMapping
-    public ResponseEntity<List<Category>> getAllCategories() {
-        List<Category> categories = categoryService.getAllCategories();
-        return ResponseEntity.ok(categories);
+    public ResponseEntity<?> getAllCategories(WebRequest request) {
+        MediaType binary = BinaryFormats.preferred(request.getHeader(HttpHeaders.ACCEPT));
+        if (binary != null) {
+            return ResponseEntity.ok().contentType(binary).varyBy(HttpHeaders.ACCEPT).body(categoryService.getAllCategories());
+        }
+        return catalogSnapshotService.current().getCategories().toResponse(request);
+    }
+
+    // GET /api/categories/facets?price=25-50&price=50-100&inStock=true - Catégories avec leurs compteurs
+    // (produits, en stock, par tranche de prix), calculés en mémoire sans lire les produits
+    @GetMapping("/facets")
+    public ResponseEntity<?> getFacets(@RequestParam(required = false) List<String> price,
+            @RequestParam(required = false) Boolean inStock) {
+        try {
+            List<CategoryFacetResponse> facets = facetService.facets(price, inStock);
+            return ResponseEntity.ok(facets);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
 
     // GET /api/categories/{id} - Récupérer une catégorie par ID
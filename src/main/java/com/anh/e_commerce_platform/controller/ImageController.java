@@ -0,0 +1,58 @@
+package com.anh.e_commerce_platform.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.*;
+
+import com.anh.e_commerce_platform.media.FileResponses;
+import com.anh.e_commerce_platform.media.ImageStore;
+import com.anh.e_commerce_platform.media.ImageVariant;
+import com.anh.e_commerce_platform.service.ProductImageService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/images")
+@CrossOrigin(origins = "http://localhost:4200")
+public class ImageController {
+
+    // Une URL désigne un contenu qui ne change jamais : cache d'un an sans revalidation
+    private static final String IMMUTABLE = "public, max-age=31536000, immutable";
+    // Original servi à la place d'une taille pas encore produite : le client redemandera bientôt
+    private static final String PENDING = "public, max-age=60";
+
+    @Autowired
+    private ProductImageService productImageService;
+
+    // GET /api/images/{hash}/{taille} - Image d'un produit (original, large, medium, thumbnail)
+    // Envoyée sans copie dans le tas ; ETag fort, requêtes partielles (Range) et HEAD pris en charge
+    @GetMapping("/{hash}/{variant}")
+    public void getImage(@PathVariable String hash, @PathVariable String variant, HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        ImageVariant requested;
+        try {
+            requested = ImageVariant.fromKey(variant);
+        } catch (IllegalArgumentException e) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        Optional<Path> file = productImageService.findImage(hash, requested);
+        String cacheControl = IMMUTABLE;
+        ImageVariant served = requested;
+        if (file.isEmpty() && requested != ImageVariant.ORIGINAL) {
+            file = productImageService.findImage(hash, ImageVariant.ORIGINAL);
+            cacheControl = PENDING;
+            served = ImageVariant.ORIGINAL;
+        }
+        if (file.isEmpty()) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        FileResponses.send(file.get(), ImageStore.mediaTypeOf(file.get()), "\"" + hash + "-" + served.getKey() + "\"",
+                cacheControl, request, response);
+    }
+}
@@ -0,0 +1,25 @@
+package com.anh.e_commerce_platform.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.anh.e_commerce_platform.service.OrderArchiveService;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/orders")
+@CrossOrigin(origins = "http://localhost:4200")
+public class OrderArchiveController {
+
+    @Autowired
+    private OrderArchiveService orderArchiveService;
+
+    // POST /api/admin/orders/archive - Archiver maintenant les commandes terminées anciennes
+    @PostMapping("/archive")
+    public ResponseEntity<Map<String, Integer>> archive() {
+        int archived = orderArchiveService.archiveCompletedOrders();
+        return ResponseEntity.ok(Map.of("archived", archived));
+    }
+}
@@ -1,20 +1,35 @@
 package com.anh.e_commerce_platform.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.anh.e_commerce_platform.dto.BulkOrderStatusUpdateRequest;
+import com.anh.e_commerce_platform.dto.BulkOrderStatusUpdateResponse;
+import com.anh.e_commerce_platform.dto.CartQuoteResponse;
 import com.anh.e_commerce_platform.dto.CreateOrderRequest;
 import com.anh.e_commerce_platform.dto.OrderResponse;
 import com.anh.e_commerce_platform.dto.OrderStatusUpdateRequest;
 import com.anh.e_commerce_platform.entity.Order;
 import com.anh.e_commerce_platform.entity.User;
+import com.anh.e_commerce_platform.projection.ProjectionFilters;
+import com.anh.e_commerce_platform.projection.ProjectionSchemas;
+import com.anh.e_commerce_platform.service.JsonStreamingService;
+import com.anh.e_commerce_platform.service.LiveEventService;
 import com.anh.e_commerce_platform.service.OrderService;
+import com.anh.e_commerce_platform.service.PricingService;
+import com.anh.e_commerce_platform.service.ProjectionService;
 import com.anh.e_commerce_platform.service.UserService;
 
 import jakarta.validation.Valid;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,17 +44,68 @@ public class OrderController {
     @Autowired
     private UserService userService;
 
-    // GET /api/orders - Récupérer toutes les commandes
+    @Autowired
+    private PricingService pricingService;
+
+    @Autowired
+    private JsonStreamingService jsonStreamingService;
+
+    @Autowired
+    private ProjectionService projectionService;
+
+    @Autowired
+    private LiveEventService liveEventService;
+
+    // GET /api/orders?includeArchived=true - Récupérer toutes les commandes (archive comprise sur demande)
+    // Réponse écrite en flux depuis un curseur : mémoire et premier octet indépendants du nombre de commandes ;
+    // seulement les colonnes demandées avec fields=id,status,totalAmount
     @GetMapping
-    public ResponseEntity<List<Order>> getAllOrders() {
-        List<Order> orders = orderService.getAllOrders();
-        return ResponseEntity.ok(orders);
+    public ResponseEntity<StreamingResponseBody> getAllOrders(@RequestParam(defaultValue = "false") boolean includeArchived,
+            @RequestParam(required = false) String fields) {
+        if (fields != null) {
+            try {
+                checkProjection(fields, includeArchived);
+            } catch (IllegalArgumentException e) {
+                // Le corps doit rester un StreamingResponseBody : message écrit directement
+                return ResponseEntity.badRequest()
+                        .contentType(MediaType.TEXT_PLAIN)
+                        .body(outputStream -> outputStream.write(e.getMessage().getBytes(StandardCharsets.UTF_8)));
+            }
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(jsonStreamingService.jsonArray(() -> projectionService.stream(ProjectionSchemas.ORDER, fields, null)));
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(jsonStreamingService.jsonArray(() -> orderService.streamAllOrders(includeArchived)));
     }
 
-    // GET /api/orders/{id} - Récupérer une commande par ID
+    // GET /api/orders/events - Flux Server-Sent Events des changements de statut (événements "order-status")
+    // Commandes de l'utilisateur connecté, toutes les commandes pour un admin ; remplace l'interrogation de /{id}
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamOrderEvents() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        Optional<User> userOpt = userService.getUserByEmail(authentication.getName());
+        if (userOpt.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok(liveEventService.subscribeOrders(userOpt.get()));
+    }
+
+    // GET /api/orders/{id}?fields=... - Récupérer une commande par ID
     @GetMapping("/{id}")
-    public ResponseEntity<Order> getOrderById(@PathVariable Long id) {
-        Optional<Order> order = orderService.getOrderById(id);
+    public ResponseEntity<?> getOrderById(@PathVariable Long id,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            @RequestParam(required = false) String fields) {
+        if (fields != null) {
+            try {
+                checkProjection(fields, includeArchived);
+                return ResponseEntity.of(projectionService.findOne(ProjectionSchemas.ORDER, fields, ProjectionFilters.byId(id)));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().body(e.getMessage());
+            }
+        }
+        Optional<Order> order = orderService.getOrderById(id, includeArchived);
 
         if (order.isPresent()) {
             return ResponseEntity.ok(order.get());
@@ -48,13 +114,23 @@ public class OrderController {
         }
     }
 
-    // GET /api/orders/user/{userId} - Commandes d'un utilisateur
+    // GET /api/orders/user/{userId}?fields=... - Commandes d'un utilisateur
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<Order>> getOrdersByUser(@PathVariable Long userId) {
+    public ResponseEntity<?> getOrdersByUser(@PathVariable Long userId,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            @RequestParam(required = false) String fields) {
         Optional<User> user = userService.getUserById(userId);
 
-        if (user.isPresent()) {
-            List<Order> orders = orderService.getOrdersByUser(user.get());
+        if (user.isPresent() && fields != null) {
+            try {
+                checkProjection(fields, includeArchived);
+                return ResponseEntity.ok(projectionService.list(ProjectionSchemas.ORDER, fields,
+                        ProjectionFilters.ordersOfUser(userId)));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().body(e.getMessage());
+            }
+        } else if (user.isPresent()) {
+            List<Order> orders = orderService.getOrdersByUser(user.get(), includeArchived);
             return ResponseEntity.ok(orders);
         } else {
             return ResponseEntity.notFound().build();
@@ -78,18 +154,48 @@ public class OrderController {
             return ResponseEntity.ok(response);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (ConcurrencyFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("Commande en conflit avec une autre, veuillez réessayer");
+        }
+    }
+
+    // POST /api/orders/quote - Calculer le total d'un panier avec les promotions
+    @PostMapping("/quote")
+    public ResponseEntity<?> quoteOrder(@Valid @RequestBody CreateOrderRequest request) {
+        try {
+            CartQuoteResponse quote = pricingService.quote(request);
+            return ResponseEntity.ok(quote);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
         }
     }
 
     // PUT /api/orders/{id}/status - Changer le statut d'une commande
     @PutMapping("/{id}/status")
-    public ResponseEntity<Order> updateOrderStatus(@PathVariable Long id,
+    public ResponseEntity<?> updateOrderStatus(@PathVariable Long id,
             @RequestBody OrderStatusUpdateRequest request) {
         try {
             Order updatedOrder = orderService.updateOrderStatus(id, request.getStatus());
             return ResponseEntity.ok(updatedOrder);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.notFound().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        }
+    }
+
+    // PUT /api/orders/status - Changer le statut de plusieurs commandes (admin)
+    @PutMapping("/status")
+    public ResponseEntity<BulkOrderStatusUpdateResponse> bulkUpdateOrderStatus(
+            @Valid @RequestBody BulkOrderStatusUpdateRequest request) {
+        return ResponseEntity.ok(orderService.bulkUpdateOrderStatus(request.getOrderIds(), request.getStatus()));
+    }
+
+    // Champs valides, et pas de lecture partielle de l'archive (autre table, sans jointure vers l'utilisateur)
+    private static void checkProjection(String fields, boolean includeArchived) {
+        if (includeArchived) {
+            throw new IllegalArgumentException("fields ne peut pas être combiné avec includeArchived");
         }
+        ProjectionSchemas.ORDER.select(fields);
     }
 }
@@ -1,16 +1,38 @@
 package com.anh.e_commerce_platform.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.anh.e_commerce_platform.catalog.BinaryFormats;
+import com.anh.e_commerce_platform.dto.ProductRecommendation;
+import com.anh.e_commerce_platform.dto.TrendingProduct;
 import com.anh.e_commerce_platform.entity.Category;
 import com.anh.e_commerce_platform.entity.Product;
+import com.anh.e_commerce_platform.projection.ProjectionFilters;
+import com.anh.e_commerce_platform.projection.ProjectionSchemas;
+import com.anh.e_commerce_platform.service.CatalogSnapshotService;
 import com.anh.e_commerce_platform.service.CategoryService;
+import com.anh.e_commerce_platform.service.LiveEventService;
+import com.anh.e_commerce_platform.service.ProductImageService;
 import com.anh.e_commerce_platform.service.ProductService;
+import com.anh.e_commerce_platform.service.ProjectionService;
+import com.anh.e_commerce_platform.service.RecommendationService;
+import com.anh.e_commerce_platform.service.TrendingService;
 
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 
 @RestController
@@ -18,37 +40,88 @@ import java.util.Optional;
 @CrossOrigin(origins = "http://localhost:4200")
 public class ProductController {
 
+    private static final int MAX_TRENDING = 100;
+
     @Autowired
     private ProductService productService;
 
     @Autowired
     private CategoryService categoryService;
 
-    // GET /api/products - Récupérer tous les produits
+    @Autowired
+    private CatalogSnapshotService catalogSnapshotService;
+
+    @Autowired
+    private ProjectionService projectionService;
+
+    @Autowired
+    private ProductImageService productImageService;
+
+    @Autowired
+    private LiveEventService liveEventService;
+
+    @Autowired
+    private RecommendationService recommendationService;
+
+    @Autowired
+    private TrendingService trendingService;
+
+    // GET /api/products?fields=id,name,price - Récupérer tous les produits
+    // Servi depuis l'instantané précompressé du catalogue (ETag, gzip si accepté) ;
+    // CBOR ou Smile si le client les préfère explicitement au JSON ; seulement les champs demandés avec fields
     @GetMapping
-    public ResponseEntity<List<Product>> getAllProducts() {
-        List<Product> products = productService.getAllProducts();
-        return ResponseEntity.ok(products);
+    public ResponseEntity<?> getAllProducts(@RequestParam(required = false) String fields, WebRequest request) {
+        if (fields != null) {
+            try {
+                return ResponseEntity.ok(projectionService.list(ProjectionSchemas.PRODUCT, fields, null));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().body(e.getMessage());
+            }
+        }
+        MediaType binary = BinaryFormats.preferred(request.getHeader(HttpHeaders.ACCEPT));
+        if (binary != null) {
+            return ResponseEntity.ok().contentType(binary).varyBy(HttpHeaders.ACCEPT).body(productService.getAllProducts());
+        }
+        return catalogSnapshotService.current().getProducts().toResponse(request);
     }
 
-    // GET /api/products/{id} - Récupérer un produit par ID
+    // GET /api/products/{id}?fields=... - Récupérer un produit par ID
     @GetMapping("/{id}")
-    public ResponseEntity<Product> getProductById(@PathVariable Long id) {
+    public ResponseEntity<?> getProductById(@PathVariable Long id, @RequestParam(required = false) String fields) {
+        if (fields != null) {
+            try {
+                Optional<Map<String, Object>> projected = projectionService.findOne(ProjectionSchemas.PRODUCT, fields,
+                        ProjectionFilters.byId(id));
+                projected.ifPresent(found -> trendingService.recordView(id));
+                return ResponseEntity.of(projected);
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().body(e.getMessage());
+            }
+        }
         Optional<Product> product = productService.getProductById(id);
 
         if (product.isPresent()) {
+            trendingService.recordView(id);
             return ResponseEntity.ok(product.get());
         } else {
             return ResponseEntity.notFound().build();
         }
     }
 
-    // GET /api/products/category/{categoryId} - Produits par catégorie
+    // GET /api/products/category/{categoryId}?fields=... - Produits par catégorie
     @GetMapping("/category/{categoryId}")
-    public ResponseEntity<List<Product>> getProductsByCategory(@PathVariable Long categoryId) {
+    public ResponseEntity<?> getProductsByCategory(@PathVariable Long categoryId,
+            @RequestParam(required = false) String fields) {
         Optional<Category> category = categoryService.getCategoryById(categoryId);
 
-        if (category.isPresent()) {
+        if (category.isPresent() && fields != null) {
+            try {
+                return ResponseEntity.ok(projectionService.list(ProjectionSchemas.PRODUCT, fields,
+                        ProjectionFilters.productsInCategory(categoryId)));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().body(e.getMessage());
+            }
+        } else if (category.isPresent()) {
             List<Product> products = productService.getProductsByCategory(category.get());
             return ResponseEntity.ok(products);
         } else {
@@ -56,29 +129,89 @@ public class ProductController {
         }
     }
 
-    // GET /api/products/search?name=... - Recherche par nom
+    // GET /api/products/search?name=...&fields=... - Recherche par nom
     @GetMapping("/search")
-    public ResponseEntity<List<Product>> searchProducts(@RequestParam String name) {
+    public ResponseEntity<?> searchProducts(@RequestParam String name, @RequestParam(required = false) String fields) {
+        if (fields != null) {
+            try {
+                return ResponseEntity.ok(projectionService.list(ProjectionSchemas.PRODUCT, fields,
+                        ProjectionFilters.productNameContains(name)));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().body(e.getMessage());
+            }
+        }
         List<Product> products = productService.searchProductsByName(name);
         return ResponseEntity.ok(products);
     }
 
+    // GET /api/products/{id}/recommendations?limit=5 - Produits souvent achetés avec celui-ci
+    // Servis depuis les voisins précalculés en mémoire (liste vide si le produit n'a pas d'achats communs)
+    @GetMapping("/{id}/recommendations")
+    public ResponseEntity<List<ProductRecommendation>> getRecommendations(@PathVariable Long id,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(recommendationService.recommend(id, Math.max(0, limit)));
+    }
+
+    // GET /api/products/trending?limit=10&categoryId=2 - Produits les plus consultés et achetés sur la fenêtre récente
+    // Compteurs glissants en mémoire (aucune requête SQL), tous produits ou une catégorie
+    @GetMapping("/trending")
+    public ResponseEntity<List<TrendingProduct>> getTrending(@RequestParam(defaultValue = "10") int limit,
+            @RequestParam(required = false) Long categoryId) {
+        return ResponseEntity.ok(trendingService.top(Math.min(Math.max(0, limit), MAX_TRENDING), categoryId));
+    }
+
+    // GET /api/products/stock/events?ids=1,2 - Flux Server-Sent Events du stock (événements "stock")
+    // Produits donnés, ou tout le catalogue sans ids ; poussé après chaque commande, annulation ou mise à jour
+    @GetMapping(value = "/stock/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamStockEvents(@RequestParam(required = false) List<Long> ids) {
+        return liveEventService.subscribeStock(ids);
+    }
+
     // POST /api/products - Créer un nouveau produit
     @PostMapping
-    public ResponseEntity<Product> createProduct(@Valid @RequestBody Product product) {
-        Product newProduct = productService.createProduct(product);
-        return ResponseEntity.ok(newProduct);
+    public ResponseEntity<?> createProduct(@Valid @RequestBody Product product) {
+        try {
+            Product newProduct = productService.createProduct(product);
+            return ResponseEntity.ok(newProduct);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
 
     // PUT /api/products/{id} - Mettre à jour un produit
+    // "version" (lue avec le produit) obligatoire : 409 si le produit a changé depuis, à relire avant de réessayer
     @PutMapping("/{id}")
-    public ResponseEntity<Product> updateProduct(@PathVariable Long id, @Valid @RequestBody Product product) {
+    public ResponseEntity<?> updateProduct(@PathVariable Long id, @Valid @RequestBody Product product) {
         try {
             Product updatedProduct = productService.updateProduct(id, product);
             return ResponseEntity.ok(updatedProduct);
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.notFound().build();
         } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (ConcurrencyFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body("Le produit " + id + " a été modifié entre-temps, rechargez-le avant de le modifier");
+        }
+    }
+
+    // POST /api/products/{id}/image - Téléverser l'image d'un produit (multipart, champ "file")
+    // Les tailles réduites sont produites en arrière-plan, servies ensuite par /api/images/{hash}/{taille}
+    @PostMapping("/{id}/image")
+    public ResponseEntity<?> uploadImage(@PathVariable Long id, @RequestParam("file") MultipartFile file) {
+        if (productService.getProductById(id).isEmpty()) {
             return ResponseEntity.notFound().build();
         }
+        try (InputStream content = file.getInputStream()) {
+            String hash = productImageService.uploadImage(id, content);
+            return ResponseEntity.ok(Map.of("imageHash", hash));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (ConcurrencyFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        } catch (IOException e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Enregistrement de l'image impossible");
+        }
     }
 
     // DELETE /api/products/{id} - Supprimer un produit
@@ -0,0 +1,69 @@
+package com.anh.e_commerce_platform.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.anh.e_commerce_platform.entity.Promotion;
+import com.anh.e_commerce_platform.service.PromotionService;
+
+import jakarta.validation.Valid;
+import java.util.List;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/admin/promotions")
+@CrossOrigin(origins = "http://localhost:4200")
+public class PromotionController {
+
+    @Autowired
+    private PromotionService promotionService;
+
+    // GET /api/admin/promotions - Récupérer toutes les promotions
+    @GetMapping
+    public ResponseEntity<List<Promotion>> getAllPromotions() {
+        return ResponseEntity.ok(promotionService.getAllPromotions());
+    }
+
+    // GET /api/admin/promotions/{id} - Récupérer une promotion par ID
+    @GetMapping("/{id}")
+    public ResponseEntity<Promotion> getPromotionById(@PathVariable Long id) {
+        Optional<Promotion> promotion = promotionService.getPromotionById(id);
+
+        if (promotion.isPresent()) {
+            return ResponseEntity.ok(promotion.get());
+        } else {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    // POST /api/admin/promotions - Créer une promotion
+    @PostMapping
+    public ResponseEntity<?> createPromotion(@Valid @RequestBody Promotion promotion) {
+        try {
+            return ResponseEntity.ok(promotionService.createPromotion(promotion));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // PUT /api/admin/promotions/{id} - Mettre à jour une promotion
+    @PutMapping("/{id}")
+    public ResponseEntity<?> updatePromotion(@PathVariable Long id, @Valid @RequestBody Promotion promotion) {
+        if (promotionService.getPromotionById(id).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        try {
+            return ResponseEntity.ok(promotionService.updatePromotion(id, promotion));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // DELETE /api/admin/promotions/{id} - Supprimer une promotion
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deletePromotion(@PathVariable Long id) {
+        promotionService.deletePromotion(id);
+        return ResponseEntity.ok().build();
+    }
+}
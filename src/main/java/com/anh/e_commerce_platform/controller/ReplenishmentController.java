@@ -0,0 +1,32 @@
+package com.anh.e_commerce_platform.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.anh.e_commerce_platform.dto.StockAlert;
+import com.anh.e_commerce_platform.service.ReplenishmentService;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/replenishment")
+@CrossOrigin(origins = "http://localhost:4200")
+public class ReplenishmentController {
+
+    @Autowired
+    private ReplenishmentService replenishmentService;
+
+    // GET /api/admin/replenishment/alerts - Produits en alerte de stock, les plus urgents d'abord
+    @GetMapping("/alerts")
+    public ResponseEntity<List<StockAlert>> getAlerts() {
+        return ResponseEntity.ok(replenishmentService.getAlerts());
+    }
+
+    // POST /api/admin/replenishment/check - Recalculer les alertes sans attendre la prochaine vérification
+    @PostMapping("/check")
+    public ResponseEntity<List<StockAlert>> check() {
+        replenishmentService.check();
+        return ResponseEntity.ok(replenishmentService.getAlerts());
+    }
+}
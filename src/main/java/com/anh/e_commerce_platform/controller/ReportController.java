@@ -0,0 +1,52 @@
+package com.anh.e_commerce_platform.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.anh.e_commerce_platform.entity.OrderStatus;
+import com.anh.e_commerce_platform.reporting.OrderItemColumnStore;
+import com.anh.e_commerce_platform.reporting.OrderItemQuery;
+import com.anh.e_commerce_platform.reporting.ReportGroupBy;
+import com.anh.e_commerce_platform.reporting.ReportRow;
+import com.anh.e_commerce_platform.service.ColumnarReportService;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/reports")
+@CrossOrigin(origins = "http://localhost:4200")
+@ConditionalOnProperty(name = "reporting.columnar.enabled", havingValue = "true")
+public class ReportController {
+
+    @Autowired
+    private ColumnarReportService columnarReportService;
+
+    // GET /api/admin/reports/order-items?groupBy=PRODUCT&status=DELIVERED&from=2026-01-01 - Rapport ad hoc
+    @GetMapping("/order-items")
+    public ResponseEntity<List<ReportRow>> getOrderItemReport(
+            @RequestParam(defaultValue = "NONE") ReportGroupBy groupBy,
+            @RequestParam(required = false) List<OrderStatus> status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) List<Long> productId) {
+        OrderItemQuery query = new OrderItemQuery()
+                .groupBy(groupBy)
+                .statuses(status)
+                .from(from)
+                .to(to)
+                .productIds(productId);
+        return ResponseEntity.ok(columnarReportService.query(query));
+    }
+
+    // POST /api/admin/reports/refresh - Reconstruire l'instantané en mémoire
+    @PostMapping("/refresh")
+    public ResponseEntity<Map<String, Object>> refresh() {
+        OrderItemColumnStore store = columnarReportService.refresh();
+        return ResponseEntity.ok(Map.of("rows", store.size(), "builtAt", store.builtAtMillis()));
+    }
+}
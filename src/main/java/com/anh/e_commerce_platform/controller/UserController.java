@@ -1,10 +1,13 @@
 package com.anh.e_commerce_platform.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.anh.e_commerce_platform.entity.User;
+import com.anh.e_commerce_platform.service.JsonStreamingService;
 import com.anh.e_commerce_platform.service.UserService;
 
 import jakarta.validation.Valid;
@@ -19,11 +22,16 @@ public class UserController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private JsonStreamingService jsonStreamingService;
+
     // GET /api/users - Récupérer tous les utilisateurs
+    // Réponse écrite en flux depuis un curseur : mémoire et premier octet indépendants du nombre d'utilisateurs
     @GetMapping
-    public ResponseEntity<List<User>> getAllUsers() {
-        List<User> users = userService.getAllUsers();
-        return ResponseEntity.ok(users);
+    public ResponseEntity<StreamingResponseBody> getAllUsers() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(jsonStreamingService.jsonArray(userService::streamAllUsers));
     }
 
     // GET /api/users/{id} - Récupérer un utilisateur par ID
@@ -0,0 +1,36 @@
+package com.anh.e_commerce_platform.datasource;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Mémorise la date de la dernière écriture validée par utilisateur : pendant la fenêtre
+// de collage, ses lectures restent sur le primaire pour qu'il voie ses propres écritures
+// (ex. sa commande juste après le checkout) malgré le retard de réplication.
+public class ReadYourWritesTracker {
+
+    private final long stickyWindowNanos;
+    private final Map<String, Long> lastWriteNanos = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(long stickyWindowMs) {
+        this.stickyWindowNanos = stickyWindowMs * 1_000_000L;
+    }
+
+    public void markWrite(String principal) {
+        lastWriteNanos.put(principal, System.nanoTime());
+    }
+
+    public boolean isSticky(String principal) {
+        Long writtenAt = lastWriteNanos.get(principal);
+        return writtenAt != null && System.nanoTime() - writtenAt < stickyWindowNanos;
+    }
+
+    // Purge des entrées expirées (appelée périodiquement pour borner la mémoire)
+    public void purgeExpired() {
+        long now = System.nanoTime();
+        lastWriteNanos.values().removeIf(writtenAt -> now - writtenAt >= stickyWindowNanos);
+    }
+
+    public int size() {
+        return lastWriteNanos.size();
+    }
+}
@@ -0,0 +1,113 @@
+package com.anh.e_commerce_platform.datasource;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.boot.health.contributor.HealthIndicator;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import java.sql.Connection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Ensemble des réplicas en lecture : tourniquet sur les réplicas sains, vérification
+// périodique de leur santé et mise à l'écart immédiate d'un réplica qui refuse une connexion.
+public class ReplicaPool implements HealthIndicator, DisposableBean {
+
+    private final List<Replica> replicas;
+    private final ReadYourWritesTracker readYourWrites;
+    private final int validationTimeoutSeconds;
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    public ReplicaPool(List<HikariDataSource> dataSources, ReadYourWritesTracker readYourWrites,
+            int validationTimeoutSeconds) {
+        this.replicas = dataSources.stream().map(Replica::new).toList();
+        this.readYourWrites = readYourWrites;
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+        checkHealth();
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    // Prochain réplica sain, ou null s'il n'y en a aucun (repli sur le primaire)
+    public Replica next() {
+        int size = replicas.size();
+        if (size == 0) {
+            return null;
+        }
+        int start = Math.floorMod(cursor.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replicas.health-check-interval-ms:5000}")
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                replica.healthy = connection.isValid(validationTimeoutSeconds);
+            } catch (Exception e) {
+                replica.healthy = false;
+            }
+        }
+        readYourWrites.purgeExpired();
+    }
+
+    @Override
+    public Health health() {
+        Map<String, Object> details = new LinkedHashMap<>();
+        int healthy = 0;
+        for (Replica replica : replicas) {
+            details.put(replica.getName(), replica.healthy ? "UP" : "DOWN");
+            if (replica.healthy) {
+                healthy++;
+            }
+        }
+        details.put("stickyUsers", readYourWrites.size());
+        // Sans réplica sain, les lectures passent par le primaire : dégradé mais pas en panne
+        Health.Builder builder = healthy > 0 || replicas.isEmpty() ? Health.up() : Health.status("DEGRADED");
+        return builder.withDetails(details).build();
+    }
+
+    @Override
+    public void destroy() {
+        for (Replica replica : replicas) {
+            replica.dataSource.close();
+        }
+    }
+
+    public static class Replica {
+
+        private final HikariDataSource dataSource;
+        private volatile boolean healthy;
+
+        Replica(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        public String getName() {
+            return dataSource.getPoolName();
+        }
+
+        public HikariDataSource getDataSource() {
+            return dataSource;
+        }
+
+        public boolean isHealthy() {
+            return healthy;
+        }
+
+        void markDown() {
+            healthy = false;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.anh.e_commerce_platform.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+
+// Envoie les transactions @Transactional(readOnly = true) vers un réplica et tout le reste
+// vers le primaire. Doit être enveloppée dans un LazyConnectionDataSourceProxy : la connexion
+// n'est alors demandée qu'une fois la transaction (et son caractère lecture seule) connue.
+// Les utilisateurs qui viennent d'écrire sont collés au primaire (WriteStatementInspector).
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private final ReplicaPool replicaPool;
+    private final ReadYourWritesTracker readYourWrites;
+
+    private final Counter primaryRoutes;
+    private final Counter replicaRoutes;
+    private final Counter stickyRoutes;
+    private final Counter fallbackRoutes;
+
+    public ReplicaRoutingDataSource(DataSource primary, ReplicaPool replicaPool,
+            ReadYourWritesTracker readYourWrites, MeterRegistry meterRegistry) {
+        this.replicaPool = replicaPool;
+        this.readYourWrites = readYourWrites;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (ReplicaPool.Replica replica : replicaPool.getReplicas()) {
+            targets.put(replica.getName(), new FailoverDataSource(replica, primary, this));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+
+        this.primaryRoutes = routeCounter(meterRegistry, "primary");
+        this.replicaRoutes = routeCounter(meterRegistry, "replica");
+        this.stickyRoutes = routeCounter(meterRegistry, "sticky");
+        this.fallbackRoutes = routeCounter(meterRegistry, "fallback");
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            primaryRoutes.increment();
+            return PRIMARY;
+        }
+
+        // L'utilisateur vient d'écrire : ses lectures restent sur le primaire le temps de la réplication
+        String principal = currentPrincipal();
+        if (principal != null && readYourWrites.isSticky(principal)) {
+            stickyRoutes.increment();
+            return PRIMARY;
+        }
+
+        ReplicaPool.Replica replica = replicaPool.next();
+        if (replica == null) {
+            fallbackRoutes.increment();
+            return PRIMARY;
+        }
+        replicaRoutes.increment();
+        return replica.getName();
+    }
+
+    // Utilisateur authentifié de la requête, null pour un anonyme ou une tâche planifiée
+    static String currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    private static Counter routeCounter(MeterRegistry meterRegistry, String route) {
+        return Counter.builder("datasource.routing")
+                .description("Connexions attribuées par le routage primaire / réplicas")
+                .tag("route", route)
+                .register(meterRegistry);
+    }
+
+    // Réplica qui refuse une connexion : écarté jusqu'au prochain contrôle de santé, lecture servie par le primaire
+    private static class FailoverDataSource extends DelegatingDataSource {
+
+        private final ReplicaPool.Replica replica;
+        private final DataSource primary;
+        private final ReplicaRoutingDataSource router;
+
+        FailoverDataSource(ReplicaPool.Replica replica, DataSource primary, ReplicaRoutingDataSource router) {
+            super(replica.getDataSource());
+            this.replica = replica;
+            this.primary = primary;
+            this.router = router;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            try {
+                return super.getConnection();
+            } catch (SQLException e) {
+                replica.markDown();
+                router.fallbackRoutes.increment();
+                return primary.getConnection();
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.anh.e_commerce_platform.datasource;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Collage au primaire seulement après une transaction qui a réellement écrit : la première requête
+// INSERT / UPDATE / DELETE / MERGE préparée par Hibernate inscrit l'utilisateur, marqué une fois la
+// transaction validée. Une transaction sans readOnly qui ne fait que lire, ou qui échoue, ne colle pas.
+// Les écritures JDBC directes (JdbcTemplate, tâches planifiées sans utilisateur) ne sont pas vues.
+public class WriteStatementInspector implements StatementInspector {
+
+    private final ReadYourWritesTracker readYourWrites;
+
+    public WriteStatementInspector(ReadYourWritesTracker readYourWrites) {
+        this.readYourWrites = readYourWrites;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        if (isWrite(sql) && !TransactionSynchronizationManager.hasResource(this)
+                && TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isSynchronizationActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            String principal = ReplicaRoutingDataSource.currentPrincipal();
+            if (principal != null) {
+                // Ressource liée à la transaction : une seule inscription, quel que soit le nombre d'écritures
+                TransactionSynchronizationManager.bindResource(this, principal);
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        readYourWrites.markWrite(principal);
+                    }
+
+                    @Override
+                    public void afterCompletion(int status) {
+                        TransactionSynchronizationManager.unbindResourceIfPossible(WriteStatementInspector.this);
+                    }
+                });
+            }
+        }
+        return sql;
+    }
+
+    static boolean isWrite(String sql) {
+        int start = 0;
+        int length = sql.length();
+        while (true) {
+            while (start < length && Character.isWhitespace(sql.charAt(start))) {
+                start++;
+            }
+            // Commentaire en tête (hibernate.use_sql_comments)
+            if (!sql.startsWith("/*", start)) {
+                break;
+            }
+            int end = sql.indexOf("*/", start + 2);
+            if (end < 0) {
+                return false;
+            }
+            start = end + 2;
+        }
+        return startsWithKeyword(sql, start, "insert") || startsWithKeyword(sql, start, "update")
+                || startsWithKeyword(sql, start, "delete") || startsWithKeyword(sql, start, "merge");
+    }
+
+    private static boolean startsWithKeyword(String sql, int start, String keyword) {
+        int end = start + keyword.length();
+        return sql.regionMatches(true, start, keyword, 0, keyword.length())
+                && (end == sql.length() || !Character.isLetterOrDigit(sql.charAt(end)));
+    }
+}
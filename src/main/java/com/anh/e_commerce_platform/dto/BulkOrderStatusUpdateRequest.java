@@ -0,0 +1,35 @@
+package com.anh.e_commerce_platform.dto;
+
+import com.anh.e_commerce_platform.entity.OrderStatus;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+
+public class BulkOrderStatusUpdateRequest {
+
+    @NotEmpty(message = "La liste des commandes est obligatoire")
+    private List<Long> orderIds;
+
+    @NotNull(message = "Le statut est obligatoire")
+    private OrderStatus status;
+
+    public BulkOrderStatusUpdateRequest() {
+    }
+
+    public List<Long> getOrderIds() {
+        return orderIds;
+    }
+
+    public void setOrderIds(List<Long> orderIds) {
+        this.orderIds = orderIds;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(OrderStatus status) {
+        this.status = status;
+    }
+}
@@ -0,0 +1,92 @@
+package com.anh.e_commerce_platform.dto;
+
+import com.anh.e_commerce_platform.entity.OrderStatus;
+
+import java.util.List;
+
+public class BulkOrderStatusUpdateResponse {
+
+    public enum Outcome {
+        UPDATED,
+        UNCHANGED,
+        NOT_FOUND,
+        INVALID_TRANSITION
+    }
+
+    private OrderStatus status;
+    private int updatedCount;
+    private List<OrderResult> results;
+
+    public BulkOrderStatusUpdateResponse() {
+    }
+
+    public BulkOrderStatusUpdateResponse(OrderStatus status, int updatedCount, List<OrderResult> results) {
+        this.status = status;
+        this.updatedCount = updatedCount;
+        this.results = results;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(OrderStatus status) {
+        this.status = status;
+    }
+
+    public int getUpdatedCount() {
+        return updatedCount;
+    }
+
+    public void setUpdatedCount(int updatedCount) {
+        this.updatedCount = updatedCount;
+    }
+
+    public List<OrderResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<OrderResult> results) {
+        this.results = results;
+    }
+
+    // Résultat pour une commande
+    public static class OrderResult {
+        private Long orderId;
+        private OrderStatus previousStatus;
+        private Outcome outcome;
+
+        public OrderResult() {
+        }
+
+        public OrderResult(Long orderId, OrderStatus previousStatus, Outcome outcome) {
+            this.orderId = orderId;
+            this.previousStatus = previousStatus;
+            this.outcome = outcome;
+        }
+
+        public Long getOrderId() {
+            return orderId;
+        }
+
+        public void setOrderId(Long orderId) {
+            this.orderId = orderId;
+        }
+
+        public OrderStatus getPreviousStatus() {
+            return previousStatus;
+        }
+
+        public void setPreviousStatus(OrderStatus previousStatus) {
+            this.previousStatus = previousStatus;
+        }
+
+        public Outcome getOutcome() {
+            return outcome;
+        }
+
+        public void setOutcome(Outcome outcome) {
+            this.outcome = outcome;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.anh.e_commerce_platform.dto;
+
+import com.anh.e_commerce_platform.dto.OrderResponse.OrderItemResponse;
+import com.anh.e_commerce_platform.money.Money;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+// Devis d'un panier : lignes avec remises et totaux, sans créer de commande
+public class CartQuoteResponse {
+
+    private List<OrderItemResponse> items;
+    private long subtotalCents;
+    private long discountCents;
+    private String couponCode;
+
+    public CartQuoteResponse() {
+    }
+
+    public CartQuoteResponse(List<OrderItemResponse> items, long subtotalCents, long discountCents,
+            String couponCode) {
+        this.items = items;
+        this.subtotalCents = subtotalCents;
+        this.discountCents = discountCents;
+        this.couponCode = couponCode;
+    }
+
+    public List<OrderItemResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<OrderItemResponse> items) {
+        this.items = items;
+    }
+
+    public BigDecimal getSubtotal() {
+        return Money.toBigDecimal(subtotalCents);
+    }
+
+    public BigDecimal getDiscount() {
+        return Money.toBigDecimal(discountCents);
+    }
+
+    public BigDecimal getTotal() {
+        return Money.toBigDecimal(Money.subtract(subtotalCents, discountCents));
+    }
+
+    public String getCouponCode() {
+        return couponCode;
+    }
+
+    public void setCouponCode(String couponCode) {
+        this.couponCode = couponCode;
+    }
+}
@@ -0,0 +1,119 @@
+package com.anh.e_commerce_platform.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+// Facettes d'une catégorie : "Électronique (1 234)", produits en stock, répartition par tranche de prix
+public class CategoryFacetResponse {
+
+    private Long id;
+    private String name;
+    private long productCount; // produits correspondant à tous les filtres
+    private long inStockCount; // produits en stock dans les tranches de prix choisies
+    private List<PriceRangeCount> priceRanges; // filtre de stock seul : les autres tranches restent sélectionnables
+
+    // Constructeurs
+    public CategoryFacetResponse() {
+    }
+
+    public CategoryFacetResponse(Long id, String name, long productCount, long inStockCount,
+            List<PriceRangeCount> priceRanges) {
+        this.id = id;
+        this.name = name;
+        this.productCount = productCount;
+        this.inStockCount = inStockCount;
+        this.priceRanges = priceRanges;
+    }
+
+    // Getters et Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public long getProductCount() {
+        return productCount;
+    }
+
+    public void setProductCount(long productCount) {
+        this.productCount = productCount;
+    }
+
+    public long getInStockCount() {
+        return inStockCount;
+    }
+
+    public void setInStockCount(long inStockCount) {
+        this.inStockCount = inStockCount;
+    }
+
+    public List<PriceRangeCount> getPriceRanges() {
+        return priceRanges;
+    }
+
+    public void setPriceRanges(List<PriceRangeCount> priceRanges) {
+        this.priceRanges = priceRanges;
+    }
+
+    // Tranche de prix [min, max[ ; max absent pour la dernière
+    public static class PriceRangeCount {
+
+        private String key; // valeur du paramètre price, ex. "25-50"
+        private BigDecimal min;
+        private BigDecimal max;
+        private long count;
+
+        public PriceRangeCount() {
+        }
+
+        public PriceRangeCount(String key, BigDecimal min, BigDecimal max, long count) {
+            this.key = key;
+            this.min = min;
+            this.max = max;
+            this.count = count;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public void setKey(String key) {
+            this.key = key;
+        }
+
+        public BigDecimal getMin() {
+            return min;
+        }
+
+        public void setMin(BigDecimal min) {
+            this.min = min;
+        }
+
+        public BigDecimal getMax() {
+            return max;
+        }
+
+        public void setMax(BigDecimal max) {
+            this.max = max;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public void setCount(long count) {
+            this.count = count;
+        }
+    }
+}
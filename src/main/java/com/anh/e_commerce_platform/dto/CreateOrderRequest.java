@@ -2,6 +2,7 @@ package com.anh.e_commerce_platform.dto;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import java.util.List;
 
 public class CreateOrderRequest {
@@ -10,6 +11,10 @@ public class CreateOrderRequest {
     @Valid
     private List<OrderItemRequest> items;
 
+    // Code promo optionnel
+    @Size(max = 64, message = "Le code promo est trop long")
+    private String couponCode;
+
     public CreateOrderRequest() {
     }
 
@@ -20,4 +25,12 @@ public class CreateOrderRequest {
     public void setItems(List<OrderItemRequest> items) {
         this.items = items;
     }
+
+    public String getCouponCode() {
+        return couponCode;
+    }
+
+    public void setCouponCode(String couponCode) {
+        this.couponCode = couponCode;
+    }
 }
@@ -2,6 +2,7 @@ package com.anh.e_commerce_platform.dto;
 
 import com.anh.e_commerce_platform.entity.Order;
 import com.anh.e_commerce_platform.entity.OrderStatus;
+import com.anh.e_commerce_platform.money.Money;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -13,6 +14,7 @@ public class OrderResponse {
     private LocalDateTime orderDate;
     private OrderStatus status;
     private BigDecimal totalAmount;
+    private BigDecimal discountAmount;
     private List<OrderItemResponse> items;
 
     public OrderResponse() {
@@ -23,6 +25,7 @@ public class OrderResponse {
         this.orderDate = order.getOrderDate();
         this.status = order.getStatus();
         this.totalAmount = order.getTotalAmount();
+        this.discountAmount = order.getDiscountAmount();
         this.items = items;
     }
 
@@ -58,6 +61,14 @@ public class OrderResponse {
         this.totalAmount = totalAmount;
     }
 
+    public BigDecimal getDiscountAmount() {
+        return discountAmount;
+    }
+
+    public void setDiscountAmount(BigDecimal discountAmount) {
+        this.discountAmount = discountAmount;
+    }
+
     public List<OrderItemResponse> getItems() {
         return items;
     }
@@ -70,18 +81,28 @@ public class OrderResponse {
         private Long productId;
         private String productName;
         private Integer quantity;
-        private BigDecimal unitPrice;
-        private BigDecimal subtotal;
+        // Montants gardés en centimes, convertis en BigDecimal seulement à la sérialisation
+        private long unitPriceCents;
+        private long subtotalCents;
+        private long discountCents;
+        private Long promotionId;
 
         public OrderItemResponse() {
         }
 
-        public OrderItemResponse(Long productId, String productName, Integer quantity, BigDecimal unitPrice) {
+        public OrderItemResponse(Long productId, String productName, Integer quantity, long unitPriceCents) {
+            this(productId, productName, quantity, unitPriceCents, 0L, null);
+        }
+
+        public OrderItemResponse(Long productId, String productName, Integer quantity, long unitPriceCents,
+                long discountCents, Long promotionId) {
             this.productId = productId;
             this.productName = productName;
             this.quantity = quantity;
-            this.unitPrice = unitPrice;
-            this.subtotal = unitPrice.multiply(BigDecimal.valueOf(quantity));
+            this.unitPriceCents = unitPriceCents;
+            this.subtotalCents = Money.times(unitPriceCents, quantity);
+            this.discountCents = discountCents;
+            this.promotionId = promotionId;
         }
 
         public Long getProductId() {
@@ -109,19 +130,35 @@ public class OrderResponse {
         }
 
         public BigDecimal getUnitPrice() {
-            return unitPrice;
+            return Money.toBigDecimal(unitPriceCents);
         }
 
         public void setUnitPrice(BigDecimal unitPrice) {
-            this.unitPrice = unitPrice;
+            this.unitPriceCents = Money.toCents(unitPrice);
         }
 
         public BigDecimal getSubtotal() {
-            return subtotal;
+            return Money.toBigDecimal(subtotalCents);
         }
 
         public void setSubtotal(BigDecimal subtotal) {
-            this.subtotal = subtotal;
+            this.subtotalCents = Money.toCents(subtotal);
+        }
+
+        public BigDecimal getDiscount() {
+            return Money.toBigDecimal(discountCents);
+        }
+
+        public void setDiscount(BigDecimal discount) {
+            this.discountCents = Money.toCents(discount);
+        }
+
+        public Long getPromotionId() {
+            return promotionId;
+        }
+
+        public void setPromotionId(Long promotionId) {
+            this.promotionId = promotionId;
         }
     }
 }
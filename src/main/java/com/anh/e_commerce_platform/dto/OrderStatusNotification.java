@@ -0,0 +1,44 @@
+package com.anh.e_commerce_platform.dto;
+
+import com.anh.e_commerce_platform.entity.OrderStatus;
+
+// Événement SSE "order-status" : nouveau statut d'une commande
+public class OrderStatusNotification {
+
+    private Long orderId;
+    private Long userId;
+    private OrderStatus status;
+
+    public OrderStatusNotification() {
+    }
+
+    public OrderStatusNotification(Long orderId, Long userId, OrderStatus status) {
+        this.orderId = orderId;
+        this.userId = userId;
+        this.status = status;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(Long orderId) {
+        this.orderId = orderId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(OrderStatus status) {
+        this.status = status;
+    }
+}
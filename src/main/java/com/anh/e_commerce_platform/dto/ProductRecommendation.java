@@ -0,0 +1,42 @@
+package com.anh.e_commerce_platform.dto;
+
+// Produit souvent acheté avec un autre : score de similarité (cosinus) et nombre de commandes communes
+public class ProductRecommendation {
+
+    private Long productId;
+    private double score;
+    private int coPurchases;
+
+    public ProductRecommendation() {
+    }
+
+    public ProductRecommendation(Long productId, double score, int coPurchases) {
+        this.productId = productId;
+        this.score = score;
+        this.coPurchases = coPurchases;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+
+    public int getCoPurchases() {
+        return coPurchases;
+    }
+
+    public void setCoPurchases(int coPurchases) {
+        this.coPurchases = coPurchases;
+    }
+}
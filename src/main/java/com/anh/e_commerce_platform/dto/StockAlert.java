@@ -0,0 +1,118 @@
+package com.anh.e_commerce_platform.dto;
+
+import com.anh.e_commerce_platform.replenishment.AlertLevel;
+
+import java.time.LocalDateTime;
+
+// Alerte de réapprovisionnement d'un produit, calculée en mémoire (stock, seuil, vitesse de vente)
+public class StockAlert {
+
+    private Long productId;
+    private String productName;
+    private AlertLevel level;
+    private int stock;
+    private int threshold;
+    private double dailyVelocity; // unités vendues par jour, moyenne à décroissance exponentielle
+    private Double daysOfStockLeft; // null si le produit ne se vend pas
+    private LocalDateTime projectedStockOut;
+    private int suggestedReorder; // quantité couvrant le délai de livraison et la période de couverture
+    private LocalDateTime raisedAt;
+
+    public StockAlert() {
+    }
+
+    public StockAlert(Long productId, String productName, AlertLevel level, int stock, int threshold,
+            double dailyVelocity, Double daysOfStockLeft, LocalDateTime projectedStockOut, int suggestedReorder,
+            LocalDateTime raisedAt) {
+        this.productId = productId;
+        this.productName = productName;
+        this.level = level;
+        this.stock = stock;
+        this.threshold = threshold;
+        this.dailyVelocity = dailyVelocity;
+        this.daysOfStockLeft = daysOfStockLeft;
+        this.projectedStockOut = projectedStockOut;
+        this.suggestedReorder = suggestedReorder;
+        this.raisedAt = raisedAt;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public String getProductName() {
+        return productName;
+    }
+
+    public void setProductName(String productName) {
+        this.productName = productName;
+    }
+
+    public AlertLevel getLevel() {
+        return level;
+    }
+
+    public void setLevel(AlertLevel level) {
+        this.level = level;
+    }
+
+    public int getStock() {
+        return stock;
+    }
+
+    public void setStock(int stock) {
+        this.stock = stock;
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    public void setThreshold(int threshold) {
+        this.threshold = threshold;
+    }
+
+    public double getDailyVelocity() {
+        return dailyVelocity;
+    }
+
+    public void setDailyVelocity(double dailyVelocity) {
+        this.dailyVelocity = dailyVelocity;
+    }
+
+    public Double getDaysOfStockLeft() {
+        return daysOfStockLeft;
+    }
+
+    public void setDaysOfStockLeft(Double daysOfStockLeft) {
+        this.daysOfStockLeft = daysOfStockLeft;
+    }
+
+    public LocalDateTime getProjectedStockOut() {
+        return projectedStockOut;
+    }
+
+    public void setProjectedStockOut(LocalDateTime projectedStockOut) {
+        this.projectedStockOut = projectedStockOut;
+    }
+
+    public int getSuggestedReorder() {
+        return suggestedReorder;
+    }
+
+    public void setSuggestedReorder(int suggestedReorder) {
+        this.suggestedReorder = suggestedReorder;
+    }
+
+    public LocalDateTime getRaisedAt() {
+        return raisedAt;
+    }
+
+    public void setRaisedAt(LocalDateTime raisedAt) {
+        this.raisedAt = raisedAt;
+    }
+}
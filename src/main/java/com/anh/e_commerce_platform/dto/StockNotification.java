@@ -0,0 +1,42 @@
+package com.anh.e_commerce_platform.dto;
+
+// Événement SSE "stock" : stock courant d'un produit après une commande, une annulation ou une mise à jour
+public class StockNotification {
+
+    private Long productId;
+    private int stock;
+    private boolean inStock;
+
+    public StockNotification() {
+    }
+
+    public StockNotification(Long productId, int stock) {
+        this.productId = productId;
+        this.stock = stock;
+        this.inStock = stock > 0;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public int getStock() {
+        return stock;
+    }
+
+    public void setStock(int stock) {
+        this.stock = stock;
+    }
+
+    public boolean isInStock() {
+        return inStock;
+    }
+
+    public void setInStock(boolean inStock) {
+        this.inStock = inStock;
+    }
+}
@@ -0,0 +1,62 @@
+package com.anh.e_commerce_platform.dto;
+
+// Produit tendance sur la fenêtre glissante : consultations, unités achetées et score combiné
+public class TrendingProduct {
+
+    private Long productId;
+    private Long categoryId;
+    private long views;
+    private long purchases;
+    private long score; // consultations + unités achetées x app.trending.purchase-weight
+
+    public TrendingProduct() {
+    }
+
+    public TrendingProduct(Long productId, Long categoryId, long views, long purchases, long score) {
+        this.productId = productId;
+        this.categoryId = categoryId;
+        this.views = views;
+        this.purchases = purchases;
+        this.score = score;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    public void setCategoryId(Long categoryId) {
+        this.categoryId = categoryId;
+    }
+
+    public long getViews() {
+        return views;
+    }
+
+    public void setViews(long views) {
+        this.views = views;
+    }
+
+    public long getPurchases() {
+        return purchases;
+    }
+
+    public void setPurchases(long purchases) {
+        this.purchases = purchases;
+    }
+
+    public long getScore() {
+        return score;
+    }
+
+    public void setScore(long score) {
+        this.score = score;
+    }
+}
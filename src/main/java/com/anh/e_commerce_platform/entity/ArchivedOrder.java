@@ -0,0 +1,102 @@
+package com.anh.e_commerce_platform.entity;
+
+import com.anh.e_commerce_platform.money.Money;
+import com.anh.e_commerce_platform.money.MoneyConverter;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// Commande terminée (livrée ou annulée) déplacée hors de la table chaude "orders".
+// En production la table est partitionnée par mois sur order_date (voir V3__order_archive.sql).
+@Entity
+@Table(name = "orders_archive", indexes = @Index(name = "idx_orders_archive_user_date", columnList = "user_id, order_date"))
+public class ArchivedOrder {
+
+    // Même identifiant que dans "orders"
+    @Id
+    private Long id;
+
+    @Column(name = "order_date", nullable = false)
+    private LocalDateTime orderDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OrderStatus status;
+
+    @Convert(converter = MoneyConverter.class)
+    @Column(name = "total_amount", nullable = false, precision = 10, scale = 2)
+    private Long totalAmount; // en centimes
+
+    @Convert(converter = MoneyConverter.class)
+    @Column(name = "discount_amount", precision = 10, scale = 2)
+    private Long discountAmount; // en centimes
+
+    // Identifiant seul : l'archive ne bloque pas la suppression d'un utilisateur
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    // Constructeur
+    public ArchivedOrder() {
+    }
+
+    // Getters et Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public LocalDateTime getOrderDate() {
+        return orderDate;
+    }
+
+    public void setOrderDate(LocalDateTime orderDate) {
+        this.orderDate = orderDate;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(OrderStatus status) {
+        this.status = status;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount == null ? null : Money.toBigDecimal(totalAmount);
+    }
+
+    public Long getTotalAmountCents() {
+        return totalAmount;
+    }
+
+    public BigDecimal getDiscountAmount() {
+        return discountAmount == null ? null : Money.toBigDecimal(discountAmount);
+    }
+
+    public long getDiscountAmountCents() {
+        return discountAmount == null ? 0L : discountAmount;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+
+    public void setArchivedAt(LocalDateTime archivedAt) {
+        this.archivedAt = archivedAt;
+    }
+}
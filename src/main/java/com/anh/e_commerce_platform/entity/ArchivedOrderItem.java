@@ -0,0 +1,68 @@
+package com.anh.e_commerce_platform.entity;
+
+import com.anh.e_commerce_platform.money.Money;
+import com.anh.e_commerce_platform.money.MoneyConverter;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// Ligne d'une commande archivée. order_date est recopiée depuis la commande pour que les
+// lignes tombent dans la même partition mensuelle que leur commande.
+@Entity
+@Table(name = "order_items_archive", indexes = @Index(name = "idx_order_items_archive_order", columnList = "order_id"))
+public class ArchivedOrderItem {
+
+    // Même identifiant que dans "order_items"
+    @Id
+    private Long id;
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    @Column(name = "order_date", nullable = false)
+    private LocalDateTime orderDate;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @Convert(converter = MoneyConverter.class)
+    @Column(name = "unit_price", nullable = false, precision = 10, scale = 2)
+    private Long unitPrice; // en centimes
+
+    // Constructeur
+    public ArchivedOrderItem() {
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public LocalDateTime getOrderDate() {
+        return orderDate;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public BigDecimal getUnitPrice() {
+        return unitPrice == null ? null : Money.toBigDecimal(unitPrice);
+    }
+
+    public Long getUnitPriceCents() {
+        return unitPrice;
+    }
+}
@@ -2,8 +2,13 @@ package com.anh.e_commerce_platform.entity;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "category")
 @Table(name = "categories")
 public class Category {
 
@@ -18,6 +23,12 @@ public class Category {
     @Column(columnDefinition = "TEXT")
     private String description;
 
+    // Verrouillage optimiste
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     // Constructeur
     public Category() {
     }
@@ -46,4 +57,12 @@ public class Category {
     public void setDescription(String description) {
         this.description = description;
     }
-}
\ No newline at end of file
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
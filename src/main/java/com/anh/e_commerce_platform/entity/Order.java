@@ -1,12 +1,21 @@
 package com.anh.e_commerce_platform.entity;
 
+import com.anh.e_commerce_platform.money.Money;
+import com.anh.e_commerce_platform.money.MoneyConverter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_user_status", columnList = "user_id, status"),
+        @Index(name = "idx_orders_status_date", columnList = "status, order_date"),
+        @Index(name = "idx_orders_order_date", columnList = "order_date")
+})
 public class Order {
 
     @Id
@@ -21,13 +30,25 @@ public class Order {
     private OrderStatus status;
 
     @NotNull(message = "Le montant total est obligatoire")
+    @Convert(converter = MoneyConverter.class)
     @Column(name = "total_amount", nullable = false, precision = 10, scale = 2)
-    private BigDecimal totalAmount;
+    private Long totalAmount; // en centimes
+
+    // Remise totale appliquée par le moteur de prix (en centimes)
+    @Convert(converter = MoneyConverter.class)
+    @Column(name = "discount_amount", precision = 10, scale = 2)
+    private Long discountAmount = 0L;
 
     @ManyToOne(fetch = FetchType.EAGER)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
+    // Verrouillage optimiste
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     // Constructeur
     public Order() {
         this.orderDate = LocalDateTime.now();
@@ -60,11 +81,39 @@ public class Order {
     }
 
     public BigDecimal getTotalAmount() {
-        return totalAmount;
+        return totalAmount == null ? null : Money.toBigDecimal(totalAmount);
     }
 
     public void setTotalAmount(BigDecimal totalAmount) {
-        this.totalAmount = totalAmount;
+        this.totalAmount = totalAmount == null ? null : Money.toCents(totalAmount);
+    }
+
+    @JsonIgnore
+    public Long getTotalAmountCents() {
+        return totalAmount;
+    }
+
+    @JsonIgnore
+    public void setTotalAmountCents(long totalAmountCents) {
+        this.totalAmount = totalAmountCents;
+    }
+
+    public BigDecimal getDiscountAmount() {
+        return discountAmount == null ? null : Money.toBigDecimal(discountAmount);
+    }
+
+    public void setDiscountAmount(BigDecimal discountAmount) {
+        this.discountAmount = discountAmount == null ? null : Money.toCents(discountAmount);
+    }
+
+    @JsonIgnore
+    public long getDiscountAmountCents() {
+        return discountAmount == null ? 0L : discountAmount;
+    }
+
+    @JsonIgnore
+    public void setDiscountAmountCents(long discountAmountCents) {
+        this.discountAmount = discountAmountCents;
     }
 
     public User getUser() {
@@ -74,4 +123,12 @@ public class Order {
     public void setUser(User user) {
         this.user = user;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
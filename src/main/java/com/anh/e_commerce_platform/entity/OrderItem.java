@@ -1,12 +1,20 @@
 package com.anh.e_commerce_platform.entity;
 
+import com.anh.e_commerce_platform.money.Money;
+import com.anh.e_commerce_platform.money.MoneyConverter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import java.math.BigDecimal;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
-@Table(name = "order_items")
+@Table(name = "order_items", indexes = {
+        @Index(name = "idx_order_items_order", columnList = "order_id"),
+        @Index(name = "idx_order_items_product", columnList = "product_id")
+})
 public class OrderItem {
 
     @Id
@@ -27,8 +35,15 @@ public class OrderItem {
     private Integer quantity;
 
     @NotNull(message = "Le prix unitaire est obligatoire")
+    @Convert(converter = MoneyConverter.class)
     @Column(name = "unit_price", nullable = false, precision = 10, scale = 2)
-    private BigDecimal unitPrice;
+    private Long unitPrice; // en centimes
+
+    // Verrouillage optimiste
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
 
     // Constructeur
     public OrderItem() {
@@ -68,10 +83,28 @@ public class OrderItem {
     }
 
     public BigDecimal getUnitPrice() {
-        return unitPrice;
+        return unitPrice == null ? null : Money.toBigDecimal(unitPrice);
     }
 
     public void setUnitPrice(BigDecimal unitPrice) {
-        this.unitPrice = unitPrice;
+        this.unitPrice = unitPrice == null ? null : Money.toCents(unitPrice);
+    }
+
+    @JsonIgnore
+    public Long getUnitPriceCents() {
+        return unitPrice;
+    }
+
+    @JsonIgnore
+    public void setUnitPriceCents(long unitPriceCents) {
+        this.unitPrice = unitPriceCents;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
     }
 }
@@ -1,5 +1,11 @@
 package com.anh.e_commerce_platform.entity;
 
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
 public enum OrderStatus {
 
     PENDING("En attente"),
@@ -8,6 +14,17 @@ public enum OrderStatus {
     DELIVERED("Livrée"),
     CANCELLED("Annulée");
 
+    // Transitions autorisées : PENDING -> CONFIRMED -> SHIPPED -> DELIVERED, annulation avant expédition
+    private static final Map<OrderStatus, Set<OrderStatus>> TRANSITIONS = new EnumMap<>(OrderStatus.class);
+
+    static {
+        TRANSITIONS.put(PENDING, EnumSet.of(CONFIRMED, CANCELLED));
+        TRANSITIONS.put(CONFIRMED, EnumSet.of(SHIPPED, CANCELLED));
+        TRANSITIONS.put(SHIPPED, EnumSet.of(DELIVERED));
+        TRANSITIONS.put(DELIVERED, EnumSet.noneOf(OrderStatus.class));
+        TRANSITIONS.put(CANCELLED, EnumSet.noneOf(OrderStatus.class));
+    }
+
     private final String displayName;
 
     OrderStatus(String displayName) {
@@ -17,4 +34,29 @@ public enum OrderStatus {
     public String getDisplayName() {
         return displayName;
     }
+
+    // Vérifier si la transition vers le statut cible est autorisée
+    public boolean canTransitionTo(OrderStatus target) {
+        return TRANSITIONS.get(this).contains(target);
+    }
+
+    public Set<OrderStatus> allowedTransitions() {
+        return Collections.unmodifiableSet(TRANSITIONS.get(this));
+    }
+
+    // Statuts depuis lesquels on peut atteindre le statut cible
+    public static Set<OrderStatus> sourcesOf(OrderStatus target) {
+        Set<OrderStatus> sources = EnumSet.noneOf(OrderStatus.class);
+        for (OrderStatus status : values()) {
+            if (status.canTransitionTo(target)) {
+                sources.add(status);
+            }
+        }
+        return sources;
+    }
+
+    // Statut final (plus aucune transition possible)
+    public boolean isTerminal() {
+        return TRANSITIONS.get(this).isEmpty();
+    }
 }
@@ -1,13 +1,24 @@
 package com.anh.e_commerce_platform.entity;
 
+import com.anh.e_commerce_platform.money.Money;
+import com.anh.e_commerce_platform.money.MoneyConverter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import java.math.BigDecimal;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
-@Table(name = "products")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "product")
+@Table(name = "products", indexes = @Index(name = "idx_products_category", columnList = "category_id"))
 public class Product {
 
     @Id
@@ -23,17 +34,34 @@ public class Product {
 
     @NotNull(message = "Le prix est obligatoire")
     @Positive(message = "Le prix doit être positif")
+    @Convert(converter = MoneyConverter.class)
     @Column(nullable = false, precision = 10, scale = 2)
-    private BigDecimal price;
+    private Long price; // en centimes
 
     @NotNull(message = "Le stock est obligatoire")
     @Column(nullable = false)
     private Integer stock;
 
+    // Seuil d'alerte de stock bas (null : seuil par défaut app.replenishment.default-threshold)
+    @PositiveOrZero(message = "Le seuil de stock doit être positif ou nul")
+    @Column(name = "low_stock_threshold")
+    private Integer lowStockThreshold;
+
     @ManyToOne
     @JoinColumn(name = "category_id")
     private Category category;
 
+    // Empreinte SHA-256 de l'image (voir ImageStore), renseignée par le téléversement uniquement
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(name = "image_hash", length = 64)
+    private String imageHash;
+
+    // Verrouillage optimiste
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     // Constructeur
     public Product() {
     }
@@ -64,11 +92,21 @@ public class Product {
     }
 
     public BigDecimal getPrice() {
-        return price;
+        return price == null ? null : Money.toBigDecimal(price);
     }
 
     public void setPrice(BigDecimal price) {
-        this.price = price;
+        this.price = price == null ? null : Money.toCents(price);
+    }
+
+    @JsonIgnore
+    public Long getPriceCents() {
+        return price;
+    }
+
+    @JsonIgnore
+    public void setPriceCents(long priceCents) {
+        this.price = priceCents;
     }
 
     public Integer getStock() {
@@ -79,6 +117,14 @@ public class Product {
         this.stock = stock;
     }
 
+    public Integer getLowStockThreshold() {
+        return lowStockThreshold;
+    }
+
+    public void setLowStockThreshold(Integer lowStockThreshold) {
+        this.lowStockThreshold = lowStockThreshold;
+    }
+
     public Category getCategory() {
         return category;
     }
@@ -86,4 +132,20 @@ public class Product {
     public void setCategory(Category category) {
         this.category = category;
     }
+
+    public String getImageHash() {
+        return imageHash;
+    }
+
+    public void setImageHash(String imageHash) {
+        this.imageHash = imageHash;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
@@ -0,0 +1,190 @@
+package com.anh.e_commerce_platform.entity;
+
+import com.anh.e_commerce_platform.money.Money;
+import com.anh.e_commerce_platform.money.MoneyConverter;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import org.hibernate.annotations.ColumnDefault;
+
+@Entity
+@Table(name = "promotions")
+public class Promotion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotBlank(message = "Le nom de la promotion est obligatoire")
+    @Column(nullable = false)
+    private String name;
+
+    @NotNull(message = "Le type de remise est obligatoire")
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PromotionType type;
+
+    @NotNull(message = "La portée est obligatoire")
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PromotionScope scope = PromotionScope.ALL;
+
+    // Pourcentage ou montant selon le type, stocké en centièmes
+    @NotNull(message = "La valeur de la remise est obligatoire")
+    @Positive(message = "La valeur de la remise doit être positive")
+    @Convert(converter = MoneyConverter.class)
+    @Column(name = "discount_value", nullable = false, precision = 10, scale = 2)
+    private Long discountValue;
+
+    // Cible si scope = PRODUCT
+    @ManyToOne
+    @JoinColumn(name = "product_id")
+    private Product product;
+
+    // Cible si scope = CATEGORY
+    @ManyToOne
+    @JoinColumn(name = "category_id")
+    private Category category;
+
+    // Si renseigné, la promotion ne s'applique qu'avec ce code promo
+    @Column(name = "coupon_code", length = 64)
+    private String couponCode;
+
+    // Palier : quantité minimale sur la ligne pour déclencher la remise
+    @Positive(message = "La quantité minimale doit être positive")
+    @Column(name = "min_quantity", nullable = false)
+    private Integer minQuantity = 1;
+
+    @Column(name = "starts_at")
+    private LocalDateTime startsAt;
+
+    @Column(name = "ends_at")
+    private LocalDateTime endsAt;
+
+    @Column(nullable = false)
+    private boolean active = true;
+
+    // Verrouillage optimiste
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    // Constructeur
+    public Promotion() {
+    }
+
+    // Getters et Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public PromotionType getType() {
+        return type;
+    }
+
+    public void setType(PromotionType type) {
+        this.type = type;
+    }
+
+    public PromotionScope getScope() {
+        return scope;
+    }
+
+    public void setScope(PromotionScope scope) {
+        this.scope = scope;
+    }
+
+    public BigDecimal getDiscountValue() {
+        return discountValue == null ? null : Money.toBigDecimal(discountValue);
+    }
+
+    public void setDiscountValue(BigDecimal discountValue) {
+        this.discountValue = discountValue == null ? null : Money.toCents(discountValue);
+    }
+
+    // Valeur en centièmes : points de base pour un pourcentage, centimes pour un montant
+    public long discountValueHundredths() {
+        return discountValue;
+    }
+
+    public Product getProduct() {
+        return product;
+    }
+
+    public void setProduct(Product product) {
+        this.product = product;
+    }
+
+    public Category getCategory() {
+        return category;
+    }
+
+    public void setCategory(Category category) {
+        this.category = category;
+    }
+
+    public String getCouponCode() {
+        return couponCode;
+    }
+
+    public void setCouponCode(String couponCode) {
+        this.couponCode = couponCode;
+    }
+
+    public Integer getMinQuantity() {
+        return minQuantity;
+    }
+
+    public void setMinQuantity(Integer minQuantity) {
+        this.minQuantity = minQuantity;
+    }
+
+    public LocalDateTime getStartsAt() {
+        return startsAt;
+    }
+
+    public void setStartsAt(LocalDateTime startsAt) {
+        this.startsAt = startsAt;
+    }
+
+    public LocalDateTime getEndsAt() {
+        return endsAt;
+    }
+
+    public void setEndsAt(LocalDateTime endsAt) {
+        this.endsAt = endsAt;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
@@ -0,0 +1,7 @@
+package com.anh.e_commerce_platform.entity;
+
+public enum PromotionScope {
+    ALL,
+    CATEGORY,
+    PRODUCT
+}
@@ -0,0 +1,6 @@
+package com.anh.e_commerce_platform.entity;
+
+public enum PromotionType {
+    PERCENTAGE, // discountValue = pourcentage (12.50 = 12,50 %)
+    FIXED_AMOUNT // discountValue = remise par unité en euros
+}
@@ -0,0 +1,43 @@
+package com.anh.e_commerce_platform.event;
+
+import java.util.Collection;
+import java.util.Set;
+
+// Publié quand un produit ou une catégorie change (y compris le stock) :
+// l'instantané du catalogue est reconstruit et les facettes mises à jour après le commit.
+public class CatalogChangedEvent {
+
+    private final String reason;
+
+    // Produits touchés (vide : aucun produit, null : inconnus, tout recalculer)
+    private final Set<Long> productIds;
+
+    // Changement fait sur un autre nœud (bus d'invalidation) : à appliquer localement, pas à rediffuser
+    private final boolean remote;
+
+    public CatalogChangedEvent(String reason) {
+        this(reason, null);
+    }
+
+    public CatalogChangedEvent(String reason, Collection<Long> productIds) {
+        this(reason, productIds, false);
+    }
+
+    public CatalogChangedEvent(String reason, Collection<Long> productIds, boolean remote) {
+        this.reason = reason;
+        this.productIds = productIds == null ? null : Set.copyOf(productIds);
+        this.remote = remote;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public Set<Long> getProductIds() {
+        return productIds;
+    }
+
+    public boolean isRemote() {
+        return remote;
+    }
+}
@@ -0,0 +1,40 @@
+package com.anh.e_commerce_platform.event;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Publié à la création d'une commande : quantités vendues par produit, traitées après le commit
+// par les composants qui suivent les ventes en mémoire (sans relire la table des commandes)
+public class OrderPlacedEvent {
+
+    private final Long orderId;
+    private final Long userId;
+    private final LocalDateTime orderDate;
+    private final Map<Long, Integer> quantities;
+
+    public OrderPlacedEvent(Long orderId, Long userId, LocalDateTime orderDate, Map<Long, Integer> quantities) {
+        this.orderId = orderId;
+        this.userId = userId;
+        this.orderDate = orderDate;
+        this.quantities = Collections.unmodifiableMap(new LinkedHashMap<>(quantities));
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public LocalDateTime getOrderDate() {
+        return orderDate;
+    }
+
+    // Quantité par produit (un produit présent sur plusieurs lignes est additionné)
+    public Map<Long, Integer> getQuantities() {
+        return quantities;
+    }
+}
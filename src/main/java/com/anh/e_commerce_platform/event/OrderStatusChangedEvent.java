@@ -0,0 +1,29 @@
+package com.anh.e_commerce_platform.event;
+
+import com.anh.e_commerce_platform.entity.OrderStatus;
+
+// Publié quand une commande est créée ou change de statut : poussé aux abonnés après le commit
+public class OrderStatusChangedEvent {
+
+    private final Long orderId;
+    private final Long userId;
+    private final OrderStatus status;
+
+    public OrderStatusChangedEvent(Long orderId, Long userId, OrderStatus status) {
+        this.orderId = orderId;
+        this.userId = userId;
+        this.status = status;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+}
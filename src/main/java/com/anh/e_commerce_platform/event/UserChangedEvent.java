@@ -0,0 +1,21 @@
+package com.anh.e_commerce_platform.event;
+
+// Publié quand un compte change (suppression) : les utilisateurs authentifiés gardés en cache sont oubliés
+public class UserChangedEvent {
+
+    private final String reason;
+    private final Long userId;
+
+    public UserChangedEvent(String reason, Long userId) {
+        this.reason = reason;
+        this.userId = userId;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+}
@@ -0,0 +1,67 @@
+package com.anh.e_commerce_platform.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Avertissements répétitifs (logback-spring.xml) : chaque message (logger + format, paramètres exclus) passe
+// au plus "limit" fois par intervalle, les suivants sont écartés avant toute mise en forme.
+// Les autres niveaux, et les erreurs en particulier, ne sont jamais limités.
+public class RateLimitingTurboFilter extends TurboFilter {
+
+    private Level level = Level.WARN;
+    private int limit = 5;
+    private long intervalMillis = Duration.ofMinutes(1).toMillis();
+    // Au-delà, les nouveaux messages passent sans être comptés (mémoire bornée)
+    private int maxMessages = 1000;
+
+    private final ConcurrentHashMap<String, AtomicInteger> counts = new ConcurrentHashMap<>();
+    private final AtomicLong windowStart = new AtomicLong(System.currentTimeMillis());
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // format absent : simple test isXxxEnabled(), rien à compter
+        if (level != this.level || format == null || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        long now = System.currentTimeMillis();
+        long start = windowStart.get();
+        if (now - start >= intervalMillis && windowStart.compareAndSet(start, now)) {
+            counts.clear();
+        }
+
+        String key = logger.getName() + '\u0000' + format;
+        AtomicInteger count = counts.get(key);
+        if (count == null) {
+            if (counts.size() >= maxMessages) {
+                return FilterReply.NEUTRAL;
+            }
+            count = counts.computeIfAbsent(key, k -> new AtomicInteger());
+        }
+        return count.incrementAndGet() <= limit ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    public void setLevel(String level) {
+        this.level = Level.toLevel(level, Level.WARN);
+    }
+
+    public void setLimit(int limit) {
+        this.limit = limit;
+    }
+
+    // Durée ISO-8601 (PT1M), comme les autres durées de l'application
+    public void setInterval(String interval) {
+        this.intervalMillis = Duration.parse(interval).toMillis();
+    }
+
+    public void setMaxMessages(int maxMessages) {
+        this.maxMessages = maxMessages;
+    }
+}
@@ -0,0 +1,40 @@
+package com.anh.e_commerce_platform.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+// Échantillonnage d'une catégorie bavarde (logback-spring.xml) : un événement sur "keepOneIn" en moyenne est
+// gardé, tiré au hasard par thread (aucun compteur partagé entre les requêtes).
+// Les avertissements et les erreurs sont toujours gardés.
+public class SamplingTurboFilter extends TurboFilter {
+
+    private String category = "";
+    private int keepOneIn = 1;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (keepOneIn <= 1 || format == null || level.isGreaterOrEqual(Level.WARN)
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel()) || !inCategory(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        return ThreadLocalRandom.current().nextInt(keepOneIn) == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private boolean inCategory(String loggerName) {
+        return loggerName.startsWith(category)
+                && (loggerName.length() == category.length() || loggerName.charAt(category.length()) == '.');
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public void setKeepOneIn(int keepOneIn) {
+        this.keepOneIn = keepOneIn;
+    }
+}
@@ -0,0 +1,149 @@
+package com.anh.e_commerce_platform.media;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOException;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+// Stockage des images adressé par contenu : <racine>/<2 premiers caractères>/<sha256>/<taille>.<ext>.
+// Un fichier publié n'est jamais modifié (écriture dans un fichier temporaire puis déplacement atomique),
+// deux téléversements identiques partagent les mêmes fichiers.
+@Component
+public class ImageStore {
+
+    private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+
+    // Formats acceptés en entrée (nom ImageIO -> extension), et types servis par extension
+    private static final Map<String, String> EXTENSIONS = Map.of("png", "png", "jpeg", "jpg", "gif", "gif");
+    private static final Map<String, MediaType> MEDIA_TYPES = Map.of(
+            "png", MediaType.IMAGE_PNG, "jpg", MediaType.IMAGE_JPEG, "gif", MediaType.IMAGE_GIF);
+
+    private final Path root;
+
+    // Nombre de pixels au-delà duquel une image est refusée : décodée, elle occuperait 4 octets par pixel
+    private final long maxPixels;
+
+    public ImageStore(@Value("${app.media.root:data/media}") Path root,
+            @Value("${app.media.max-pixels:24000000}") long maxPixels) throws IOException {
+        this.root = root.toAbsolutePath();
+        this.maxPixels = maxPixels;
+        Files.createDirectories(this.root.resolve("tmp"));
+    }
+
+    public static boolean isHash(String value) {
+        return value != null && HASH.matcher(value).matches();
+    }
+
+    // Enregistrer un original : empreinte calculée pendant la copie, format et dimensions vérifiés avant publication
+    public String store(InputStream content) throws IOException {
+        Path temp = Files.createTempFile(root.resolve("tmp"), "upload-", ".tmp");
+        try {
+            MessageDigest digest = sha256();
+            try (InputStream in = new DigestInputStream(content, digest);
+                    OutputStream out = Files.newOutputStream(temp)) {
+                in.transferTo(out);
+            }
+            String extension = EXTENSIONS.get(checkImage(temp));
+            String hash = HexFormat.of().formatHex(digest.digest());
+            publish(temp, path(hash, ImageVariant.ORIGINAL, extension));
+            return hash;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // Publier un fichier préparé dans le répertoire temporaire (sans effet si le contenu existe déjà)
+    public void publish(Path temp, Path target) throws IOException {
+        if (Files.exists(target)) {
+            Files.delete(temp);
+            return;
+        }
+        Files.createDirectories(target.getParent());
+        // Renommage atomique : un lecteur voit l'ancien fichier complet ou le nouveau, jamais un fichier partiel
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public Path createTempFile() throws IOException {
+        return Files.createTempFile(root.resolve("tmp"), "variant-", ".tmp");
+    }
+
+    public Path path(String hash, ImageVariant variant, String extension) {
+        return root.resolve(hash.substring(0, 2)).resolve(hash).resolve(variant.getKey() + "." + extension);
+    }
+
+    // Fichier d'une taille donnée, s'il a déjà été produit
+    public Optional<Path> find(String hash, ImageVariant variant) {
+        if (!isHash(hash)) {
+            return Optional.empty();
+        }
+        for (String extension : MEDIA_TYPES.keySet()) {
+            Path path = path(hash, variant, extension);
+            if (Files.isRegularFile(path)) {
+                return Optional.of(path);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public static MediaType mediaTypeOf(Path path) {
+        String name = path.getFileName().toString();
+        return MEDIA_TYPES.getOrDefault(name.substring(name.lastIndexOf('.') + 1), MediaType.APPLICATION_OCTET_STREAM);
+    }
+
+    // Format de l'image, après vérification de ses dimensions lues dans l'en-tête (sans décoder les pixels) :
+    // une image de quelques Ko peut déclarer des dimensions qui épuiseraient le tas une fois décodée
+    public String checkImage(Path file) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(file.toFile())) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                throw new IllegalArgumentException("Format d'image non supporté (PNG, JPEG ou GIF attendu)");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    throw new IllegalArgumentException("Image trop grande (" + width + " x " + height
+                            + " pixels, au plus " + maxPixels + " pixels)");
+                }
+                String format = reader.getFormatName().toLowerCase(Locale.ROOT);
+                if (!EXTENSIONS.containsKey(format)) {
+                    throw new IllegalArgumentException("Format d'image non supporté (PNG, JPEG ou GIF attendu)");
+                }
+                return format;
+            } catch (IIOException e) {
+                throw new IllegalArgumentException("Image illisible : " + e.getMessage());
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
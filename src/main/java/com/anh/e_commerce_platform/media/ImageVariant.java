@@ -0,0 +1,37 @@
+package com.anh.e_commerce_platform.media;
+
+import java.util.Locale;
+
+// Tailles servies pour une image produit : l'original tel que téléversé, puis des réductions
+// dont le plus grand côté ne dépasse pas maxSize (jamais d'agrandissement)
+public enum ImageVariant {
+
+    ORIGINAL(0),
+    LARGE(1200),
+    MEDIUM(600),
+    THUMBNAIL(200);
+
+    private final int maxSize;
+
+    ImageVariant(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    // Nom utilisé dans les URL et comme nom de fichier ("thumbnail")
+    public String getKey() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    public static ImageVariant fromKey(String key) {
+        for (ImageVariant variant : values()) {
+            if (variant.getKey().equals(key)) {
+                return variant;
+            }
+        }
+        throw new IllegalArgumentException("Taille d'image inconnue : " + key);
+    }
+}
@@ -0,0 +1,60 @@
+package com.anh.e_commerce_platform.money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+// Arithmétique monétaire sur des centimes en long (aucune allocation sur le chemin chaud).
+// Les BigDecimal n'apparaissent qu'aux frontières JPA/JSON via toCents / toBigDecimal.
+public final class Money {
+
+    // Nombre de décimales des montants (colonnes precision = 10, scale = 2)
+    public static final int SCALE = 2;
+
+    private static final long BASIS_POINTS = 10_000L;
+
+    private Money() {
+    }
+
+    // BigDecimal -> centimes. Un montant plus précis que le centime (10.999) est refusé plutôt qu'arrondi ;
+    // les zéros non significatifs (10.500) sont acceptés.
+    public static long toCents(BigDecimal amount) {
+        try {
+            return amount.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Montant invalide (au plus " + SCALE + " décimales) : " + amount, e);
+        }
+    }
+
+    // Centimes -> BigDecimal à 2 décimales
+    public static BigDecimal toBigDecimal(long cents) {
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+
+    // Prix unitaire * quantité, avec détection de dépassement
+    public static long times(long cents, int quantity) {
+        return Math.multiplyExact(cents, (long) quantity);
+    }
+
+    public static long add(long a, long b) {
+        return Math.addExact(a, b);
+    }
+
+    public static long subtract(long a, long b) {
+        return Math.subtractExact(a, b);
+    }
+
+    // Part d'un montant exprimée en points de base (1250 = 12,50 %), arrondie demi vers le haut
+    public static long percentage(long cents, long basisPoints) {
+        return divideHalfUp(Math.multiplyExact(cents, basisPoints), BASIS_POINTS);
+    }
+
+    // Division entière arrondie demi vers le haut (en valeur absolue)
+    public static long divideHalfUp(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (Math.abs(remainder) * 2 >= Math.abs(divisor)) {
+            quotient += Long.signum(dividend) * Long.signum(divisor);
+        }
+        return quotient;
+    }
+}
@@ -0,0 +1,48 @@
+package com.anh.e_commerce_platform.pricing;
+
+import com.anh.e_commerce_platform.entity.Promotion;
+import com.anh.e_commerce_platform.entity.PromotionType;
+import com.anh.e_commerce_platform.money.Money;
+
+import java.time.ZoneId;
+
+// Règle de remise aplatie en champs primitifs pour une évaluation sans allocation
+final class CompiledRule {
+
+    final long promotionId;
+    final boolean percentage;
+    final long value; // points de base ou centimes par unité
+    final int minQuantity;
+    final long startsAtMillis;
+    final long endsAtMillis;
+
+    CompiledRule(Promotion promotion, ZoneId zone) {
+        this.promotionId = promotion.getId();
+        this.percentage = promotion.getType() == PromotionType.PERCENTAGE;
+        this.value = promotion.discountValueHundredths();
+        this.minQuantity = promotion.getMinQuantity() == null ? 1 : promotion.getMinQuantity();
+        this.startsAtMillis = promotion.getStartsAt() == null
+                ? Long.MIN_VALUE
+                : promotion.getStartsAt().atZone(zone).toInstant().toEpochMilli();
+        this.endsAtMillis = promotion.getEndsAt() == null
+                ? Long.MAX_VALUE
+                : promotion.getEndsAt().atZone(zone).toInstant().toEpochMilli();
+    }
+
+    // Période de validité [début, fin)
+    boolean activeAt(long nowMillis) {
+        return nowMillis >= startsAtMillis && nowMillis < endsAtMillis;
+    }
+
+    // Remise (en centimes) pour une ligne, 0 si la règle ne s'applique pas
+    long discount(long unitCents, int quantity, long nowMillis) {
+        if (quantity < minQuantity || !activeAt(nowMillis)) {
+            return 0L;
+        }
+        long lineTotal = Money.times(unitCents, quantity);
+        long discount = percentage
+                ? Money.percentage(lineTotal, value)
+                : Money.times(value, quantity);
+        return Math.min(discount, lineTotal);
+    }
+}
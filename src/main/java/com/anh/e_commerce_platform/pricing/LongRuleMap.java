@@ -0,0 +1,63 @@
+package com.anh.e_commerce_platform.pricing;
+
+import com.anh.e_commerce_platform.collection.LongHashTable;
+
+import java.util.List;
+import java.util.Map;
+
+// Table à adressage ouvert clé long -> règles, figée à la construction (comme
+// reporting.LongAggregateMap) : la recherche d'un produit ou d'une catégorie ne boxe pas la clé.
+final class LongRuleMap extends LongHashTable {
+
+    static final LongRuleMap EMPTY = new LongRuleMap(Map.of());
+
+    private CompiledRule[][] values;
+
+    LongRuleMap(Map<Long, List<CompiledRule>> rules) {
+        super(rules.size());
+        values = new CompiledRule[capacity()][];
+        rules.forEach((key, list) -> {
+            // insert d'abord : il peut remplacer le tableau des valeurs
+            int slot = insert(key);
+            values[slot] = list.toArray(RuleIndex.NONE);
+        });
+    }
+
+    // Règles de la clé, tableau vide si aucune
+    CompiledRule[] get(long key) {
+        int slot = find(key);
+        return slot < 0 ? RuleIndex.NONE : values[slot];
+    }
+
+    // Nombre total de règles, toutes clés confondues
+    int ruleCount() {
+        int count = 0;
+        for (CompiledRule[] rules : values) {
+            if (rules != null) {
+                count += rules.length;
+            }
+        }
+        return count;
+    }
+
+    // Au moins une règle en vigueur à cet instant ?
+    boolean anyActiveAt(long nowMillis) {
+        for (CompiledRule[] rules : values) {
+            if (rules != null && RuleIndex.anyActiveAt(rules, nowMillis)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected void moveValues(int capacity, int[] newSlots) {
+        CompiledRule[][] oldValues = values;
+        values = new CompiledRule[capacity][];
+        for (int i = 0; i < newSlots.length; i++) {
+            if (newSlots[i] >= 0) {
+                values[newSlots[i]] = oldValues[i];
+            }
+        }
+    }
+}
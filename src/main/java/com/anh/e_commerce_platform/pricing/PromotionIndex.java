@@ -0,0 +1,140 @@
+package com.anh.e_commerce_platform.pricing;
+
+import com.anh.e_commerce_platform.entity.Promotion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Structure immuable compilée à partir des promotions actives.
+// Elle est remplacée en bloc (jamais modifiée) quand les promotions changent.
+public final class PromotionIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(PromotionIndex.class);
+
+    private static final PromotionIndex EMPTY = new PromotionIndex(
+            new RuleIndex(LongRuleMap.EMPTY, LongRuleMap.EMPTY, RuleIndex.NONE), Map.of(), 0L);
+
+    private final RuleIndex base;
+    private final Map<String, RuleIndex> coupons;
+    private final long compiledAtMillis;
+
+    private PromotionIndex(RuleIndex base, Map<String, RuleIndex> coupons, long compiledAtMillis) {
+        this.base = base;
+        this.coupons = Map.copyOf(coupons);
+        this.compiledAtMillis = compiledAtMillis;
+    }
+
+    public static PromotionIndex empty() {
+        return EMPTY;
+    }
+
+    public static PromotionIndex compile(List<Promotion> promotions, ZoneId zone) {
+        Builder base = new Builder();
+        Map<String, Builder> coupons = new HashMap<>();
+
+        for (Promotion promotion : promotions) {
+            if (!hasTarget(promotion)) {
+                // Cible obligatoire, vérifiée à l'enregistrement (PromotionService) : reste d'une ligne antérieure
+                logger.warn("Promotion {} ignorée : portée {} sans cible", promotion.getId(), promotion.getScope());
+                continue;
+            }
+            String coupon = normalizeCoupon(promotion.getCouponCode());
+            Builder target = coupon == null ? base : coupons.computeIfAbsent(coupon, c -> new Builder());
+            target.add(promotion, new CompiledRule(promotion, zone));
+        }
+
+        Map<String, RuleIndex> compiledCoupons = new HashMap<>();
+        coupons.forEach((code, builder) -> compiledCoupons.put(code, builder.build()));
+        return new PromotionIndex(base.build(), compiledCoupons, System.currentTimeMillis());
+    }
+
+    // Le code promo correspond-il à au moins une promotion active et en cours de validité ?
+    // (un code expiré ou pas encore ouvert est refusé au lieu de ne donner aucune remise)
+    public boolean hasCoupon(String couponCode, long nowMillis) {
+        String coupon = normalizeCoupon(couponCode);
+        if (coupon == null) {
+            return false;
+        }
+        RuleIndex couponRules = coupons.get(coupon);
+        return couponRules != null && couponRules.activeAt(nowMillis);
+    }
+
+    // Meilleure remise (non cumulable) pour une ligne, en centimes.
+    // appliedPromotion[0] reçoit l'ID de la promotion retenue (inchangé si aucune remise) : l'appelant réutilise
+    // le même tableau pour toutes les lignes, rien n'est alloué ici.
+    public long lineDiscount(long productId, long categoryId, long unitCents, int quantity, String couponCode,
+            long nowMillis, long[] appliedPromotion) {
+        long discount = base.bestDiscount(productId, categoryId, unitCents, quantity, nowMillis, 0L,
+                appliedPromotion);
+        String coupon = normalizeCoupon(couponCode);
+        if (coupon != null) {
+            RuleIndex couponRules = coupons.get(coupon);
+            if (couponRules != null) {
+                discount = couponRules.bestDiscount(productId, categoryId, unitCents, quantity, nowMillis, discount,
+                        appliedPromotion);
+            }
+        }
+        return discount;
+    }
+
+    public int ruleCount() {
+        int count = base.size();
+        for (RuleIndex index : coupons.values()) {
+            count += index.size();
+        }
+        return count;
+    }
+
+    public long compiledAtMillis() {
+        return compiledAtMillis;
+    }
+
+    private static boolean hasTarget(Promotion promotion) {
+        switch (promotion.getScope()) {
+            case PRODUCT:
+                return promotion.getProduct() != null && promotion.getProduct().getId() != null;
+            case CATEGORY:
+                return promotion.getCategory() != null && promotion.getCategory().getId() != null;
+            default:
+                return true;
+        }
+    }
+
+    public static String normalizeCoupon(String couponCode) {
+        if (couponCode == null || couponCode.isBlank()) {
+            return null;
+        }
+        return couponCode.trim().toUpperCase(Locale.ROOT);
+    }
+
+    // Regroupement des règles par clé avant gel en tableaux
+    private static final class Builder {
+
+        private final Map<Long, List<CompiledRule>> byProduct = new HashMap<>();
+        private final Map<Long, List<CompiledRule>> byCategory = new HashMap<>();
+        private final List<CompiledRule> global = new ArrayList<>();
+
+        void add(Promotion promotion, CompiledRule rule) {
+            switch (promotion.getScope()) {
+                case PRODUCT:
+                    byProduct.computeIfAbsent(promotion.getProduct().getId(), id -> new ArrayList<>()).add(rule);
+                    break;
+                case CATEGORY:
+                    byCategory.computeIfAbsent(promotion.getCategory().getId(), id -> new ArrayList<>()).add(rule);
+                    break;
+                default:
+                    global.add(rule);
+            }
+        }
+
+        RuleIndex build() {
+            return new RuleIndex(new LongRuleMap(byProduct), new LongRuleMap(byCategory), global.toArray(RuleIndex.NONE));
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.anh.e_commerce_platform.pricing;
+
+// Règles indexées par produit, par catégorie, et règles globales
+final class RuleIndex {
+
+    static final CompiledRule[] NONE = new CompiledRule[0];
+
+    private final LongRuleMap byProduct;
+    private final LongRuleMap byCategory;
+    private final CompiledRule[] global;
+
+    RuleIndex(LongRuleMap byProduct, LongRuleMap byCategory, CompiledRule[] global) {
+        this.byProduct = byProduct;
+        this.byCategory = byCategory;
+        this.global = global;
+    }
+
+    int size() {
+        return global.length + byProduct.ruleCount() + byCategory.ruleCount();
+    }
+
+    // Au moins une règle dont la période de validité contient cet instant ?
+    boolean activeAt(long nowMillis) {
+        return anyActiveAt(global, nowMillis) || byProduct.anyActiveAt(nowMillis) || byCategory.anyActiveAt(nowMillis);
+    }
+
+    // Meilleure remise applicable à la ligne, si elle dépasse "current" ; bestRule[0] reçoit alors l'ID de la
+    // promotion retenue (inchangé sinon)
+    long bestDiscount(long productId, long categoryId, long unitCents, int quantity, long nowMillis, long current,
+            long[] bestRule) {
+        long best = best(byProduct.get(productId), unitCents, quantity, nowMillis, current, bestRule);
+        if (categoryId != 0L) {
+            best = best(byCategory.get(categoryId), unitCents, quantity, nowMillis, best, bestRule);
+        }
+        return best(global, unitCents, quantity, nowMillis, best, bestRule);
+    }
+
+    static boolean anyActiveAt(CompiledRule[] rules, long nowMillis) {
+        for (CompiledRule rule : rules) {
+            if (rule.activeAt(nowMillis)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long best(CompiledRule[] rules, long unitCents, int quantity, long nowMillis, long current,
+            long[] bestRule) {
+        long best = current;
+        for (CompiledRule rule : rules) {
+            long discount = rule.discount(unitCents, quantity, nowMillis);
+            if (discount > best) {
+                best = discount;
+                bestRule[0] = rule.promotionId;
+            }
+        }
+        return best;
+    }
+}
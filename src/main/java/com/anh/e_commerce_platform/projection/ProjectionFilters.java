@@ -0,0 +1,35 @@
+package com.anh.e_commerce_platform.projection;
+
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.EscapeCharacter;
+
+import com.anh.e_commerce_platform.entity.Order;
+import com.anh.e_commerce_platform.entity.Product;
+
+// Filtres des lectures partielles, équivalents des requêtes des repositories.
+// Les clés étrangères sont comparées sans jointure (category.id, user.id).
+public final class ProjectionFilters {
+
+    private ProjectionFilters() {
+    }
+
+    public static <T> Specification<T> byId(Long id) {
+        return (root, query, cb) -> cb.equal(root.get("id"), id);
+    }
+
+    public static Specification<Product> productsInCategory(Long categoryId) {
+        return (root, query, cb) -> cb.equal(root.get("category").get("id"), categoryId);
+    }
+
+    // Même forme que findByNameContainingIgnoreCase : upper(name) like upper('%...%') (index trigramme),
+    // avec % et _ saisis par le client échappés comme le fait Spring Data (recherche littérale)
+    public static Specification<Product> productNameContains(String name) {
+        String pattern = "%" + EscapeCharacter.DEFAULT.escape(name.toUpperCase()) + "%";
+        return (root, query, cb) -> cb.like(cb.upper(root.get("name")), pattern,
+                EscapeCharacter.DEFAULT.getEscapeCharacter());
+    }
+
+    public static Specification<Order> ordersOfUser(Long userId) {
+        return (root, query, cb) -> cb.equal(root.get("user").get("id"), userId);
+    }
+}
@@ -0,0 +1,106 @@
+package com.anh.e_commerce_platform.projection;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+// Champs qu'un client peut demander avec ?fields=... pour une entité : nom exposé (ex. "category.name"),
+// chemin JPA correspondant et conversion éventuelle de la valeur lue (centimes -> montant).
+public final class ProjectionSchema<T> {
+
+    private final Class<T> entityClass;
+    private final Map<String, Field> fields;
+
+    private ProjectionSchema(Class<T> entityClass, Map<String, Field> fields) {
+        this.entityClass = entityClass;
+        this.fields = Collections.unmodifiableMap(fields);
+    }
+
+    public static <T> Builder<T> builder(Class<T> entityClass) {
+        return new Builder<>(entityClass);
+    }
+
+    public Class<T> getEntityClass() {
+        return entityClass;
+    }
+
+    // "id,name,category" -> champs dans l'ordre demandé ; un préfixe ("category") désigne tous ses sous-champs
+    public List<Field> select(String requested) {
+        Set<Field> selected = new LinkedHashSet<>();
+        for (String token : requested.split(",")) {
+            String name = token.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            Field field = fields.get(name);
+            if (field != null) {
+                selected.add(field);
+                continue;
+            }
+            List<Field> nested = fields.values().stream().filter(f -> f.getName().startsWith(name + ".")).toList();
+            if (nested.isEmpty()) {
+                throw new IllegalArgumentException("Champ inconnu : " + name + " (disponibles : "
+                        + String.join(", ", fields.keySet()) + ")");
+            }
+            selected.addAll(nested);
+        }
+        if (selected.isEmpty()) {
+            throw new IllegalArgumentException("Aucun champ demandé");
+        }
+        return new ArrayList<>(selected);
+    }
+
+    // Champ exposé : chemin d'attributs JPA (les segments intermédiaires sont des jointures)
+    public static final class Field {
+
+        private final String name;
+        private final String[] path;
+        private final Function<Object, Object> converter;
+
+        private Field(String name, Function<Object, Object> converter) {
+            this.name = name;
+            this.path = name.split("\\.");
+            this.converter = converter;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String[] getPath() {
+            return path;
+        }
+
+        public Object convert(Object value) {
+            return value == null ? null : converter.apply(value);
+        }
+    }
+
+    public static final class Builder<T> {
+
+        private final Class<T> entityClass;
+        private final Map<String, Field> fields = new LinkedHashMap<>();
+
+        private Builder(Class<T> entityClass) {
+            this.entityClass = entityClass;
+        }
+
+        public Builder<T> field(String name) {
+            return field(name, Function.identity());
+        }
+
+        public Builder<T> field(String name, Function<Object, Object> converter) {
+            fields.put(name, new Field(name, converter));
+            return this;
+        }
+
+        public ProjectionSchema<T> build() {
+            return new ProjectionSchema<>(entityClass, new LinkedHashMap<>(fields));
+        }
+    }
+}
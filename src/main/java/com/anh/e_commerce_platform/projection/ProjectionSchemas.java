@@ -0,0 +1,47 @@
+package com.anh.e_commerce_platform.projection;
+
+import com.anh.e_commerce_platform.entity.Order;
+import com.anh.e_commerce_platform.entity.Product;
+import com.anh.e_commerce_platform.money.Money;
+
+// Champs sélectionnables par ?fields=... ; mêmes noms que dans le JSON complet.
+// Le mot de passe de l'utilisateur n'est jamais sélectionnable.
+public final class ProjectionSchemas {
+
+    public static final ProjectionSchema<Product> PRODUCT = ProjectionSchema.builder(Product.class)
+            .field("id")
+            .field("name")
+            .field("description")
+            .field("price", ProjectionSchemas::money)
+            .field("stock")
+            .field("lowStockThreshold")
+            .field("imageHash")
+            .field("version")
+            .field("category.id")
+            .field("category.name")
+            .field("category.description")
+            .field("category.version")
+            .build();
+
+    public static final ProjectionSchema<Order> ORDER = ProjectionSchema.builder(Order.class)
+            .field("id")
+            .field("orderDate")
+            .field("status")
+            .field("totalAmount", ProjectionSchemas::money)
+            .field("discountAmount", ProjectionSchemas::money)
+            .field("version")
+            .field("user.id")
+            .field("user.email")
+            .field("user.firstName")
+            .field("user.lastName")
+            .field("user.role")
+            .build();
+
+    private ProjectionSchemas() {
+    }
+
+    // Les montants sont lus en centimes (MoneyConverter) et exposés comme dans les entités
+    private static Object money(Object cents) {
+        return Money.toBigDecimal((Long) cents);
+    }
+}
@@ -0,0 +1,124 @@
+package com.anh.e_commerce_platform.recommendation;
+
+import com.anh.e_commerce_platform.collection.LongSet;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// Matrice creuse de co-occurrence : pour chaque produit, le nombre de commandes où il apparaît
+// avec chacun des autres produits. Lignes en tables long -> int sans boxing ; seule la matrice
+// complète tient une entrée par produit. Non synchronisée : un seul écrivain à la fois.
+// Chaque commande est comptée au plus une fois et retirée au plus une fois (ensembles d'identifiants).
+public class CoOccurrenceMatrix {
+
+    private final LongIntMap orderCounts; // commandes contenant le produit
+    private final Map<Long, LongIntMap> rows;
+    private final LongSet appliedOrders;
+    private final LongSet removedOrders;
+    private long orders;
+
+    public CoOccurrenceMatrix() {
+        orderCounts = new LongIntMap(1024);
+        rows = new HashMap<>();
+        appliedOrders = new LongSet(1024);
+        removedOrders = new LongSet(16);
+    }
+
+    // Copie des compteurs seuls, pour calculer des voisins pendant que l'original continue d'être modifié
+    private CoOccurrenceMatrix(CoOccurrenceMatrix other) {
+        orderCounts = other.orderCounts.copy();
+        rows = new HashMap<>(other.rows.size() * 2);
+        other.rows.forEach((productId, row) -> rows.put(productId, row.copy()));
+        appliedOrders = null;
+        removedOrders = null;
+        orders = other.orders;
+    }
+
+    public CoOccurrenceMatrix snapshot() {
+        return new CoOccurrenceMatrix(this);
+    }
+
+    // Ajouter une commande : produits distincts qu'elle contient ; false si elle est déjà comptée
+    public boolean addOrder(long orderId, long[] productIds) {
+        if (!appliedOrders.add(orderId)) {
+            return false;
+        }
+        for (long productId : productIds) {
+            orderCounts.increment(productId);
+        }
+        for (int i = 0; i < productIds.length; i++) {
+            for (int j = i + 1; j < productIds.length; j++) {
+                row(productIds[i]).increment(productIds[j]);
+                row(productIds[j]).increment(productIds[i]);
+            }
+        }
+        orders++;
+        return true;
+    }
+
+    // Retirer une commande annulée (mêmes produits qu'à l'ajout) ; false si elle n'a jamais été comptée
+    // ou a déjà été retirée
+    public boolean removeOrder(long orderId, long[] productIds) {
+        if (!appliedOrders.contains(orderId) || !removedOrders.add(orderId)) {
+            return false;
+        }
+        for (long productId : productIds) {
+            orderCounts.decrement(productId);
+        }
+        for (int i = 0; i < productIds.length; i++) {
+            for (int j = i + 1; j < productIds.length; j++) {
+                row(productIds[i]).decrement(productIds[j]);
+                row(productIds[j]).decrement(productIds[i]);
+            }
+        }
+        orders--;
+        return true;
+    }
+
+    // k voisins les plus proches selon le cosinus (commandes communes / racine du produit des fréquences) :
+    // un produit présent dans toutes les commandes ne devient pas le voisin de tout le catalogue
+    public Neighbours topK(long productId, int k, int minCoPurchases) {
+        LongIntMap row = rows.get(productId);
+        if (row == null) {
+            return Neighbours.EMPTY;
+        }
+        double self = orderCounts.get(productId);
+        Neighbours.Selector selector = new Neighbours.Selector(k);
+        row.forEach((other, count) -> {
+            // Paires retombées à zéro après une annulation ignorées
+            if (count > 0 && count >= minCoPurchases) {
+                selector.offer(other, count, count / Math.sqrt(self * orderCounts.get(other)));
+            }
+        });
+        return selector.build();
+    }
+
+    public long[] productIds() {
+        return rows.keySet().stream().mapToLong(Long::longValue).toArray();
+    }
+
+    public int productCount() {
+        return rows.size();
+    }
+
+    // Paires de produits achetés ensemble au moins une fois
+    public long pairCount() {
+        long[] pairs = new long[1];
+        for (LongIntMap row : rows.values()) {
+            row.forEach((other, count) -> {
+                if (count > 0) {
+                    pairs[0]++;
+                }
+            });
+        }
+        return pairs[0] / 2;
+    }
+
+    public long orderCount() {
+        return orders;
+    }
+
+    private LongIntMap row(long productId) {
+        return rows.computeIfAbsent(productId, id -> new LongIntMap(8));
+    }
+}
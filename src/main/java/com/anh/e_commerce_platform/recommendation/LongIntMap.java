@@ -0,0 +1,65 @@
+package com.anh.e_commerce_platform.recommendation;
+
+import com.anh.e_commerce_platform.collection.LongHashTable;
+
+// Table de hachage à adressage ouvert : clé long -> compteur int, sans boxing.
+// Une ligne de la matrice de co-occurrence (produit voisin -> nombre de commandes communes).
+final class LongIntMap extends LongHashTable {
+
+    private int[] values;
+
+    LongIntMap(int expectedSize) {
+        super(expectedSize);
+        values = new int[capacity()];
+    }
+
+    private LongIntMap(LongIntMap other) {
+        super(other);
+        values = other.values.clone();
+    }
+
+    LongIntMap copy() {
+        return new LongIntMap(this);
+    }
+
+    int increment(long key) {
+        // insert d'abord : il peut remplacer le tableau des valeurs
+        int slot = insert(key);
+        return ++values[slot];
+    }
+
+    // Une clé retombée à zéro reste dans la table (pas de suppression en adressage ouvert)
+    int decrement(long key) {
+        int slot = find(key);
+        return slot < 0 ? 0 : --values[slot];
+    }
+
+    int get(long key) {
+        int slot = find(key);
+        return slot < 0 ? 0 : values[slot];
+    }
+
+    void forEach(EntryConsumer consumer) {
+        for (int i = 0; i < values.length; i++) {
+            if (isUsed(i)) {
+                consumer.accept(keyAt(i), values[i]);
+            }
+        }
+    }
+
+    @Override
+    protected void moveValues(int capacity, int[] newSlots) {
+        int[] oldValues = values;
+        values = new int[capacity];
+        for (int i = 0; i < newSlots.length; i++) {
+            if (newSlots[i] >= 0) {
+                values[newSlots[i]] = oldValues[i];
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface EntryConsumer {
+        void accept(long key, int value);
+    }
+}
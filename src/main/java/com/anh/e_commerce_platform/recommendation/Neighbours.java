@@ -0,0 +1,89 @@
+package com.anh.e_commerce_platform.recommendation;
+
+import java.util.Arrays;
+
+// Meilleurs voisins d'un produit, précalculés et immuables (lus sans verrou), du plus proche au moins proche
+public final class Neighbours {
+
+    public static final Neighbours EMPTY = new Neighbours(new long[0], new int[0], new double[0]);
+
+    private final long[] productIds;
+    private final int[] coPurchases;
+    private final double[] scores;
+
+    private Neighbours(long[] productIds, int[] coPurchases, double[] scores) {
+        this.productIds = productIds;
+        this.coPurchases = coPurchases;
+        this.scores = scores;
+    }
+
+    public int size() {
+        return productIds.length;
+    }
+
+    public long productId(int index) {
+        return productIds[index];
+    }
+
+    // Nombre de commandes contenant les deux produits
+    public int coPurchases(int index) {
+        return coPurchases[index];
+    }
+
+    public double score(int index) {
+        return scores[index];
+    }
+
+    // Sélection des k meilleurs par insertion dans des tableaux triés (k petit : pas de tas ni de boxing)
+    static final class Selector {
+
+        private final long[] productIds;
+        private final int[] coPurchases;
+        private final double[] scores;
+        private int size;
+
+        Selector(int k) {
+            productIds = new long[k];
+            coPurchases = new int[k];
+            scores = new double[k];
+        }
+
+        void offer(long productId, int count, double score) {
+            int k = scores.length;
+            if (k == 0 || (size == k && !before(score, count, productId, k - 1))) {
+                return;
+            }
+            int position = Math.min(size, k - 1);
+            while (position > 0 && before(score, count, productId, position - 1)) {
+                position--;
+            }
+            int moved = Math.min(size, k - 1) - position;
+            System.arraycopy(productIds, position, productIds, position + 1, moved);
+            System.arraycopy(coPurchases, position, coPurchases, position + 1, moved);
+            System.arraycopy(scores, position, scores, position + 1, moved);
+            productIds[position] = productId;
+            coPurchases[position] = count;
+            scores[position] = score;
+            size = Math.min(size + 1, k);
+        }
+
+        // Score décroissant, puis plus d'achats communs, puis identifiant croissant (résultat stable)
+        private boolean before(double score, int count, long productId, int index) {
+            if (score != scores[index]) {
+                return score > scores[index];
+            }
+            if (count != coPurchases[index]) {
+                return count > coPurchases[index];
+            }
+            return productId < productIds[index];
+        }
+
+        Neighbours build() {
+            if (size == 0) {
+                return EMPTY;
+            }
+            return new Neighbours(Arrays.copyOf(productIds, size), Arrays.copyOf(coPurchases, size),
+                    Arrays.copyOf(scores, size));
+        }
+    }
+}
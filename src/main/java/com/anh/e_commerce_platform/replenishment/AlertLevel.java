@@ -0,0 +1,13 @@
+package com.anh.e_commerce_platform.replenishment;
+
+// Niveau d'alerte de stock, du plus urgent au moins urgent
+public enum AlertLevel {
+
+    OUT_OF_STOCK, // plus rien à vendre
+    STOCKOUT_PROJECTED, // rupture prévue avant qu'un réapprovisionnement puisse arriver (délai de livraison)
+    BELOW_THRESHOLD; // stock sous le seuil du produit
+
+    public boolean isMoreUrgentThan(AlertLevel other) {
+        return other == null || ordinal() < other.ordinal();
+    }
+}
@@ -0,0 +1,75 @@
+package com.anh.e_commerce_platform.replenishment;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Compteurs à décroissance exponentielle par produit : chaque vente ajoute sa quantité,
+// la valeur diminue de moitié à chaque demi-vie. Pour un rythme de vente constant r,
+// la valeur tend vers r × tau (tau = demi-vie / ln 2), d'où la vitesse estimée valeur / tau.
+// Deux nombres par produit, quel que soit l'historique : aucune fenêtre de ventes à conserver.
+public class DecayingCounters {
+
+    private static final double MILLIS_PER_DAY = Duration.ofDays(1).toMillis();
+
+    private final double tauMillis;
+
+    // {valeur, instant de la valeur en ms}, remplacé à chaque vente : lecture cohérente sans verrou
+    private final Map<Long, double[]> counters = new ConcurrentHashMap<>();
+
+    public DecayingCounters(Duration halfLife) {
+        this.tauMillis = halfLife.toMillis() / Math.log(2);
+    }
+
+    // Ajouter une vente ; une vente plus ancienne que la valeur (amorçage) est décrue jusqu'à elle
+    public void add(long key, double amount, long atMillis) {
+        counters.compute(key, (k, counter) -> {
+            if (counter == null) {
+                return new double[] { amount, atMillis };
+            }
+            if (atMillis <= counter[1]) {
+                return new double[] { counter[0] + amount * decay((long) counter[1] - atMillis), counter[1] };
+            }
+            return new double[] { counter[0] * decay(atMillis - (long) counter[1]) + amount, atMillis };
+        });
+    }
+
+    // Retirer une vente déjà comptée (commande annulée), avec le poids qu'elle a aujourd'hui dans la valeur ;
+    // la valeur ne descend pas sous zéro (vente déjà oubliée par prune)
+    public void subtract(long key, double amount, long atMillis) {
+        counters.computeIfPresent(key, (k, counter) -> {
+            double value = atMillis <= counter[1]
+                    ? counter[0] - amount * decay((long) counter[1] - atMillis)
+                    : counter[0] * decay(atMillis - (long) counter[1]) - amount;
+            return new double[] { Math.max(0.0, value), Math.max(counter[1], atMillis) };
+        });
+    }
+
+    // Vitesse estimée en unités par jour à l'instant donné (0 si aucune vente)
+    public double dailyRate(long key, long nowMillis) {
+        double[] counter = counters.get(key);
+        if (counter == null) {
+            return 0.0;
+        }
+        return counter[0] * decay(Math.max(0, nowMillis - (long) counter[1])) / tauMillis * MILLIS_PER_DAY;
+    }
+
+    public void remove(long key) {
+        counters.remove(key);
+    }
+
+    // Oublier les compteurs devenus négligeables (produits qui ne se vendent plus)
+    public int prune(long nowMillis, double minDailyRate) {
+        int before = counters.size();
+        counters.keySet().removeIf(key -> dailyRate(key, nowMillis) < minDailyRate);
+        return before - counters.size();
+    }
+
+    public int size() {
+        return counters.size();
+    }
+
+    private double decay(long elapsedMillis) {
+        return Math.exp(-elapsedMillis / tauMillis);
+    }
+}
@@ -0,0 +1,75 @@
+package com.anh.e_commerce_platform.reporting;
+
+import com.anh.e_commerce_platform.collection.LongHashTable;
+
+import java.util.Arrays;
+
+// Table de hachage à adressage ouvert : clé long -> (lignes, quantité, chiffre d'affaires en centimes).
+// Évite le boxing de HashMap<Long, ...> dans les boucles de scan.
+final class LongAggregateMap extends LongHashTable {
+
+    private long[] lineCounts;
+    private long[] quantities;
+    private long[] revenueCents;
+
+    LongAggregateMap(int expectedSize) {
+        super(expectedSize);
+        lineCounts = new long[capacity()];
+        quantities = new long[capacity()];
+        revenueCents = new long[capacity()];
+    }
+
+    void add(long key, long lines, long quantity, long revenue) {
+        int slot = insert(key);
+        lineCounts[slot] += lines;
+        quantities[slot] += quantity;
+        revenueCents[slot] += revenue;
+    }
+
+    // Fusionne un autre résultat partiel dans celui-ci
+    void merge(LongAggregateMap other) {
+        for (int i = 0; i < other.capacity(); i++) {
+            if (other.isUsed(i)) {
+                add(other.keyAt(i), other.lineCounts[i], other.quantities[i], other.revenueCents[i]);
+            }
+        }
+    }
+
+    // Parcours des entrées dans l'ordre croissant des clés
+    void forEachSorted(EntryConsumer consumer) {
+        long[] sortedKeys = new long[size()];
+        int n = 0;
+        for (int i = 0; i < capacity(); i++) {
+            if (isUsed(i)) {
+                sortedKeys[n++] = keyAt(i);
+            }
+        }
+        Arrays.sort(sortedKeys);
+        for (long key : sortedKeys) {
+            int slot = find(key);
+            consumer.accept(key, lineCounts[slot], quantities[slot], revenueCents[slot]);
+        }
+    }
+
+    @Override
+    protected void moveValues(int capacity, int[] newSlots) {
+        long[] oldLines = lineCounts;
+        long[] oldQuantities = quantities;
+        long[] oldRevenue = revenueCents;
+        lineCounts = new long[capacity];
+        quantities = new long[capacity];
+        revenueCents = new long[capacity];
+        for (int i = 0; i < newSlots.length; i++) {
+            if (newSlots[i] >= 0) {
+                lineCounts[newSlots[i]] = oldLines[i];
+                quantities[newSlots[i]] = oldQuantities[i];
+                revenueCents[newSlots[i]] = oldRevenue[i];
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface EntryConsumer {
+        void accept(long key, long lines, long quantity, long revenueCents);
+    }
+}
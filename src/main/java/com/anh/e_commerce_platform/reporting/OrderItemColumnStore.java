@@ -0,0 +1,105 @@
+package com.anh.e_commerce_platform.reporting;
+
+import java.util.Arrays;
+
+// Instantané en colonnes de order_items joint à orders.
+// Une ligne = un index commun à tous les tableaux primitifs.
+public final class OrderItemColumnStore {
+
+    private final int size;
+    private final long[] productIds;
+    private final int[] quantities;
+    private final long[] unitPriceCents;
+    private final long[] orderEpochSeconds;
+    private final int[] statuses;
+    private final long builtAtMillis;
+
+    private OrderItemColumnStore(Builder builder) {
+        this.size = builder.size;
+        this.productIds = Arrays.copyOf(builder.productIds, builder.size);
+        this.quantities = Arrays.copyOf(builder.quantities, builder.size);
+        this.unitPriceCents = Arrays.copyOf(builder.unitPriceCents, builder.size);
+        this.orderEpochSeconds = Arrays.copyOf(builder.orderEpochSeconds, builder.size);
+        this.statuses = Arrays.copyOf(builder.statuses, builder.size);
+        this.builtAtMillis = System.currentTimeMillis();
+    }
+
+    public static OrderItemColumnStore empty() {
+        return new Builder(0).build();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long builtAtMillis() {
+        return builtAtMillis;
+    }
+
+    // Accès en lecture seule, réservé au moteur de requêtes du package
+    long[] productIds() {
+        return productIds;
+    }
+
+    int[] quantities() {
+        return quantities;
+    }
+
+    long[] unitPriceCents() {
+        return unitPriceCents;
+    }
+
+    long[] orderEpochSeconds() {
+        return orderEpochSeconds;
+    }
+
+    int[] statuses() {
+        return statuses;
+    }
+
+    // Construction incrémentale avec des tableaux qui grandissent par doublement
+    public static final class Builder {
+
+        private int size;
+        private long[] productIds;
+        private int[] quantities;
+        private long[] unitPriceCents;
+        private long[] orderEpochSeconds;
+        private int[] statuses;
+
+        public Builder(int initialCapacity) {
+            int capacity = Math.max(initialCapacity, 16);
+            this.productIds = new long[capacity];
+            this.quantities = new int[capacity];
+            this.unitPriceCents = new long[capacity];
+            this.orderEpochSeconds = new long[capacity];
+            this.statuses = new int[capacity];
+        }
+
+        public Builder add(long productId, int quantity, long unitPriceCent, long orderEpochSecond, int status) {
+            if (size == productIds.length) {
+                grow();
+            }
+            productIds[size] = productId;
+            quantities[size] = quantity;
+            unitPriceCents[size] = unitPriceCent;
+            orderEpochSeconds[size] = orderEpochSecond;
+            statuses[size] = status;
+            size++;
+            return this;
+        }
+
+        private void grow() {
+            int capacity = productIds.length * 2;
+            productIds = Arrays.copyOf(productIds, capacity);
+            quantities = Arrays.copyOf(quantities, capacity);
+            unitPriceCents = Arrays.copyOf(unitPriceCents, capacity);
+            orderEpochSeconds = Arrays.copyOf(orderEpochSeconds, capacity);
+            statuses = Arrays.copyOf(statuses, capacity);
+        }
+
+        public OrderItemColumnStore build() {
+            return new OrderItemColumnStore(this);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.anh.e_commerce_platform.reporting;
+
+import com.anh.e_commerce_platform.entity.OrderStatus;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+// Requête filtre + regroupement exécutée par scan parallèle (fork-join) sur un OrderItemColumnStore
+public final class OrderItemQuery {
+
+    // Taille minimale d'une tranche avant de ne plus découper le scan
+    private static final int SPLIT_THRESHOLD = 1 << 15;
+
+    private int statusMask = -1;
+    private long fromEpochSecond = Long.MIN_VALUE;
+    private long toEpochSecond = Long.MAX_VALUE;
+    private long[] productIds;
+    private ReportGroupBy groupBy = ReportGroupBy.NONE;
+
+    public OrderItemQuery statuses(Collection<OrderStatus> statuses) {
+        if (statuses != null && !statuses.isEmpty()) {
+            int mask = 0;
+            for (OrderStatus status : statuses) {
+                mask |= 1 << status.ordinal();
+            }
+            this.statusMask = mask;
+        }
+        return this;
+    }
+
+    // Borne inclusive
+    public OrderItemQuery from(LocalDate from) {
+        if (from != null) {
+            this.fromEpochSecond = from.atStartOfDay().toEpochSecond(ZoneOffset.UTC);
+        }
+        return this;
+    }
+
+    // Borne inclusive (jusqu'à la fin de la journée)
+    public OrderItemQuery to(LocalDate to) {
+        if (to != null) {
+            this.toEpochSecond = to.plusDays(1).atStartOfDay().toEpochSecond(ZoneOffset.UTC);
+        }
+        return this;
+    }
+
+    public OrderItemQuery productIds(Collection<Long> ids) {
+        if (ids != null && !ids.isEmpty()) {
+            long[] sorted = ids.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+            this.productIds = sorted;
+        }
+        return this;
+    }
+
+    public OrderItemQuery groupBy(ReportGroupBy groupBy) {
+        if (groupBy != null) {
+            this.groupBy = groupBy;
+        }
+        return this;
+    }
+
+    public List<ReportRow> execute(OrderItemColumnStore store) {
+        LongAggregateMap result = store.size() == 0
+                ? new LongAggregateMap(1)
+                : ForkJoinPool.commonPool().invoke(new ScanTask(store, 0, store.size()));
+
+        List<ReportRow> rows = new ArrayList<>(result.size());
+        result.forEachSorted((key, lines, quantity, revenue) -> rows.add(new ReportRow(formatKey(key), lines,
+                quantity, revenue)));
+        return rows;
+    }
+
+    // Scan séquentiel d'une tranche [start, end)
+    private LongAggregateMap scan(OrderItemColumnStore store, int start, int end) {
+        long[] products = store.productIds();
+        int[] quantities = store.quantities();
+        long[] prices = store.unitPriceCents();
+        long[] dates = store.orderEpochSeconds();
+        int[] statuses = store.statuses();
+
+        LongAggregateMap partial = new LongAggregateMap(groupBy == ReportGroupBy.NONE ? 1 : 64);
+        for (int i = start; i < end; i++) {
+            if ((statusMask & (1 << statuses[i])) == 0) {
+                continue;
+            }
+            long date = dates[i];
+            if (date < fromEpochSecond || date >= toEpochSecond) {
+                continue;
+            }
+            if (productIds != null && Arrays.binarySearch(productIds, products[i]) < 0) {
+                continue;
+            }
+            partial.add(keyOf(products[i], statuses[i], date), 1, quantities[i], prices[i] * quantities[i]);
+        }
+        return partial;
+    }
+
+    private long keyOf(long productId, int status, long epochSecond) {
+        switch (groupBy) {
+            case PRODUCT:
+                return productId;
+            case STATUS:
+                return status;
+            case DAY:
+                return Math.floorDiv(epochSecond, 86_400L);
+            case MONTH:
+                return monthIndex(Math.floorDiv(epochSecond, 86_400L));
+            default:
+                return 0L;
+        }
+    }
+
+    private String formatKey(long key) {
+        switch (groupBy) {
+            case PRODUCT:
+                return Long.toString(key);
+            case STATUS:
+                return OrderStatus.values()[(int) key].name();
+            case DAY:
+                return LocalDate.ofEpochDay(key).toString();
+            case MONTH:
+                return YearMonth.of((int) Math.floorDiv(key, 12L), (int) Math.floorMod(key, 12L) + 1).toString();
+            default:
+                return "TOTAL";
+        }
+    }
+
+    // Index de mois (année * 12 + mois - 1) calculé sans allocation (algorithme civil_from_days)
+    static long monthIndex(long epochDay) {
+        long z = epochDay + 719_468L;
+        long era = Math.floorDiv(z, 146_097L);
+        long doe = z - era * 146_097L;
+        long yoe = (doe - doe / 1_460L + doe / 36_524L - doe / 146_096L) / 365L;
+        long doy = doe - (365L * yoe + yoe / 4L - yoe / 100L);
+        long mp = (5L * doy + 2L) / 153L;
+        long month = mp < 10 ? mp + 3 : mp - 9;
+        long year = yoe + era * 400L + (month <= 2 ? 1 : 0);
+        return year * 12L + month - 1L;
+    }
+
+    private final class ScanTask extends RecursiveTask<LongAggregateMap> {
+
+        private final OrderItemColumnStore store;
+        private final int start;
+        private final int end;
+
+        ScanTask(OrderItemColumnStore store, int start, int end) {
+            this.store = store;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected LongAggregateMap compute() {
+            if (end - start <= SPLIT_THRESHOLD) {
+                return scan(store, start, end);
+            }
+            int middle = (start + end) >>> 1;
+            ScanTask left = new ScanTask(store, start, middle);
+            ScanTask right = new ScanTask(store, middle, end);
+            left.fork();
+            LongAggregateMap rightResult = right.compute();
+            LongAggregateMap leftResult = left.join();
+            if (leftResult.size() < rightResult.size()) {
+                rightResult.merge(leftResult);
+                return rightResult;
+            }
+            leftResult.merge(rightResult);
+            return leftResult;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.anh.e_commerce_platform.reporting;
+
+// Dimensions de regroupement disponibles pour les rapports ad hoc
+public enum ReportGroupBy {
+    NONE,
+    PRODUCT,
+    STATUS,
+    DAY,
+    MONTH
+}
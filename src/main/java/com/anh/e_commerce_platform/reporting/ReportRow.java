@@ -0,0 +1,35 @@
+package com.anh.e_commerce_platform.reporting;
+
+import java.math.BigDecimal;
+
+// Ligne de résultat d'un rapport : une clé de regroupement et ses agrégats
+public final class ReportRow {
+
+    private final String key;
+    private final long lineCount;
+    private final long quantity;
+    private final long revenueCents;
+
+    public ReportRow(String key, long lineCount, long quantity, long revenueCents) {
+        this.key = key;
+        this.lineCount = lineCount;
+        this.quantity = quantity;
+        this.revenueCents = revenueCents;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public long getLineCount() {
+        return lineCount;
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+
+    public BigDecimal getRevenue() {
+        return BigDecimal.valueOf(revenueCents, 2);
+    }
+}
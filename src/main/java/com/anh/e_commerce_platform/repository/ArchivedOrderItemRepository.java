@@ -0,0 +1,43 @@
+package com.anh.e_commerce_platform.repository;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.anh.e_commerce_platform.entity.ArchivedOrderItem;
+
+import jakarta.persistence.QueryHint;
+
+import java.util.Collection;
+import java.util.stream.Stream;
+
+@Repository
+public interface ArchivedOrderItemRepository extends JpaRepository<ArchivedOrderItem, Long> {
+
+    // Copie des lignes vers l'archive, avec la date de leur commande (clé de partition) ;
+    // table cible déclarée comme dans ArchivedOrderRepository.copyFromOrders
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "order_items_archive"))
+    @Query(value = "insert into order_items_archive (id, order_id, order_date, product_id, quantity, unit_price) "
+            + "select oi.id, oi.order_id, o.order_date, oi.product_id, oi.quantity, oi.unit_price "
+            + "from order_items oi join orders o on o.id = oi.order_id where oi.order_id in :ids",
+            nativeQuery = true)
+    int copyFromOrderItems(@Param("ids") Collection<Long> ids);
+
+    // Lignes archivées pour l'instantané de reporting (mêmes colonnes que OrderItemRepository.streamReportingRows)
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "10000"))
+    @Query("select i.productId, i.quantity, i.unitPrice, o.orderDate, o.status "
+            + "from ArchivedOrderItem i join ArchivedOrder o on o.id = i.orderId and o.orderDate = i.orderDate")
+    Stream<Object[]> streamReportingRows();
+
+    // Paniers archivés (mêmes colonnes que OrderItemRepository.streamBasketRows)
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "10000"))
+    @Query("select i.orderId, i.productId from ArchivedOrderItem i "
+            + "join ArchivedOrder o on o.id = i.orderId and o.orderDate = i.orderDate "
+            + "where o.status <> com.anh.e_commerce_platform.entity.OrderStatus.CANCELLED order by i.orderId")
+    Stream<Object[]> streamBasketRows();
+}
@@ -0,0 +1,39 @@
+package com.anh.e_commerce_platform.repository;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.anh.e_commerce_platform.entity.ArchivedOrder;
+
+import jakarta.persistence.QueryHint;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Repository
+public interface ArchivedOrderRepository extends JpaRepository<ArchivedOrder, Long> {
+
+    // Commandes archivées d'un utilisateur, les plus récentes d'abord
+    List<ArchivedOrder> findByUserIdOrderByOrderDateDesc(Long userId);
+
+    // Commandes archivées avec leur utilisateur (null s'il a été supprimé), lues par curseur
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "500"))
+    @Query("select a, u from ArchivedOrder a left join User u on u.id = a.userId order by a.id")
+    Stream<Object[]> streamAllWithUser();
+
+    // Copie des commandes vers l'archive (même identifiant, date d'archivage en plus)
+    // Table touchée déclarée à Hibernate : sinon une requête native vide tout le cache de second niveau
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "orders_archive"))
+    @Query(value = "insert into orders_archive (id, order_date, status, total_amount, discount_amount, user_id, archived_at) "
+            + "select id, order_date, status, total_amount, discount_amount, user_id, :archivedAt from orders where id in :ids",
+            nativeQuery = true)
+    int copyFromOrders(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+}
@@ -1,16 +1,55 @@
 package com.anh.e_commerce_platform.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.anh.e_commerce_platform.entity.Order;
 import com.anh.e_commerce_platform.entity.OrderItem;
 
+import jakarta.persistence.QueryHint;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
 
     // Lignes d'une commande
     List<OrderItem> findByOrder(Order order);
+
+    // Produits concernés par des commandes (remise en stock à répercuter sur les facettes)
+    @Query("select distinct oi.product.id from OrderItem oi where oi.order.id in :orderIds")
+    List<Long> findProductIdsByOrderIds(@Param("orderIds") Collection<Long> orderIds);
+
+    // Lignes jointes à leur commande pour l'instantané de reporting (produit, quantité, prix, date, statut)
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "10000"))
+    @Query("select oi.product.id, oi.quantity, oi.unitPrice, o.orderDate, o.status from OrderItem oi join oi.order o")
+    Stream<Object[]> streamReportingRows();
+
+    // Ventes récentes (produit, date, quantité) hors annulations : amorce des vitesses de vente au démarrage
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "10000"))
+    @Query("select oi.product.id, o.orderDate, oi.quantity from OrderItem oi join oi.order o "
+            + "where o.orderDate >= :since and o.status <> com.anh.e_commerce_platform.entity.OrderStatus.CANCELLED")
+    Stream<Object[]> streamSalesSince(@Param("since") LocalDateTime since);
+
+    // Ventes (produit, date, quantité) d'une commande : retirées des vitesses de vente à son annulation
+    @Query("select oi.product.id, o.orderDate, oi.quantity from OrderItem oi join oi.order o where o.id = :orderId")
+    List<Object[]> findSalesOfOrder(@Param("orderId") Long orderId);
+
+    // Paniers (commande, produit) hors annulations, groupés par commande : construction des co-occurrences
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "10000"))
+    @Query("select oi.order.id, oi.product.id from OrderItem oi "
+            + "where oi.order.status <> com.anh.e_commerce_platform.entity.OrderStatus.CANCELLED order by oi.order.id")
+    Stream<Object[]> streamBasketRows();
+
+    // Suppression des lignes des commandes archivées
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from OrderItem oi where oi.order.id in :orderIds")
+    int deleteByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
 }
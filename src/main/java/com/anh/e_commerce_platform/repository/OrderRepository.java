@@ -1,13 +1,24 @@
 package com.anh.e_commerce_platform.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.anh.e_commerce_platform.entity.Order;
 import com.anh.e_commerce_platform.entity.OrderStatus;
 import com.anh.e_commerce_platform.entity.User;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
@@ -15,9 +26,35 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     // Commandes d'un utilisateur
     List<Order> findByUser(User user);
 
+    // Toutes les commandes avec leur utilisateur, lues par curseur pour l'export en flux
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "500"))
+    @Query("select o from Order o join fetch o.user order by o.id")
+    Stream<Order> streamAll();
+
     // Commandes par statut
     List<Order> findByStatus(OrderStatus status);
 
     // Commandes d'un utilisateur par statut
     List<Order> findByUserAndStatus(User user, OrderStatus status);
+
+    // Statuts courants (id, statut, utilisateur) verrouillés pour une transition en masse
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o.id, o.status, o.user.id from Order o where o.id in :ids")
+    List<Object[]> lockStatusesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Transition de statut en une seule requête, limitée aux statuts sources autorisés
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update versioned Order o set o.status = :target where o.id in :ids and o.status in :sources")
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("sources") Collection<OrderStatus> sources,
+            @Param("target") OrderStatus target);
+
+    // Commandes terminées avant la date limite, candidates à l'archivage (par lots)
+    @Query("select o.id from Order o where o.status in :statuses and o.orderDate < :before order by o.id")
+    List<Long> findArchivableIds(@Param("statuses") Collection<OrderStatus> statuses,
+            @Param("before") LocalDateTime before, Pageable pageable);
+
+    // Suppression des commandes une fois copiées dans l'archive
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Order o where o.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -1,12 +1,20 @@
 package com.anh.e_commerce_platform.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.anh.e_commerce_platform.entity.Category;
 import com.anh.e_commerce_platform.entity.Product;
 
+import jakarta.persistence.QueryHint;
+
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
@@ -16,4 +24,25 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
 
     // Recherche par nom (barre de recherche)
     List<Product> findByNameContainingIgnoreCase(String name);
+
+    // État utile aux facettes (id, catégorie, prix en centimes, stock, version), lu au démarrage
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("select p.id, p.category.id, p.price, p.stock, p.version from Product p")
+    Stream<Object[]> streamFacetRows();
+
+    // État utile au réapprovisionnement (id, nom, stock, seuil, version), lu au démarrage
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("select p.id, p.name, p.stock, p.lowStockThreshold, p.version from Product p")
+    Stream<Object[]> streamStockRows();
+
+    // Stock courant (id, stock, version) des produits donnés, pour les abonnés au flux de stock
+    @Query("select p.id, p.stock, p.version from Product p where p.id in :ids")
+    List<Object[]> findStockLevels(@Param("ids") Collection<Long> ids);
+
+    // Remettre en stock les quantités des commandes données, en une seule requête
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update versioned Product p set p.stock = p.stock + "
+            + "(select sum(oi.quantity) from OrderItem oi where oi.product = p and oi.order.id in :orderIds) "
+            + "where p.id in (select oi2.product.id from OrderItem oi2 where oi2.order.id in :orderIds)")
+    int restockFromOrders(@Param("orderIds") Collection<Long> orderIds);
 }
@@ -0,0 +1,15 @@
+package com.anh.e_commerce_platform.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.anh.e_commerce_platform.entity.Promotion;
+
+import java.util.List;
+
+@Repository
+public interface PromotionRepository extends JpaRepository<Promotion, Long> {
+
+    // Promotions actives (compilées par le moteur de prix)
+    List<Promotion> findByActiveTrue();
+}
@@ -1,12 +1,17 @@
 package com.anh.e_commerce_platform.repository;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import com.anh.e_commerce_platform.entity.User;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
@@ -16,4 +21,9 @@ public interface UserRepository extends JpaRepository<User, Long> {
     // Vérifier si email existe déjà (register)
     boolean existsByEmail(String email);
 
+    // Tous les utilisateurs, lus par curseur pour l'export en flux
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "500"))
+    @Query("select u from User u order by u.id")
+    Stream<User> streamAll();
+
 }
@@ -2,6 +2,7 @@ package com.anh.e_commerce_platform.security;
 
 import com.anh.e_commerce_platform.service.UserDetailsServiceImpl;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,6 +12,7 @@ import org.springframework.context.annotation.Lazy;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -36,26 +38,28 @@ public class JwtRequestFilter extends OncePerRequestFilter {
         String username = null;
         String jwtToken = null;
 
-        // JWT Token est dans le format "Bearer token"
+        // JWT Token est dans le format "Bearer token" ; sans en-tête, requête anonyme (catalogue public,
+        // authentification) : rien à journaliser
         if (requestTokenHeader != null && requestTokenHeader.startsWith("Bearer ")) {
             jwtToken = requestTokenHeader.substring(7); // Enlever "Bearer "
             try {
                 username = jwtTokenUtil.getUsernameFromToken(jwtToken);
-            } catch (IllegalArgumentException e) {
-                System.out.println("Unable to get JWT Token");
             } catch (ExpiredJwtException e) {
-                System.out.println("JWT Token has expired");
+                logger.debug("JWT Token expiré");
+            } catch (JwtException | IllegalArgumentException e) {
+                // Token mal formé ou signature invalide : requête traitée comme anonyme, sans trace de pile
+                logger.warn("JWT Token invalide");
             }
-        } else {
-            logger.warn("JWT Token ne commence pas par Bearer String");
+        } else if (requestTokenHeader != null) {
+            logger.debug("En-tête Authorization sans Bearer ignoré");
         }
 
         // Valider le token
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+            UserDetails userDetails = loadUser(username);
 
             // Si le token est valide, configurer Spring Security
-            if (jwtTokenUtil.validateToken(jwtToken, userDetails)) {
+            if (userDetails != null && jwtTokenUtil.validateToken(jwtToken, userDetails)) {
                 UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = new UsernamePasswordAuthenticationToken(
                         userDetails, null, userDetails.getAuthorities());
                 usernamePasswordAuthenticationToken
@@ -67,4 +71,20 @@ public class JwtRequestFilter extends OncePerRequestFilter {
         }
         chain.doFilter(request, response);
     }
+
+    // Routes publiques : servies par la chaîne anonyme, jamais de token à lire
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return PublicRoutes.MATCHER.matches(request);
+    }
+
+    // Compte supprimé depuis l'émission du token : requête traitée comme anonyme
+    private UserDetails loadUser(String username) {
+        try {
+            return userDetailsService.loadUserByUsername(username);
+        } catch (UsernameNotFoundException e) {
+            logger.warn("JWT Token d'un utilisateur supprimé ou inconnu");
+            return null;
+        }
+    }
 }
@@ -0,0 +1,32 @@
+package com.anh.e_commerce_platform.security;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Routes publiques servies par la chaîne de sécurité anonyme (WebSecurityConfig) : lectures du catalogue,
+// connexion / inscription, sonde de santé. Aucun token n'y est lu, même envoyé par le client.
+// Les écritures (produits, catégories, image d'un produit) restent dans la chaîne authentifiée.
+public final class PublicRoutes {
+
+    public static final RequestMatcher MATCHER = build();
+
+    private PublicRoutes() {
+    }
+
+    private static RequestMatcher build() {
+        PathPatternRequestMatcher.Builder paths = PathPatternRequestMatcher.withDefaults();
+        List<RequestMatcher> matchers = new ArrayList<>();
+        matchers.add(paths.matcher("/api/auth/**"));
+        matchers.add(paths.matcher(HttpMethod.GET, "/actuator/health/**"));
+        for (String catalog : List.of("/api/products/**", "/api/categories/**", "/api/images/**")) {
+            matchers.add(paths.matcher(HttpMethod.GET, catalog));
+            matchers.add(paths.matcher(HttpMethod.HEAD, catalog));
+        }
+        return new OrRequestMatcher(matchers);
+    }
+}
@@ -1,9 +1,13 @@
 package com.anh.e_commerce_platform.security;
 
+import com.anh.e_commerce_platform.logging.RequestIdFilter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -17,6 +21,7 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import jakarta.servlet.DispatcherType;
 import java.util.Arrays;
 
 @Configuration
@@ -29,17 +34,47 @@ public class WebSecurityConfig {
     @Value("${cors.allowed-origins}")
     private String allowedOrigins;
 
+    // Routes publiques (PublicRoutes) : chaîne anonyme évaluée en premier, sans filtre JWT ni authentification
+    // anonyme ; le trafic du catalogue ne lit ni token ni utilisateur
     @Bean
+    @Order(1)
+    public SecurityFilterChain publicFilterChain(HttpSecurity http) throws Exception {
+        http
+                .securityMatcher(PublicRoutes.MATCHER)
+                .cors(cors -> cors.configurationSource(corsConfigurationSource()))
+                .csrf(csrf -> csrf.disable())
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .requestCache(cache -> cache.disable())
+                .anonymous(anonymous -> anonymous.disable())
+                .logout(logout -> logout.disable())
+                .authorizeHttpRequests(auth -> auth.anyRequest().permitAll());
+
+        return http.build();
+    }
+
+    // Toutes les autres requêtes : token JWT lu et vérifié
+    @Bean
+    @Order(2)
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .csrf(csrf -> csrf.disable())
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // Fin d'une réponse en flux, page d'erreur (400 d'un corps illisible, etc.) : la requête
+                        // d'origine a déjà été autorisée
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                         .requestMatchers("/api/auth/**").permitAll() // Auth endpoints libres
-                        .requestMatchers("/api/products/**").permitAll() // Produits libres
-                        .requestMatchers("/api/categories/**").permitAll() // Catégories libres
+                        .requestMatchers(HttpMethod.GET, "/api/products/**", "/api/categories/**").permitAll()
+                        .requestMatchers(HttpMethod.HEAD, "/api/products/**", "/api/categories/**").permitAll()
+                        // Écritures du catalogue (produits, images produit, catégories)
+                        .requestMatchers("/api/products/**", "/api/categories/**").hasRole("ADMIN")
+                        .requestMatchers("/api/images/**").permitAll() // Images servies
                         .requestMatchers("/h2-console/**").permitAll()// H2 console libre
+                        .requestMatchers("/actuator/health/**").permitAll() // Sonde de santé
+                        .requestMatchers("/actuator/**").hasRole("ADMIN") // Métriques
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN") // Administration (rapports, etc.)
+                        .requestMatchers(HttpMethod.PUT, "/api/orders/status").hasRole("ADMIN") // Statuts en masse
                         .requestMatchers("/api/users/**").hasRole("ADMIN") // Seuls les admins peuvent acceder aux
                                                                            // utilisateurs
                         .anyRequest().authenticated())
@@ -50,12 +85,23 @@ public class WebSecurityConfig {
         return http.build();
     }
 
+    // Filtre JWT seulement dans la chaîne authentifiée : pas d'inscription automatique comme filtre du
+    // conteneur (@Component), qui le ferait passer aussi sur les routes publiques
+    @Bean
+    public FilterRegistrationBean<JwtRequestFilter> jwtRequestFilterRegistration() {
+        FilterRegistrationBean<JwtRequestFilter> registration = new FilterRegistrationBean<>(jwtRequestFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
         configuration.setAllowedOrigins(Arrays.asList(allowedOrigins.split(",")));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
-        configuration.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type"));
+        configuration.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type", RequestIdFilter.HEADER));
+        // Identifiant de corrélation lisible par le frontend (à citer dans un rapport d'erreur)
+        configuration.setExposedHeaders(Arrays.asList(RequestIdFilter.HEADER));
         configuration.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
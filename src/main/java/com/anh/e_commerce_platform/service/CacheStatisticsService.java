@@ -0,0 +1,64 @@
+package com.anh.e_commerce_platform.service;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.anh.e_commerce_platform.dto.CacheRegionStatistics;
+import com.anh.e_commerce_platform.entity.Category;
+import com.anh.e_commerce_platform.entity.Product;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+// Statistiques et purge du cache de second niveau (régions category, product, requêtes)
+@Service
+public class CacheStatisticsService {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    public List<CacheRegionStatistics> regionStatistics() {
+        Statistics statistics = sessionFactory().getStatistics();
+        List<CacheRegionStatistics> regions = new ArrayList<>();
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            org.hibernate.stat.CacheRegionStatistics stats = statistics.getCacheRegionStatistics(region);
+            // Nombre d'éléments : -1 (valeur de Hibernate) si le fournisseur JCache ne l'expose pas
+            if (stats != null) {
+                regions.add(new CacheRegionStatistics(region, stats.getHitCount(), stats.getMissCount(),
+                        stats.getPutCount(), stats.getElementCountInMemory()));
+            }
+        }
+        return regions;
+    }
+
+    // Purge complète (ex. après une modification faite directement en base)
+    public void evictAll() {
+        sessionFactory().getCache().evictAllRegions();
+    }
+
+    // Produits modifiés sur un autre nœud (null : tous)
+    public void evictProducts(Collection<Long> productIds) {
+        Cache cache = sessionFactory().getCache();
+        if (productIds == null) {
+            cache.evictEntityData(Product.class);
+        } else {
+            productIds.forEach(id -> cache.evictEntityData(Product.class, id));
+        }
+    }
+
+    // Catégories modifiées sur un autre nœud : les requêtes en cache les listent aussi
+    public void evictCategories() {
+        Cache cache = sessionFactory().getCache();
+        cache.evictEntityData(Category.class);
+        cache.evictQueryRegions();
+    }
+
+    private SessionFactory sessionFactory() {
+        return entityManagerFactory.unwrap(SessionFactory.class);
+    }
+}
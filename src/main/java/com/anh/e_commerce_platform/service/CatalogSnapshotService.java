@@ -0,0 +1,172 @@
+package com.anh.e_commerce_platform.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.anh.e_commerce_platform.catalog.CatalogSnapshot;
+import com.anh.e_commerce_platform.catalog.EncodedJson;
+import com.anh.e_commerce_platform.entity.Product;
+import com.anh.e_commerce_platform.event.CatalogChangedEvent;
+import com.anh.e_commerce_platform.repository.CategoryRepository;
+import com.anh.e_commerce_platform.repository.ProductRepository;
+
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Catalogue public (produits, catégories) sérialisé et compressé une fois par changement,
+// puis servi tel quel. Les changements rapprochés (rafale de commandes) sont regroupés, et seuls les produits
+// touchés sont relus et resérialisés : le reste du tableau JSON est réassemblé à partir des octets déjà encodés.
+@Service
+public class CatalogSnapshotService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogSnapshotService.class);
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    @Value("${app.catalog.snapshot.debounce:PT1S}")
+    private Duration debounce;
+
+    // Niveau gzip (1-9) : rapide par défaut, le corps est recompressé à chaque reconstruction
+    @Value("${app.catalog.snapshot.gzip-level:6}")
+    private int gzipLevel;
+
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicReference<CatalogSnapshot> snapshot = new AtomicReference<>();
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+
+    // Changements en attente de la prochaine reconstruction
+    private final Set<Long> pendingProducts = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean pendingCategories = new AtomicBoolean();
+    private final AtomicBoolean pendingFullRebuild = new AtomicBoolean();
+
+    // JSON de chaque produit, dans l'ordre des ID (accès sous le verrou de l'instance)
+    private final NavigableMap<Long, byte[]> productJson = new TreeMap<>();
+
+    public CatalogSnapshotService(PlatformTransactionManager transactionManager) {
+        // Transaction en écriture : lecture sur le primaire, l'instantané doit voir le commit qui l'a déclenché
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public CatalogSnapshot current() {
+        CatalogSnapshot current = snapshot.get();
+        return current != null ? current : rebuild();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    // Après commit (ou immédiatement hors transaction) : une seule reconstruction par fenêtre de debounce
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        Set<Long> productIds = event.getProductIds();
+        if (productIds == null) {
+            pendingFullRebuild.set(true);
+        } else if (productIds.isEmpty()) {
+            pendingCategories.set(true);
+        } else {
+            pendingProducts.addAll(productIds);
+        }
+        if (rebuildScheduled.compareAndSet(false, true)) {
+            taskScheduler.schedule(() -> {
+                rebuildScheduled.set(false);
+                try {
+                    applyPendingChanges();
+                } catch (RuntimeException e) {
+                    logger.error("Reconstruction de l'instantané du catalogue impossible", e);
+                }
+            }, Instant.now().plus(debounce));
+        }
+    }
+
+    // Reconstruction complète : tous les produits et toutes les catégories
+    public synchronized CatalogSnapshot rebuild() {
+        pendingFullRebuild.set(false);
+        pendingCategories.set(false);
+        pendingProducts.clear();
+        CatalogSnapshot built = transactionTemplate.execute(status -> {
+            productJson.clear();
+            for (Product product : productRepository.findAll()) {
+                productJson.put(product.getId(), jsonMapper.writeValueAsBytes(product));
+            }
+            return new CatalogSnapshot(EncodedJson.ofArray(productJson.values(), gzipLevel), encodeCategories(),
+                    System.currentTimeMillis());
+        });
+        snapshot.set(built);
+        return built;
+    }
+
+    // Changements accumulés depuis la dernière reconstruction : produits touchés relus et resérialisés seuls
+    public synchronized CatalogSnapshot applyPendingChanges() {
+        CatalogSnapshot current = snapshot.get();
+        if (current == null || pendingFullRebuild.get()) {
+            return rebuild();
+        }
+        // Retirés avant la lecture : un changement signalé ensuite a de toute façon été commité avant
+        List<Long> productIds = new ArrayList<>(pendingProducts);
+        pendingProducts.removeAll(productIds);
+        boolean categories = pendingCategories.getAndSet(false);
+        if (productIds.isEmpty() && !categories) {
+            return current;
+        }
+
+        CatalogSnapshot built = transactionTemplate.execute(status -> {
+            EncodedJson products = current.getProducts();
+            if (!productIds.isEmpty()) {
+                Map<Long, Product> changed = new HashMap<>();
+                for (Product product : productRepository.findAllById(productIds)) {
+                    changed.put(product.getId(), product);
+                }
+                for (Long id : productIds) {
+                    Product product = changed.get(id);
+                    if (product == null) {
+                        productJson.remove(id);
+                    } else {
+                        productJson.put(id, jsonMapper.writeValueAsBytes(product));
+                    }
+                }
+                products = EncodedJson.ofArray(productJson.values(), gzipLevel);
+            }
+            return new CatalogSnapshot(products, categories ? encodeCategories() : current.getCategories(),
+                    System.currentTimeMillis());
+        });
+        snapshot.set(built);
+        return built;
+    }
+
+    private EncodedJson encodeCategories() {
+        return EncodedJson.of(jsonMapper.writeValueAsBytes(categoryRepository.findAll()), gzipLevel);
+    }
+}
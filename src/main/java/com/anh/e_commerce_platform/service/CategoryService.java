@@ -1,9 +1,12 @@
 package com.anh.e_commerce_platform.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.anh.e_commerce_platform.entity.Category;
+import com.anh.e_commerce_platform.event.CatalogChangedEvent;
 import com.anh.e_commerce_platform.repository.CategoryRepository;
 
 import java.util.List;
@@ -15,17 +18,24 @@ public class CategoryService {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     // Créer une catégorie
     public Category createCategory(Category category) {
-        return categoryRepository.save(category);
+        Category saved = categoryRepository.save(category);
+        eventPublisher.publishEvent(new CatalogChangedEvent("category.create", List.of()));
+        return saved;
     }
 
     // Récupérer toutes les catégories
+    @Transactional(readOnly = true)
     public List<Category> getAllCategories() {
         return categoryRepository.findAll();
     }
 
     // Récupérer une catégorie par ID
+    @Transactional(readOnly = true)
     public Optional<Category> getCategoryById(Long id) {
         return categoryRepository.findById(id);
     }
@@ -33,5 +43,6 @@ public class CategoryService {
     // Supprimer une catégorie
     public void deleteCategory(Long id) {
         categoryRepository.deleteById(id);
+        eventPublisher.publishEvent(new CatalogChangedEvent("category.delete", List.of()));
     }
 }
@@ -0,0 +1,96 @@
+package com.anh.e_commerce_platform.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.anh.e_commerce_platform.cluster.InvalidationBus;
+import com.anh.e_commerce_platform.cluster.InvalidationMessage;
+import com.anh.e_commerce_platform.cluster.InvalidationTopic;
+import com.anh.e_commerce_platform.event.CatalogChangedEvent;
+import com.anh.e_commerce_platform.event.UserChangedEvent;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+// Cohérence des caches locaux entre nœuds : chaque changement commité ici est diffusé sur le bus,
+// chaque changement reçu d'un autre nœud est appliqué ici comme s'il était local
+// (cache de second niveau purgé, puis mêmes événements que pour un changement local).
+@Service
+@ConditionalOnProperty(name = "app.cluster.enabled", havingValue = "true")
+public class ClusterInvalidationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClusterInvalidationService.class);
+
+    @Autowired
+    private InvalidationBus invalidationBus;
+
+    @Autowired
+    private CacheStatisticsService cacheStatisticsService;
+
+    @Autowired
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private final String nodeId;
+
+    public ClusterInvalidationService(@Value("${app.cluster.node-id:}") String nodeId) {
+        this.nodeId = nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+    }
+
+    @PostConstruct
+    public void join() {
+        invalidationBus.subscribe(nodeId, this::apply);
+        logger.info("Nœud {} abonné au bus d'invalidation", nodeId);
+    }
+
+    @PreDestroy
+    public void leave() {
+        invalidationBus.unsubscribe(nodeId);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (!event.isRemote()) {
+            invalidationBus.publish(new InvalidationMessage(nodeId, InvalidationTopic.CATALOG, event.getReason(),
+                    event.getProductIds()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        invalidationBus.publish(new InvalidationMessage(nodeId, InvalidationTopic.USERS, event.getReason(),
+                List.of(event.getUserId())));
+    }
+
+    private void apply(InvalidationMessage message) {
+        Set<Long> ids = message.getIds();
+        switch (message.getTopic()) {
+            case CATALOG -> {
+                cacheStatisticsService.evictProducts(ids);
+                // Sans produit désigné : changement de catégorie (ou inconnu)
+                if (ids == null || ids.isEmpty()) {
+                    cacheStatisticsService.evictCategories();
+                }
+                eventPublisher.publishEvent(new CatalogChangedEvent(message.getReason(), ids, true));
+            }
+            case USERS -> userDetailsService.evict(ids);
+        }
+        logger.debug("Invalidation {} ({}) reçue du nœud {}", message.getTopic(), message.getReason(),
+                message.getOrigin());
+    }
+}
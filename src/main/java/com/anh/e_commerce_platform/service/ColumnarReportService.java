@@ -0,0 +1,73 @@
+package com.anh.e_commerce_platform.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.anh.e_commerce_platform.entity.OrderStatus;
+import com.anh.e_commerce_platform.reporting.OrderItemColumnStore;
+import com.anh.e_commerce_platform.reporting.OrderItemQuery;
+import com.anh.e_commerce_platform.reporting.ReportRow;
+import com.anh.e_commerce_platform.repository.ArchivedOrderItemRepository;
+import com.anh.e_commerce_platform.repository.OrderItemRepository;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+// Rapports ad hoc servis depuis un instantané en mémoire, sans solliciter la base à chaque requête
+@Service
+@ConditionalOnProperty(name = "reporting.columnar.enabled", havingValue = "true")
+public class ColumnarReportService {
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private ArchivedOrderItemRepository archivedOrderItemRepository;
+
+    private final AtomicReference<OrderItemColumnStore> snapshot = new AtomicReference<>(OrderItemColumnStore.empty());
+
+    // Reconstruire l'instantané (au démarrage puis périodiquement)
+    @Scheduled(initialDelayString = "${reporting.columnar.initial-delay:PT10S}",
+            fixedDelayString = "${reporting.columnar.refresh-interval:PT15M}")
+    @Transactional(readOnly = true)
+    public OrderItemColumnStore refresh() {
+        OrderItemColumnStore.Builder builder = new OrderItemColumnStore.Builder(
+                (int) Math.min(orderItemRepository.count() + archivedOrderItemRepository.count(), Integer.MAX_VALUE - 8));
+
+        // Lignes actives puis lignes archivées : les rapports couvrent tout l'historique
+        try (Stream<Object[]> rows = orderItemRepository.streamReportingRows()) {
+            rows.forEach(row -> add(builder, row));
+        }
+        try (Stream<Object[]> rows = archivedOrderItemRepository.streamReportingRows()) {
+            rows.forEach(row -> add(builder, row));
+        }
+
+        OrderItemColumnStore store = builder.build();
+        snapshot.set(store);
+        return store;
+    }
+
+    private static void add(OrderItemColumnStore.Builder builder, Object[] row) {
+        builder.add(
+                (Long) row[0],
+                (Integer) row[1],
+                (Long) row[2],
+                ((LocalDateTime) row[3]).toEpochSecond(ZoneOffset.UTC),
+                ((OrderStatus) row[4]).ordinal());
+    }
+
+    // Exécuter une requête sur l'instantané courant
+    public List<ReportRow> query(OrderItemQuery query) {
+        return query.execute(snapshot.get());
+    }
+
+    public OrderItemColumnStore currentSnapshot() {
+        return snapshot.get();
+    }
+}
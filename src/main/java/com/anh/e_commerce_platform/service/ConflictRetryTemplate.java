@@ -0,0 +1,110 @@
+package com.anh.e_commerce_platform.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+// Exécute une opération dans sa propre transaction et la rejoue en cas de conflit
+// de concurrence (version obsolète, verrou), avec un nombre d'essais borné et un backoff exponentiel.
+@Component
+public class ConflictRetryTemplate {
+
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.retry.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${app.retry.initial-backoff-ms:10}")
+    private long initialBackoffMs;
+
+    @Value("${app.retry.max-backoff-ms:500}")
+    private long maxBackoffMs;
+
+    public ConflictRetryTemplate(PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> T execute(String operation, Supplier<T> action) {
+        // Dans une transaction englobante, rejouer n'a pas de sens : elle est déjà compromise
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return action.get();
+        }
+
+        for (int attempt = 1;; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> action.get());
+            } catch (ConcurrencyFailureException e) {
+                conflictCounter(operation, e).increment();
+                if (attempt >= maxAttempts) {
+                    Counter.builder("conflict.retry.exhausted")
+                            .description("Opérations abandonnées après épuisement des essais")
+                            .tag("operation", operation)
+                            .register(meterRegistry)
+                            .increment();
+                    throw e;
+                }
+                backoff(attempt);
+            }
+        }
+    }
+
+    // Une seule tentative, pour les écritures dont le contenu vient du client (mise à jour d'après une version
+    // lue) : rejouer réappliquerait des données périmées. Le conflit est compté puis remonté à l'appelant.
+    public <T> T executeOnce(String operation, Supplier<T> action) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return action.get();
+        }
+        try {
+            return transactionTemplate.execute(status -> action.get());
+        } catch (ConcurrencyFailureException e) {
+            conflictCounter(operation, e).increment();
+            throw e;
+        }
+    }
+
+    public void run(String operation, Runnable action) {
+        execute(operation, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    // Conflits par opération et par entité, pour voir où se situe la contention
+    private Counter conflictCounter(String operation, ConcurrencyFailureException e) {
+        String entity = "unknown";
+        if (e instanceof ObjectOptimisticLockingFailureException optimistic
+                && optimistic.getPersistentClassName() != null) {
+            String className = optimistic.getPersistentClassName();
+            entity = className.substring(className.lastIndexOf('.') + 1);
+        }
+        return Counter.builder("conflict.retry.conflicts")
+                .description("Conflits de concurrence détectés (avant nouvel essai)")
+                .tag("operation", operation)
+                .tag("entity", entity)
+                .register(meterRegistry);
+    }
+
+    // Backoff exponentiel avec gigue complète
+    private void backoff(int attempt) {
+        long ceiling = Math.min(maxBackoffMs, initialBackoffMs << Math.min(attempt - 1, 20));
+        long delay = ThreadLocalRandom.current().nextLong(ceiling + 1);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Nouvel essai interrompu", e);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.anh.e_commerce_platform.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.anh.e_commerce_platform.catalog.FacetIndex;
+import com.anh.e_commerce_platform.dto.CategoryFacetResponse;
+import com.anh.e_commerce_platform.dto.CategoryFacetResponse.PriceRangeCount;
+import com.anh.e_commerce_platform.entity.Category;
+import com.anh.e_commerce_platform.entity.Product;
+import com.anh.e_commerce_platform.event.CatalogChangedEvent;
+import com.anh.e_commerce_platform.money.Money;
+import com.anh.e_commerce_platform.repository.CategoryRepository;
+import com.anh.e_commerce_platform.repository.ProductRepository;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+// Navigation par facettes (catégorie, tranche de prix, stock) servie depuis FacetIndex.
+// Les produits ne sont lus qu'au démarrage ; ensuite seuls les produits modifiés sont relus après commit.
+@Service
+public class FacetService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FacetService.class);
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private final FacetIndex index;
+    private final List<String> keys;
+    private final TransactionTemplate transactionTemplate;
+
+    public FacetService(@Value("${app.facets.price-ranges:0,25,50,100,250,500,1000}") List<BigDecimal> priceRanges,
+            PlatformTransactionManager transactionManager) {
+        this.index = new FacetIndex(priceRanges.stream().mapToLong(Money::toCents).toArray());
+        this.keys = new ArrayList<>(priceRanges.size());
+        for (int i = 0; i < priceRanges.size(); i++) {
+            keys.add(format(priceRanges.get(i)) + "-" + (i + 1 < priceRanges.size() ? format(priceRanges.get(i + 1)) : ""));
+        }
+        // Transaction en écriture : lecture sur le primaire, l'état doit inclure le commit qui l'a déclenché
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    // Reconstruction complète (démarrage, ou changement dont les produits ne sont pas connus)
+    public void rebuild() {
+        transactionTemplate.executeWithoutResult(status -> {
+            synchronized (index) {
+                index.clear();
+                try (Stream<Object[]> rows = productRepository.streamFacetRows()) {
+                    rows.forEach(row -> index.put((Long) row[0], (Long) row[1], (Long) row[2], (Integer) row[3],
+                            row[4] == null ? 0L : (Long) row[4]));
+                }
+            }
+        });
+        logger.info("Facettes du catalogue : {} produit(s) indexé(s)", index.size());
+    }
+
+    // Après commit : seuls les produits touchés sont relus (par clé primaire, servis par le cache de second niveau)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        Set<Long> productIds = event.getProductIds();
+        if (productIds == null) {
+            rebuild();
+        } else if (!productIds.isEmpty()) {
+            refresh(productIds);
+        }
+    }
+
+    private void refresh(Collection<Long> productIds) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Set<Long> missing = new HashSet<>(productIds);
+            for (Product product : productRepository.findAllById(productIds)) {
+                missing.remove(product.getId());
+                index.put(product.getId(), product.getCategory() == null ? null : product.getCategory().getId(),
+                        product.getPriceCents(), product.getStock(),
+                        product.getVersion() == null ? 0L : product.getVersion());
+            }
+            missing.forEach(index::remove);
+        });
+    }
+
+    // Facettes par catégorie. price : clés de tranches ("25-50"), vide = toutes ; inStock : null = indifférent
+    public List<CategoryFacetResponse> facets(Collection<String> price, Boolean inStock) {
+        boolean[] selected = selectedRanges(price);
+        Map<Long, long[]> counts = index.snapshot();
+        long[] bounds = index.getBounds();
+
+        List<CategoryFacetResponse> facets = new ArrayList<>();
+        for (Category category : categoryRepository.findAll()) {
+            long[] values = counts.getOrDefault(category.getId(), new long[bounds.length * 2]);
+            long productCount = 0L;
+            long inStockCount = 0L;
+            List<PriceRangeCount> ranges = new ArrayList<>(bounds.length);
+            for (int bucket = 0; bucket < bounds.length; bucket++) {
+                long outOfStock = values[bucket * 2];
+                long available = values[bucket * 2 + 1];
+                long matchingStock = inStock == null ? outOfStock + available : (inStock ? available : outOfStock);
+                if (selected[bucket]) {
+                    productCount += matchingStock;
+                    inStockCount += available;
+                }
+                ranges.add(new PriceRangeCount(keys.get(bucket), Money.toBigDecimal(bounds[bucket]),
+                        bucket + 1 < bounds.length ? Money.toBigDecimal(bounds[bucket + 1]) : null, matchingStock));
+            }
+            facets.add(new CategoryFacetResponse(category.getId(), category.getName(), productCount, inStockCount, ranges));
+        }
+        return facets;
+    }
+
+    // Catégorie des produits connus du catalogue (les produits supprimés sont absents), lue en mémoire
+    public Map<Long, Long> categoriesOf(Collection<Long> productIds) {
+        return index.categoriesOf(productIds);
+    }
+
+    private boolean[] selectedRanges(Collection<String> price) {
+        boolean[] selected = new boolean[keys.size()];
+        if (price == null || price.isEmpty()) {
+            Arrays.fill(selected, true);
+            return selected;
+        }
+        Map<String, Integer> positions = new HashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            positions.put(keys.get(i), i);
+        }
+        for (String key : price) {
+            Integer position = positions.get(key.trim());
+            if (position == null) {
+                throw new IllegalArgumentException("Tranche de prix inconnue : " + key + " (disponibles : "
+                        + String.join(", ", keys) + ")");
+            }
+            selected[position] = true;
+        }
+        return selected;
+    }
+
+    private static String format(BigDecimal amount) {
+        return amount.stripTrailingZeros().toPlainString();
+    }
+}
@@ -0,0 +1,64 @@
+package com.anh.e_commerce_platform.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.util.Iterator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+// Grandes listes écrites en JSON au fil de la lecture du curseur : ni liste complète en mémoire,
+// ni tampon de sérialisation ; le premier octet part dès la première ligne.
+@Service
+public class JsonStreamingService {
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Lignes écrites entre deux vidages (sortie et contexte de persistance)
+    @Value("${app.streaming.flush-every:500}")
+    private int flushEvery;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public JsonStreamingService(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    // Tableau JSON des éléments du flux, ouvert dans une transaction en lecture le temps de l'écriture
+    public StreamingResponseBody jsonArray(Supplier<? extends Stream<?>> rows) {
+        // Pas de vidage après chaque ligne : la sortie part par blocs
+        ObjectWriter writer = jsonMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        return outputStream -> transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<?> stream = rows.get();
+                    JsonGenerator generator = writer.createGenerator(outputStream)) {
+                generator.writeStartArray();
+                int written = 0;
+                for (Iterator<?> iterator = stream.iterator(); iterator.hasNext();) {
+                    writer.writeValue(generator, iterator.next());
+                    if (++written % flushEvery == 0) {
+                        generator.flush();
+                        // Les entités déjà écrites ne sont plus utiles : le tas reste constant
+                        entityManager.clear();
+                    }
+                }
+                generator.writeEndArray();
+            }
+        });
+    }
+}
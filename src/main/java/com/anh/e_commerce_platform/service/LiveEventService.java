@@ -0,0 +1,141 @@
+package com.anh.e_commerce_platform.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.anh.e_commerce_platform.dto.OrderStatusNotification;
+import com.anh.e_commerce_platform.dto.StockNotification;
+import com.anh.e_commerce_platform.entity.Role;
+import com.anh.e_commerce_platform.entity.User;
+import com.anh.e_commerce_platform.event.CatalogChangedEvent;
+import com.anh.e_commerce_platform.event.OrderStatusChangedEvent;
+import com.anh.e_commerce_platform.repository.ProductRepository;
+import com.anh.e_commerce_platform.sse.SseHub;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Flux Server-Sent Events remplaçant l'interrogation périodique : statut des commandes
+// (sujets "orders" pour les admins, "orders:user:<id>" pour le client) et stock des produits
+// ("stock" pour tout le catalogue, "stock:<id>" pour un produit). Poussé après le commit uniquement.
+@Service
+public class LiveEventService {
+
+    private static final String ORDERS = "orders";
+    private static final String STOCK = "stock";
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    private final SseHub hub;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final TransactionTemplate transactionTemplate;
+
+    // Dernier stock diffusé par produit {version, stock} : pas de doublon ni de retour en arrière
+    // quand deux commits proches sont relus dans le désordre
+    private final Map<Long, long[]> lastStock = new ConcurrentHashMap<>();
+
+    public LiveEventService(@Value("${app.events.timeout:PT30M}") Duration timeout,
+            @Value("${app.events.max-pending:256}") int maxPending,
+            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.hub = new SseHub(executor, timeout.toMillis(), maxPending);
+        // Transaction en écriture : lecture sur le primaire, le stock doit inclure le commit qui l'a déclenché
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        Gauge.builder("events.subscribers", hub, SseHub::size)
+                .description("Abonnés connectés aux flux Server-Sent Events")
+                .register(meterRegistry);
+    }
+
+    // Commandes de l'utilisateur, ou toutes les commandes pour un admin
+    public SseEmitter subscribeOrders(User user) {
+        return hub.subscribe(List.of(user.getRole() == Role.ADMIN ? ORDERS : ORDERS + ":user:" + user.getId()));
+    }
+
+    // Stock des produits donnés, ou de tout le catalogue si productIds est vide
+    public SseEmitter subscribeStock(Collection<Long> productIds) {
+        if (productIds == null || productIds.isEmpty()) {
+            return hub.subscribe(List.of(STOCK));
+        }
+        return hub.subscribe(productIds.stream().map(id -> STOCK + ":" + id).toList());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        hub.publish(List.of(ORDERS, ORDERS + ":user:" + event.getUserId()), "order-status",
+                jsonMapper.writeValueAsString(new OrderStatusNotification(event.getOrderId(), event.getUserId(),
+                        event.getStatus())));
+    }
+
+    // Commande, annulation ou mise à jour de produit : relire le stock des seuls produits suivis
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        Set<Long> productIds = event.getProductIds();
+        if (productIds == null || productIds.isEmpty()) {
+            return;
+        }
+        List<Long> watched = new ArrayList<>();
+        boolean all = hub.hasSubscribers(STOCK);
+        for (Long id : productIds) {
+            if (all || hub.hasSubscribers(STOCK + ":" + id)) {
+                watched.add(id);
+            }
+        }
+        if (watched.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = transactionTemplate.execute(status -> productRepository.findStockLevels(watched));
+        Set<Long> found = new HashSet<>();
+        for (Object[] row : rows) {
+            Long id = (Long) row[0];
+            found.add(id);
+            int stock = (Integer) row[1];
+            long version = row[2] == null ? 0L : (Long) row[2];
+            boolean[] changed = new boolean[1];
+            lastStock.compute(id, (key, previous) -> {
+                if (previous != null && previous[0] >= version) {
+                    return previous;
+                }
+                changed[0] = previous == null || previous[1] != stock;
+                return new long[] { version, stock };
+            });
+            if (changed[0]) {
+                hub.publish(List.of(STOCK, STOCK + ":" + id), "stock",
+                        jsonMapper.writeValueAsString(new StockNotification(id, stock)));
+            }
+        }
+        // Produits supprimés : plus rien à suivre
+        watched.stream().filter(id -> !found.contains(id)).forEach(lastStock::remove);
+    }
+
+    @Scheduled(fixedDelayString = "${app.events.heartbeat:PT30S}")
+    public void heartbeat() {
+        hub.heartbeat();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
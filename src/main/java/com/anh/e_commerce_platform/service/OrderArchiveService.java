@@ -0,0 +1,199 @@
+package com.anh.e_commerce_platform.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.anh.e_commerce_platform.entity.ArchivedOrder;
+import com.anh.e_commerce_platform.entity.Order;
+import com.anh.e_commerce_platform.entity.OrderStatus;
+import com.anh.e_commerce_platform.entity.User;
+import com.anh.e_commerce_platform.repository.ArchivedOrderItemRepository;
+import com.anh.e_commerce_platform.repository.ArchivedOrderRepository;
+import com.anh.e_commerce_platform.repository.OrderItemRepository;
+import com.anh.e_commerce_platform.repository.OrderRepository;
+import com.anh.e_commerce_platform.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// Archivage des commandes terminées : les tables chaudes ne gardent que l'activité récente,
+// l'historique n'est lu que si l'appelant le demande (includeArchived).
+@Service
+public class OrderArchiveService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderArchiveService.class);
+
+    private static final Set<OrderStatus> ARCHIVABLE_STATUSES = Set.of(OrderStatus.DELIVERED, OrderStatus.CANCELLED);
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private ArchivedOrderRepository archivedOrderRepository;
+
+    @Autowired
+    private ArchivedOrderItemRepository archivedOrderItemRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ConflictRetryTemplate conflictRetryTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${app.archive.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.archive.after-days:90}")
+    private int afterDays;
+
+    @Value("${app.archive.batch-size:500}")
+    private int batchSize;
+
+    // Tablespace sur stockage froid pour les nouvelles partitions (vide = tablespace par défaut)
+    @Value("${app.archive.cold-tablespace:}")
+    private String coldTablespace;
+
+    private volatile Boolean partitioned;
+
+    // Archivage nocturne
+    @Scheduled(cron = "${app.archive.cron:0 30 3 * * *}")
+    public void scheduledArchive() {
+        if (enabled) {
+            int archived = archiveCompletedOrders();
+            logger.info("Archivage : {} commande(s) déplacée(s) vers l'archive", archived);
+        }
+    }
+
+    // Déplacer par lots les commandes livrées ou annulées depuis plus de after-days jours
+    public int archiveCompletedOrders() {
+        LocalDateTime before = LocalDateTime.now().minusDays(afterDays);
+        int total = 0;
+        while (true) {
+            int moved = conflictRetryTemplate.execute("order.archive", () -> archiveBatch(before));
+            total += moved;
+            if (moved < batchSize) {
+                return total;
+            }
+        }
+    }
+
+    private int archiveBatch(LocalDateTime before) {
+        List<Long> ids = orderRepository.findArchivableIds(ARCHIVABLE_STATUSES, before, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        createMissingPartitions(ids);
+        archivedOrderRepository.copyFromOrders(ids, LocalDateTime.now());
+        archivedOrderItemRepository.copyFromOrderItems(ids);
+        orderItemRepository.deleteByOrderIdIn(ids);
+        orderRepository.deleteByIdIn(ids);
+        return ids.size();
+    }
+
+    // PostgreSQL : une partition par mois, créée au besoin avant la copie
+    private void createMissingPartitions(List<Long> ids) {
+        if (!isPartitioned()) {
+            return;
+        }
+        String placeholders = ids.stream().map(id -> "?").collect(Collectors.joining(","));
+        Set<YearMonth> months = new TreeSet<>(jdbcTemplate.queryForList(
+                "select distinct order_date from orders where id in (" + placeholders + ")",
+                LocalDateTime.class, ids.toArray()).stream().map(YearMonth::from).toList());
+        for (YearMonth month : months) {
+            createPartition("orders_archive", month);
+            createPartition("order_items_archive", month);
+        }
+    }
+
+    private void createPartition(String table, YearMonth month) {
+        String sql = "create table if not exists " + table + "_p" + month.format(PARTITION_SUFFIX)
+                + " partition of " + table
+                + " for values from ('" + month.atDay(1) + "') to ('" + month.plusMonths(1).atDay(1) + "')";
+        if (!coldTablespace.isBlank()) {
+            sql += " tablespace " + coldTablespace;
+        }
+        jdbcTemplate.execute(sql);
+    }
+
+    private boolean isPartitioned() {
+        if (partitioned == null) {
+            boolean postgres = Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())));
+            partitioned = postgres && jdbcTemplate.queryForObject(
+                    "select count(*) from pg_partitioned_table p join pg_class c on c.oid = p.partrelid"
+                            + " where c.relname = 'orders_archive'", Integer.class) > 0;
+        }
+        return partitioned;
+    }
+
+    // Commande archivée, présentée sous la même forme qu'une commande active
+    @Transactional(readOnly = true)
+    public Optional<Order> findArchivedOrder(Long id) {
+        return archivedOrderRepository.findById(id).map(archived -> toOrders(List.of(archived)).get(0));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Order> findArchivedOrdersByUser(User user) {
+        List<ArchivedOrder> archived = archivedOrderRepository.findByUserIdOrderByOrderDateDesc(user.getId());
+        return archived.stream().map(order -> toOrder(order, user)).toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<Order> findAllArchivedOrders() {
+        return toOrders(archivedOrderRepository.findAll());
+    }
+
+    // Même chose en flux (à consommer dans une transaction, puis fermer)
+    public Stream<Order> streamAllArchivedOrders() {
+        return archivedOrderRepository.streamAllWithUser()
+                .map(row -> toOrder((ArchivedOrder) row[0], (User) row[1]));
+    }
+
+    private List<Order> toOrders(Collection<ArchivedOrder> archived) {
+        Set<Long> userIds = archived.stream().map(ArchivedOrder::getUserId).collect(Collectors.toSet());
+        Map<Long, User> users = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        List<Order> orders = new ArrayList<>(archived.size());
+        for (ArchivedOrder order : archived) {
+            orders.add(toOrder(order, users.get(order.getUserId())));
+        }
+        return orders;
+    }
+
+    private static Order toOrder(ArchivedOrder archived, User user) {
+        Order order = new Order();
+        order.setId(archived.getId());
+        order.setOrderDate(archived.getOrderDate());
+        order.setStatus(archived.getStatus());
+        order.setTotalAmountCents(archived.getTotalAmountCents());
+        order.setDiscountAmountCents(archived.getDiscountAmountCents());
+        order.setUser(user);
+        return order;
+    }
+}
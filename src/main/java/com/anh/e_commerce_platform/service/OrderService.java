@@ -1,5 +1,8 @@
 package com.anh.e_commerce_platform.service;
 
+import com.anh.e_commerce_platform.dto.BulkOrderStatusUpdateResponse;
+import com.anh.e_commerce_platform.dto.BulkOrderStatusUpdateResponse.OrderResult;
+import com.anh.e_commerce_platform.dto.BulkOrderStatusUpdateResponse.Outcome;
 import com.anh.e_commerce_platform.dto.CreateOrderRequest;
 import com.anh.e_commerce_platform.dto.OrderItemRequest;
 import com.anh.e_commerce_platform.dto.OrderResponse;
@@ -9,7 +12,13 @@ import com.anh.e_commerce_platform.entity.OrderItem;
 import com.anh.e_commerce_platform.entity.OrderStatus;
 import com.anh.e_commerce_platform.entity.Product;
 import com.anh.e_commerce_platform.entity.User;
+import com.anh.e_commerce_platform.event.CatalogChangedEvent;
+import com.anh.e_commerce_platform.event.OrderPlacedEvent;
+import com.anh.e_commerce_platform.event.OrderStatusChangedEvent;
+import com.anh.e_commerce_platform.money.Money;
+import com.anh.e_commerce_platform.pricing.PromotionIndex;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,14 +26,21 @@ import com.anh.e_commerce_platform.repository.OrderRepository;
 import com.anh.e_commerce_platform.repository.OrderItemRepository;
 import com.anh.e_commerce_platform.repository.ProductRepository;
 
-import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Service
 public class OrderService {
 
+    // Taille des lots pour les transitions en masse (limite des clauses IN)
+    private static final int BULK_CHUNK_SIZE = 1000;
+
     @Autowired
     private UserService userService;
 
@@ -37,14 +53,34 @@ public class OrderService {
     @Autowired
     private ProductRepository productRepository;
 
-    // Créer une commande avec validation du stock
-    @Transactional
+    @Autowired
+    private PricingService pricingService;
+
+    @Autowired
+    private ConflictRetryTemplate conflictRetryTemplate;
+
+    @Autowired
+    private OrderArchiveService orderArchiveService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    // Créer une commande avec validation du stock (rejouée si le stock a été modifié en concurrence)
     public OrderResponse createOrderFromRequest(CreateOrderRequest request, User user) {
+        return conflictRetryTemplate.execute("order.create", () -> doCreateOrder(request, user));
+    }
+
+    private OrderResponse doCreateOrder(CreateOrderRequest request, User user) {
         // Créer la commande
         Order order = new Order();
         order.setUser(user);
 
-        BigDecimal totalAmount = BigDecimal.ZERO;
+        pricingService.validateCoupon(request.getCouponCode());
+        String couponCode = PromotionIndex.normalizeCoupon(request.getCouponCode());
+
+        long totalCents = 0L;
+        long discountCents = 0L;
+        long[] appliedPromotion = new long[1];
         List<OrderItem> orderItems = new ArrayList<>();
         List<OrderItemResponse> itemResponses = new ArrayList<>();
 
@@ -70,23 +106,32 @@ public class OrderService {
             OrderItem orderItem = new OrderItem();
             orderItem.setProduct(product);
             orderItem.setQuantity(itemRequest.getQuantity());
-            orderItem.setUnitPrice(product.getPrice());
+            orderItem.setUnitPriceCents(product.getPriceCents());
             orderItems.add(orderItem);
 
-            // Calculer le sous-total
-            BigDecimal subtotal = product.getPrice().multiply(BigDecimal.valueOf(itemRequest.getQuantity()));
-            totalAmount = totalAmount.add(subtotal);
+            // Calculer le sous-total (en centimes, sans allocation)
+            long subtotal = Money.times(product.getPriceCents(), itemRequest.getQuantity());
+            totalCents = Money.add(totalCents, subtotal);
+
+            // Appliquer la meilleure promotion (non cumulable) sur la ligne
+            appliedPromotion[0] = 0L;
+            long lineDiscount = pricingService.lineDiscount(product, itemRequest.getQuantity(), couponCode,
+                    appliedPromotion);
+            discountCents = Money.add(discountCents, lineDiscount);
 
             // Préparer la réponse
             itemResponses.add(new OrderItemResponse(
                     product.getId(),
                     product.getName(),
                     itemRequest.getQuantity(),
-                    product.getPrice()));
+                    product.getPriceCents(),
+                    lineDiscount,
+                    lineDiscount > 0 ? appliedPromotion[0] : null));
         }
 
         // Sauvegarder la commande
-        order.setTotalAmount(totalAmount);
+        order.setDiscountAmountCents(discountCents);
+        order.setTotalAmountCents(Money.subtract(totalCents, discountCents));
         Order savedOrder = orderRepository.save(order);
 
         // Sauvegarder les items avec référence à la commande
@@ -95,6 +140,17 @@ public class OrderService {
             orderItemRepository.save(item);
         }
 
+        // Le stock publié dans l'instantané du catalogue a changé
+        eventPublisher.publishEvent(new CatalogChangedEvent("order.create",
+                orderItems.stream().map(item -> item.getProduct().getId()).toList()));
+        eventPublisher.publishEvent(new OrderStatusChangedEvent(savedOrder.getId(), user.getId(), savedOrder.getStatus()));
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        for (OrderItem item : orderItems) {
+            quantities.merge(item.getProduct().getId(), item.getQuantity(), Integer::sum);
+        }
+        eventPublisher.publishEvent(new OrderPlacedEvent(savedOrder.getId(), user.getId(), savedOrder.getOrderDate(),
+                quantities));
+
         return new OrderResponse(savedOrder, itemResponses);
     }
 
@@ -114,30 +170,147 @@ public class OrderService {
     }
 
     // Récupérer toutes les commandes
+    @Transactional(readOnly = true)
     public List<Order> getAllOrders() {
         return orderRepository.findAll();
     }
 
     // Récupérer une commande par ID
+    @Transactional(readOnly = true)
     public Optional<Order> getOrderById(Long id) {
         return orderRepository.findById(id);
     }
 
     // Récupérer commandes d'un utilisateur
+    @Transactional(readOnly = true)
     public List<Order> getOrdersByUser(User user) {
         return orderRepository.findByUser(user);
     }
 
-    // Changer le statut d'une commande
+    // Toutes les commandes en flux, archive ensuite sur demande (à consommer dans une transaction, puis fermer)
+    public Stream<Order> streamAllOrders(boolean includeArchived) {
+        Stream<Order> orders = orderRepository.streamAll();
+        if (!includeArchived) {
+            return orders;
+        }
+        return Stream.concat(orders, orderArchiveService.streamAllArchivedOrders());
+    }
+
+    // Variantes qui consultent aussi l'archive (commandes terminées anciennes), seulement sur demande
+    public List<Order> getAllOrders(boolean includeArchived) {
+        List<Order> orders = getAllOrders();
+        if (!includeArchived) {
+            return orders;
+        }
+        List<Order> all = new ArrayList<>(orders);
+        all.addAll(orderArchiveService.findAllArchivedOrders());
+        return all;
+    }
+
+    public Optional<Order> getOrderById(Long id, boolean includeArchived) {
+        Optional<Order> order = getOrderById(id);
+        if (order.isPresent() || !includeArchived) {
+            return order;
+        }
+        return orderArchiveService.findArchivedOrder(id);
+    }
+
+    public List<Order> getOrdersByUser(User user, boolean includeArchived) {
+        List<Order> orders = getOrdersByUser(user);
+        if (!includeArchived) {
+            return orders;
+        }
+        List<Order> all = new ArrayList<>(orders);
+        all.addAll(orderArchiveService.findArchivedOrdersByUser(user));
+        return all;
+    }
+
+    // Changer le statut d'une commande (transition validée, remise en stock si annulation, sans effet si la
+    // commande est déjà dans ce statut)
     public Order updateOrderStatus(Long orderId, OrderStatus newStatus) {
+        return conflictRetryTemplate.execute("order.status", () -> doUpdateOrderStatus(orderId, newStatus));
+    }
+
+    private Order doUpdateOrderStatus(Long orderId, OrderStatus newStatus) {
         Optional<Order> optionalOrder = orderRepository.findById(orderId);
 
         if (optionalOrder.isPresent()) {
             Order order = optionalOrder.get();
+            // Déjà dans ce statut : rien à faire (comme UNCHANGED en masse), la requête peut être rejouée
+            if (order.getStatus() == newStatus) {
+                return order;
+            }
+            if (!order.getStatus().canTransitionTo(newStatus)) {
+                throw new IllegalStateException(
+                        "Transition de statut invalide : " + order.getStatus() + " -> " + newStatus);
+            }
             order.setStatus(newStatus);
-            return orderRepository.save(order);
+            Order savedOrder = orderRepository.save(order);
+            eventPublisher.publishEvent(new OrderStatusChangedEvent(orderId, order.getUser().getId(), newStatus));
+            if (newStatus == OrderStatus.CANCELLED) {
+                productRepository.restockFromOrders(List.of(orderId));
+                eventPublisher.publishEvent(new CatalogChangedEvent("order.cancel",
+                        orderItemRepository.findProductIdsByOrderIds(List.of(orderId))));
+            }
+            return savedOrder;
         } else {
             throw new IllegalArgumentException("Commande avec l'ID " + orderId + " introuvable !");
         }
     }
+
+    // Changer le statut de plusieurs commandes : une requête de mise à jour par lot,
+    // remise en stock groupée pour les annulations, et un résultat par commande
+    public BulkOrderStatusUpdateResponse bulkUpdateOrderStatus(List<Long> orderIds, OrderStatus newStatus) {
+        return conflictRetryTemplate.execute("order.status.bulk", () -> doBulkUpdateOrderStatus(orderIds, newStatus));
+    }
+
+    private BulkOrderStatusUpdateResponse doBulkUpdateOrderStatus(List<Long> orderIds, OrderStatus newStatus) {
+        Set<OrderStatus> sources = OrderStatus.sourcesOf(newStatus);
+        List<Long> ids = orderIds.stream().distinct().toList();
+        List<OrderResult> results = new ArrayList<>(ids.size());
+        int updatedCount = 0;
+
+        for (int start = 0; start < ids.size(); start += BULK_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(start, Math.min(start + BULK_CHUNK_SIZE, ids.size()));
+
+            // Statuts actuels, verrouillés jusqu'à la fin de la transaction
+            Map<Long, OrderStatus> currentStatuses = new HashMap<>();
+            Map<Long, Long> owners = new HashMap<>();
+            for (Object[] row : orderRepository.lockStatusesByIdIn(chunk)) {
+                currentStatuses.put((Long) row[0], (OrderStatus) row[1]);
+                owners.put((Long) row[0], (Long) row[2]);
+            }
+
+            List<Long> eligible = new ArrayList<>();
+            for (Long id : chunk) {
+                OrderStatus current = currentStatuses.get(id);
+                Outcome outcome;
+                if (current == null) {
+                    outcome = Outcome.NOT_FOUND;
+                } else if (current == newStatus) {
+                    outcome = Outcome.UNCHANGED;
+                } else if (current.canTransitionTo(newStatus)) {
+                    outcome = Outcome.UPDATED;
+                    eligible.add(id);
+                } else {
+                    outcome = Outcome.INVALID_TRANSITION;
+                }
+                results.add(new OrderResult(id, current, outcome));
+            }
+
+            if (!eligible.isEmpty()) {
+                updatedCount += orderRepository.updateStatus(eligible, sources, newStatus);
+                for (Long id : eligible) {
+                    eventPublisher.publishEvent(new OrderStatusChangedEvent(id, owners.get(id), newStatus));
+                }
+                if (newStatus == OrderStatus.CANCELLED) {
+                    productRepository.restockFromOrders(eligible);
+                    eventPublisher.publishEvent(new CatalogChangedEvent("order.cancel",
+                            orderItemRepository.findProductIdsByOrderIds(eligible)));
+                }
+            }
+        }
+
+        return new BulkOrderStatusUpdateResponse(newStatus, updatedCount, results);
+    }
 }
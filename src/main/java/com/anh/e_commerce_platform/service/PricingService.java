@@ -0,0 +1,99 @@
+package com.anh.e_commerce_platform.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.anh.e_commerce_platform.dto.CartQuoteResponse;
+import com.anh.e_commerce_platform.dto.CreateOrderRequest;
+import com.anh.e_commerce_platform.dto.OrderItemRequest;
+import com.anh.e_commerce_platform.dto.OrderResponse.OrderItemResponse;
+import com.anh.e_commerce_platform.entity.Product;
+import com.anh.e_commerce_platform.money.Money;
+import com.anh.e_commerce_platform.pricing.PromotionIndex;
+import com.anh.e_commerce_platform.repository.ProductRepository;
+import com.anh.e_commerce_platform.repository.PromotionRepository;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Moteur de prix : évalue les remises à partir d'un index de promotions précompilé
+@Service
+public class PricingService {
+
+    @Autowired
+    private PromotionRepository promotionRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private final AtomicReference<PromotionIndex> index = new AtomicReference<>(PromotionIndex.empty());
+
+    // Recompiler les promotions actives et remplacer l'index de façon atomique
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${pricing.reload-interval:PT5M}", fixedDelayString = "${pricing.reload-interval:PT5M}")
+    @Transactional(readOnly = true)
+    public PromotionIndex reload() {
+        PromotionIndex compiled = PromotionIndex.compile(promotionRepository.findByActiveTrue(), ZoneId.systemDefault());
+        index.set(compiled);
+        return compiled;
+    }
+
+    public PromotionIndex currentIndex() {
+        return index.get();
+    }
+
+    // Vérifier un code promo saisi par le client (promotion active et dans sa période de validité)
+    public void validateCoupon(String couponCode) {
+        if (PromotionIndex.normalizeCoupon(couponCode) != null
+                && !index.get().hasCoupon(couponCode, System.currentTimeMillis())) {
+            throw new IllegalArgumentException("Code promo invalide: " + couponCode);
+        }
+    }
+
+    // Remise d'une ligne en centimes ; appliedPromotion[0] reçoit la promotion retenue.
+    // Code promo déjà normalisé (PromotionIndex.normalizeCoupon) par l'appelant, une fois pour tout le panier.
+    public long lineDiscount(Product product, int quantity, String couponCode, long[] appliedPromotion) {
+        long categoryId = product.getCategory() == null ? 0L : product.getCategory().getId();
+        return index.get().lineDiscount(product.getId(), categoryId, product.getPriceCents(), quantity, couponCode,
+                System.currentTimeMillis(), appliedPromotion);
+    }
+
+    // Devis d'un panier avec les prix et promotions courants
+    @Transactional(readOnly = true)
+    public CartQuoteResponse quote(CreateOrderRequest request) {
+        validateCoupon(request.getCouponCode());
+        String couponCode = PromotionIndex.normalizeCoupon(request.getCouponCode());
+
+        Map<Long, Product> products = productRepository.findAllById(
+                request.getItems().stream().map(OrderItemRequest::getProductId).toList())
+                .stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        long subtotal = 0L;
+        long discount = 0L;
+        long[] applied = new long[1];
+        List<OrderItemResponse> lines = new ArrayList<>(request.getItems().size());
+        for (OrderItemRequest item : request.getItems()) {
+            Product product = products.get(item.getProductId());
+            if (product == null) {
+                throw new IllegalArgumentException("Produit introuvable avec l'ID " + item.getProductId());
+            }
+            applied[0] = 0L;
+            long lineDiscount = lineDiscount(product, item.getQuantity(), couponCode, applied);
+            subtotal = Money.add(subtotal, Money.times(product.getPriceCents(), item.getQuantity()));
+            discount = Money.add(discount, lineDiscount);
+            lines.add(new OrderItemResponse(product.getId(), product.getName(), item.getQuantity(),
+                    product.getPriceCents(), lineDiscount, lineDiscount > 0 ? applied[0] : null));
+        }
+        return new CartQuoteResponse(lines, subtotal, discount, couponCode);
+    }
+}
@@ -0,0 +1,152 @@
+package com.anh.e_commerce_platform.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+
+import com.anh.e_commerce_platform.entity.Product;
+import com.anh.e_commerce_platform.event.CatalogChangedEvent;
+import com.anh.e_commerce_platform.media.ImageStore;
+import com.anh.e_commerce_platform.media.ImageVariant;
+import com.anh.e_commerce_platform.repository.ProductRepository;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+// Images produit : l'original est enregistré pendant la requête, les tailles réduites
+// sont produites ensuite en tâche de fond (l'original est servi en attendant).
+@Service
+public class ProductImageService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductImageService.class);
+
+    private static final float JPEG_QUALITY = 0.85f;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ImageStore imageStore;
+
+    @Autowired
+    private ConflictRetryTemplate conflictRetryTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private TaskExecutor taskExecutor;
+
+    // Associer une image à un produit, retourne son empreinte
+    public String uploadImage(Long productId, InputStream content) throws IOException {
+        String hash = imageStore.store(content);
+        conflictRetryTemplate.execute("product.image", () -> {
+            Product product = productRepository.findById(productId)
+                    .orElseThrow(() -> new IllegalArgumentException("Produit avec l'ID " + productId + " introuvable"));
+            product.setImageHash(hash);
+            Product saved = productRepository.save(product);
+            eventPublisher.publishEvent(new CatalogChangedEvent("product.image", List.of(productId)));
+            return saved;
+        });
+        taskExecutor.execute(() -> generateVariants(hash));
+        return hash;
+    }
+
+    // Fichier à servir pour une taille ; l'original tant que la réduction n'est pas prête
+    public Optional<Path> findImage(String hash, ImageVariant variant) {
+        return imageStore.find(hash, variant);
+    }
+
+    private void generateVariants(String hash) {
+        Optional<Path> original = imageStore.find(hash, ImageVariant.ORIGINAL);
+        if (original.isEmpty()) {
+            return;
+        }
+        try {
+            // Dimensions revérifiées avant décodage (originaux enregistrés avant la limite)
+            imageStore.checkImage(original.get());
+            BufferedImage source = ImageIO.read(original.get().toFile());
+            for (ImageVariant variant : ImageVariant.values()) {
+                if (variant != ImageVariant.ORIGINAL && imageStore.find(hash, variant).isEmpty()) {
+                    writeVariant(hash, variant, resize(source, variant.getMaxSize()));
+                }
+            }
+            logger.info("Tailles réduites produites pour l'image {}", hash);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Réduction de l'image {} impossible : {}", hash, e.getMessage());
+        }
+    }
+
+    // JPEG pour les images opaques, PNG dès qu'il y a de la transparence
+    private void writeVariant(String hash, ImageVariant variant, BufferedImage image) throws IOException {
+        boolean alpha = image.getColorModel().hasAlpha();
+        Path temp = imageStore.createTempFile();
+        try {
+            if (alpha) {
+                ImageIO.write(image, "png", temp.toFile());
+            } else {
+                writeJpeg(image, temp);
+            }
+            imageStore.publish(temp, imageStore.path(hash, variant, alpha ? "png" : "jpg"));
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static void writeJpeg(BufferedImage image, Path target) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(target.toFile())) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    // Réduction par divisions successives par deux (interpolation bilinéaire) : proche de la qualité
+    // bicubique pour une fraction du coût, sans le crénelage d'une réduction directe
+    static BufferedImage resize(BufferedImage source, int maxSize) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = Math.min(1.0, (double) maxSize / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+        int type = source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+        BufferedImage current = source;
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            BufferedImage step = new BufferedImage(width, height, type);
+            Graphics2D graphics = step.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = step;
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+}
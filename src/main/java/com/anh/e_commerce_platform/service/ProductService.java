@@ -1,13 +1,19 @@
 package com.anh.e_commerce_platform.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.anh.e_commerce_platform.entity.Category;
 import com.anh.e_commerce_platform.entity.Product;
+import com.anh.e_commerce_platform.event.CatalogChangedEvent;
+import com.anh.e_commerce_platform.repository.CategoryRepository;
 import com.anh.e_commerce_platform.repository.ProductRepository;
 
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 
 @Service
@@ -16,50 +22,89 @@ public class ProductService {
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ConflictRetryTemplate conflictRetryTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     // Créer un produit
     public Product createProduct(Product product) {
-        return productRepository.save(product);
+        product.setCategory(resolveCategory(product.getCategory()));
+        Product saved = productRepository.save(product);
+        eventPublisher.publishEvent(new CatalogChangedEvent("product.create", List.of(saved.getId())));
+        return saved;
     }
 
     // Récupérer tous les produits
+    @Transactional(readOnly = true)
     public List<Product> getAllProducts() {
         return productRepository.findAll();
     }
 
     // Récupérer un produit par ID
+    @Transactional(readOnly = true)
     public Optional<Product> getProductById(Long id) {
         return productRepository.findById(id);
     }
 
     // Récupérer produits par catégorie
+    @Transactional(readOnly = true)
     public List<Product> getProductsByCategory(Category category) {
         return productRepository.findByCategory(category);
     }
 
     // Rechercher produits par nom
+    @Transactional(readOnly = true)
     public List<Product> searchProductsByName(String name) {
         return productRepository.findByNameContainingIgnoreCase(name);
     }
 
-    // Mettre à jour un produit
+    // Mettre à jour un produit d'après la version lue par le client (verrouillage optimiste) : une version
+    // absente est refusée, une version périmée ou une écriture concurrente donne un conflit, jamais rejoué
     public Product updateProduct(Long id, Product productDetails) {
-        Optional<Product> optionalProduct = productRepository.findById(id);
-
-        if (optionalProduct.isPresent()) {
-            Product product = optionalProduct.get();
-            product.setName(productDetails.getName());
-            product.setDescription(productDetails.getDescription());
-            product.setPrice(productDetails.getPrice());
-            product.setStock(productDetails.getStock());
-            product.setCategory(productDetails.getCategory());
-            return productRepository.save(product);
-        } else {
-            throw new IllegalArgumentException("Produit avec l'ID " + id + " introuvable");
+        if (productDetails.getVersion() == null) {
+            throw new IllegalArgumentException("Version du produit obligatoire pour une mise à jour");
+        }
+        return conflictRetryTemplate.executeOnce("product.update", () -> {
+            Optional<Product> optionalProduct = productRepository.findById(id);
+
+            if (optionalProduct.isPresent()) {
+                Product product = optionalProduct.get();
+                // Le client a modifié une version périmée : ne pas écraser silencieusement
+                if (!productDetails.getVersion().equals(product.getVersion())) {
+                    throw new ObjectOptimisticLockingFailureException(Product.class, id);
+                }
+                product.setName(productDetails.getName());
+                product.setDescription(productDetails.getDescription());
+                product.setPrice(productDetails.getPrice());
+                product.setStock(productDetails.getStock());
+                product.setLowStockThreshold(productDetails.getLowStockThreshold());
+                product.setCategory(resolveCategory(productDetails.getCategory()));
+                Product saved = productRepository.save(product);
+                eventPublisher.publishEvent(new CatalogChangedEvent("product.update", List.of(id)));
+                return saved;
+            } else {
+                throw new NoSuchElementException("Produit avec l'ID " + id + " introuvable");
+            }
+        });
+    }
+
+    // La catégorie reçue du client n'est qu'une référence sans version : la recharger (servie par le cache de second niveau)
+    private Category resolveCategory(Category category) {
+        if (category == null || category.getId() == null) {
+            return null;
         }
+        return categoryRepository.findById(category.getId())
+                .orElseThrow(() -> new IllegalArgumentException("Catégorie avec l'ID " + category.getId() + " introuvable"));
     }
 
     // Supprimer un produit
     public void deleteProduct(Long id) {
         productRepository.deleteById(id);
+        eventPublisher.publishEvent(new CatalogChangedEvent("product.delete", List.of(id)));
     }
 }
@@ -0,0 +1,111 @@
+package com.anh.e_commerce_platform.service;
+
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.anh.e_commerce_platform.projection.ProjectionSchema;
+import com.anh.e_commerce_platform.projection.ProjectionSchema.Field;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+// Lectures partielles (?fields=...) : seules les colonnes demandées sont sélectionnées (requête Criteria en tuples),
+// sans entité chargée ni jointure inutile ; le résultat garde la forme imbriquée du JSON complet.
+@Service
+public class ProjectionService {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional(readOnly = true)
+    public <T> List<Map<String, Object>> list(ProjectionSchema<T> schema, String fields, Specification<T> filter) {
+        List<Field> selected = schema.select(fields);
+        return query(schema, selected, filter).getResultList().stream()
+                .map(tuple -> toRow(selected, tuple))
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public <T> Optional<Map<String, Object>> findOne(ProjectionSchema<T> schema, String fields, Specification<T> filter) {
+        List<Field> selected = schema.select(fields);
+        return query(schema, selected, filter).setMaxResults(1).getResultList().stream()
+                .findFirst()
+                .map(tuple -> toRow(selected, tuple));
+    }
+
+    // En flux, pour JsonStreamingService (à consommer dans une transaction, puis fermer)
+    public <T> Stream<Map<String, Object>> stream(ProjectionSchema<T> schema, String fields, Specification<T> filter) {
+        List<Field> selected = schema.select(fields);
+        return query(schema, selected, filter)
+                .setHint("org.hibernate.fetchSize", 500)
+                .getResultStream()
+                .map(tuple -> toRow(selected, tuple));
+    }
+
+    private <T> TypedQuery<Tuple> query(ProjectionSchema<T> schema, List<Field> selected, Specification<T> filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(schema.getEntityClass());
+
+        // Une jointure externe par association réellement demandée
+        Map<String, From<?, ?>> joins = new HashMap<>();
+        List<Selection<?>> selections = new ArrayList<>(selected.size());
+        for (Field field : selected) {
+            String[] path = field.getPath();
+            From<?, ?> from = root;
+            String prefix = "";
+            for (int i = 0; i < path.length - 1; i++) {
+                prefix = prefix + path[i] + ".";
+                From<?, ?> parent = from;
+                String attribute = path[i];
+                from = joins.computeIfAbsent(prefix, key -> parent.join(attribute, JoinType.LEFT));
+            }
+            selections.add(from.get(path[path.length - 1]));
+        }
+        query.select(cb.tuple(selections.toArray(new Selection<?>[0])));
+
+        if (filter != null) {
+            Predicate predicate = filter.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+        query.orderBy(cb.asc(root.get("id")));
+        return entityManager.createQuery(query);
+    }
+
+    private static Map<String, Object> toRow(List<Field> selected, Tuple tuple) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (int i = 0; i < selected.size(); i++) {
+            Field field = selected.get(i);
+            put(row, field.getPath(), field.convert(tuple.get(i)));
+        }
+        return row;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void put(Map<String, Object> row, String[] path, Object value) {
+        Map<String, Object> target = row;
+        for (int i = 0; i < path.length - 1; i++) {
+            target = (Map<String, Object>) target.computeIfAbsent(path[i], key -> new LinkedHashMap<String, Object>());
+        }
+        target.put(path[path.length - 1], value);
+    }
+}
@@ -0,0 +1,78 @@
+package com.anh.e_commerce_platform.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.anh.e_commerce_platform.entity.Promotion;
+import com.anh.e_commerce_platform.entity.PromotionScope;
+import com.anh.e_commerce_platform.repository.PromotionRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Service
+public class PromotionService {
+
+    @Autowired
+    private PromotionRepository promotionRepository;
+
+    @Autowired
+    private PricingService pricingService;
+
+    // Récupérer toutes les promotions
+    public List<Promotion> getAllPromotions() {
+        return promotionRepository.findAll();
+    }
+
+    // Récupérer une promotion par ID
+    public Optional<Promotion> getPromotionById(Long id) {
+        return promotionRepository.findById(id);
+    }
+
+    // Créer une promotion puis recompiler l'index
+    public Promotion createPromotion(Promotion promotion) {
+        validateTarget(promotion);
+        Promotion saved = promotionRepository.save(promotion);
+        pricingService.reload();
+        return saved;
+    }
+
+    // Mettre à jour une promotion
+    public Promotion updatePromotion(Long id, Promotion details) {
+        Promotion promotion = promotionRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Promotion avec l'ID " + id + " introuvable"));
+        validateTarget(details);
+        promotion.setName(details.getName());
+        promotion.setType(details.getType());
+        promotion.setScope(details.getScope());
+        promotion.setDiscountValue(details.getDiscountValue());
+        promotion.setProduct(details.getProduct());
+        promotion.setCategory(details.getCategory());
+        promotion.setCouponCode(details.getCouponCode());
+        promotion.setMinQuantity(details.getMinQuantity());
+        promotion.setStartsAt(details.getStartsAt());
+        promotion.setEndsAt(details.getEndsAt());
+        promotion.setActive(details.isActive());
+        Promotion saved = promotionRepository.save(promotion);
+        pricingService.reload();
+        return saved;
+    }
+
+    // Une promotion par produit ou par catégorie doit désigner sa cible (sinon elle ne s'appliquerait jamais)
+    private void validateTarget(Promotion promotion) {
+        if (promotion.getScope() == PromotionScope.PRODUCT
+                && (promotion.getProduct() == null || promotion.getProduct().getId() == null)) {
+            throw new IllegalArgumentException("Produit cible obligatoire pour une promotion par produit");
+        }
+        if (promotion.getScope() == PromotionScope.CATEGORY
+                && (promotion.getCategory() == null || promotion.getCategory().getId() == null)) {
+            throw new IllegalArgumentException("Catégorie cible obligatoire pour une promotion par catégorie");
+        }
+    }
+
+    // Supprimer une promotion
+    public void deletePromotion(Long id) {
+        promotionRepository.deleteById(id);
+        pricingService.reload();
+    }
+}
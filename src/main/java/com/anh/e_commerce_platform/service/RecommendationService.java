@@ -0,0 +1,225 @@
+package com.anh.e_commerce_platform.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.anh.e_commerce_platform.dto.ProductRecommendation;
+import com.anh.e_commerce_platform.entity.OrderStatus;
+import com.anh.e_commerce_platform.event.OrderPlacedEvent;
+import com.anh.e_commerce_platform.event.OrderStatusChangedEvent;
+import com.anh.e_commerce_platform.recommendation.CoOccurrenceMatrix;
+import com.anh.e_commerce_platform.recommendation.Neighbours;
+import com.anh.e_commerce_platform.repository.ArchivedOrderItemRepository;
+import com.anh.e_commerce_platform.repository.OrderItemRepository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+// "Souvent achetés ensemble" : matrice de co-occurrence construite une fois depuis les lignes de commande
+// (actives et archivées), puis tenue à jour par chaque nouvelle commande ou annulation sans recalcul complet.
+// Les k meilleurs voisins de chaque produit sont précalculés : une recommandation est une lecture de map.
+@Service
+public class RecommendationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecommendationService.class);
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private ArchivedOrderItemRepository archivedOrderItemRepository;
+
+    @Value("${app.recommendations.top-k:10}")
+    private int topK;
+
+    @Value("${app.recommendations.min-co-purchases:2}")
+    private int minCoPurchases;
+
+    // Au-delà, une commande (achat en gros, import) est tronquée : le coût est quadratique en nombre de produits
+    @Value("${app.recommendations.max-products-per-order:50}")
+    private int maxProductsPerOrder;
+
+    private final TransactionTemplate transactionTemplate;
+    private final Object lock = new Object();
+
+    // Matrice (null tant que la construction initiale n'est pas terminée) et commandes reçues entre-temps
+    private CoOccurrenceMatrix matrix;
+    private final List<Consumer<CoOccurrenceMatrix>> pending = new ArrayList<>();
+
+    // Produits recalculés sur la matrice à jour pendant un recalcul complet (null hors recalcul)
+    private Set<Long> touchedDuringRescore;
+
+    private final Map<Long, Neighbours> neighbours = new ConcurrentHashMap<>();
+
+    public RecommendationService(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        build();
+    }
+
+    // Construction complète, hors verrou : les commandes passées pendant la lecture sont rejouées ensuite
+    public void build() {
+        CoOccurrenceMatrix built = new CoOccurrenceMatrix();
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<Object[]> rows = orderItemRepository.streamBasketRows()) {
+                addBaskets(built, rows);
+            }
+            try (Stream<Object[]> rows = archivedOrderItemRepository.streamBasketRows()) {
+                addBaskets(built, rows);
+            }
+        });
+
+        synchronized (lock) {
+            // Une commande déjà lue (commitée avant la lecture) est ignorée par la matrice, qui connaît ses identifiants
+            for (Consumer<CoOccurrenceMatrix> change : pending) {
+                change.accept(built);
+            }
+            pending.clear();
+            matrix = built;
+        }
+        rescoreAll();
+        logger.info("Recommandations : {} commande(s), {} produit(s), {} paire(s)", built.orderCount(),
+                built.productCount(), built.pairCount());
+    }
+
+    // Nouvelle commande : compteurs mis à jour et voisins recalculés pour ses seuls produits
+    @TransactionalEventListener
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        long orderId = event.getOrderId();
+        long[] basket = distinct(event.getQuantities().keySet());
+        synchronized (lock) {
+            if (matrix == null) {
+                pending.add(target -> target.addOrder(orderId, basket));
+            } else if (matrix.addOrder(orderId, basket)) {
+                rescore(basket);
+            }
+        }
+    }
+
+    // Commande annulée : retirée des compteurs (la construction exclut déjà les annulations)
+    @TransactionalEventListener
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        if (event.getStatus() != OrderStatus.CANCELLED) {
+            return;
+        }
+        long orderId = event.getOrderId();
+        long[] basket = distinct(transactionTemplate.execute(
+                status -> orderItemRepository.findProductIdsByOrderIds(List.of(orderId))));
+        synchronized (lock) {
+            if (matrix == null) {
+                pending.add(target -> target.removeOrder(orderId, basket));
+            } else if (matrix.removeOrder(orderId, basket)) {
+                rescore(basket);
+            }
+        }
+    }
+
+    // Les fréquences des autres produits ont pu bouger : recalcul périodique de tous les voisins, en mémoire
+    @Scheduled(initialDelayString = "${app.recommendations.rescore-interval:PT15M}",
+            fixedDelayString = "${app.recommendations.rescore-interval:PT15M}")
+    public void scheduledRescore() {
+        rescoreAll();
+    }
+
+    // Produits souvent achetés avec celui-ci, du plus proche au moins proche
+    public List<ProductRecommendation> recommend(Long productId, int limit) {
+        Neighbours found = neighbours.getOrDefault(productId, Neighbours.EMPTY);
+        int size = Math.min(limit, found.size());
+        List<ProductRecommendation> recommendations = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            recommendations.add(new ProductRecommendation(found.productId(i),
+                    Math.round(found.score(i) * 10000) / 10000.0, found.coPurchases(i)));
+        }
+        return recommendations;
+    }
+
+    // Voisins de tous les produits calculés sur une copie de la matrice, hors verrou : les commandes continuent
+    // d'être comptées pendant le calcul. Un produit qu'elles ont touché entre-temps garde les voisins
+    // recalculés sur la matrice à jour.
+    private synchronized void rescoreAll() {
+        CoOccurrenceMatrix copy;
+        synchronized (lock) {
+            if (matrix == null) {
+                return;
+            }
+            copy = matrix.snapshot();
+            touchedDuringRescore = new HashSet<>();
+        }
+        long[] productIds = copy.productIds();
+        Neighbours[] computed = new Neighbours[productIds.length];
+        for (int i = 0; i < productIds.length; i++) {
+            computed[i] = copy.topK(productIds[i], topK, minCoPurchases);
+        }
+        synchronized (lock) {
+            for (int i = 0; i < productIds.length; i++) {
+                if (!touchedDuringRescore.contains(productIds[i])) {
+                    publish(productIds[i], computed[i]);
+                }
+            }
+            touchedDuringRescore = null;
+        }
+    }
+
+    // Sous le verrou
+    private void rescore(long[] basket) {
+        for (long productId : basket) {
+            publish(productId, matrix.topK(productId, topK, minCoPurchases));
+            if (touchedDuringRescore != null) {
+                touchedDuringRescore.add(productId);
+            }
+        }
+    }
+
+    private void publish(long productId, Neighbours top) {
+        if (top.size() == 0) {
+            neighbours.remove(productId);
+        } else {
+            neighbours.put(productId, top);
+        }
+    }
+
+    // Lignes (commande, produit) triées par commande : un panier par commande
+    private void addBaskets(CoOccurrenceMatrix target, Stream<Object[]> rows) {
+        long[] current = new long[] { Long.MIN_VALUE };
+        List<Long> basket = new ArrayList<>();
+        rows.forEach(row -> {
+            long orderId = (Long) row[0];
+            if (orderId != current[0] && !basket.isEmpty()) {
+                target.addOrder(current[0], distinct(basket));
+                basket.clear();
+            }
+            current[0] = orderId;
+            basket.add((Long) row[1]);
+        });
+        if (!basket.isEmpty()) {
+            target.addOrder(current[0], distinct(basket));
+        }
+    }
+
+    // Produits triés avant troncature : une commande annulée retire exactement les produits comptés à l'ajout
+    private long[] distinct(Collection<Long> productIds) {
+        long[] basket = productIds.stream().mapToLong(Long::longValue).distinct().sorted().toArray();
+        return basket.length > maxProductsPerOrder ? Arrays.copyOf(basket, maxProductsPerOrder) : basket;
+    }
+}
@@ -0,0 +1,274 @@
+package com.anh.e_commerce_platform.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.anh.e_commerce_platform.dto.StockAlert;
+import com.anh.e_commerce_platform.entity.OrderStatus;
+import com.anh.e_commerce_platform.entity.Product;
+import com.anh.e_commerce_platform.event.CatalogChangedEvent;
+import com.anh.e_commerce_platform.event.OrderPlacedEvent;
+import com.anh.e_commerce_platform.event.OrderStatusChangedEvent;
+import com.anh.e_commerce_platform.replenishment.AlertLevel;
+import com.anh.e_commerce_platform.replenishment.DecayingCounters;
+import com.anh.e_commerce_platform.repository.OrderItemRepository;
+import com.anh.e_commerce_platform.repository.ProductRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// Alertes de stock bas et réapprovisionnement. Tout est tenu en mémoire : stock et seuil par produit
+// (rafraîchis après chaque changement du catalogue), vitesse de vente par compteurs à décroissance
+// exponentielle (alimentés par les commandes, diminués par les annulations). La table des commandes n'est lue qu'une fois, au démarrage,
+// pour amorcer les vitesses ; les vérifications périodiques ne font aucune requête.
+@Service
+public class ReplenishmentService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplenishmentService.class);
+
+    // En dessous, un produit est considéré comme ne se vendant plus
+    private static final double MIN_DAILY_RATE = 0.01;
+    private static final int LOGGED_ALERTS = 10;
+
+    // Les plus urgentes d'abord : niveau, puis rupture la plus proche
+    private static final Comparator<StockAlert> URGENCY = Comparator.comparing(StockAlert::getLevel)
+            .thenComparing(StockAlert::getDaysOfStockLeft, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(StockAlert::getProductId);
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    private final DecayingCounters velocity;
+    private final Duration halfLife;
+    private final int defaultThreshold;
+    private final double leadTimeDays;
+    private final double coverageDays;
+    private final TransactionTemplate transactionTemplate;
+
+    // Stock et seuil par produit, et alertes en cours par produit (résultat de la dernière vérification)
+    private final Map<Long, StockLevel> levels = new ConcurrentHashMap<>();
+    private volatile Map<Long, StockAlert> alerts = Map.of();
+
+    public ReplenishmentService(@Value("${app.replenishment.half-life:P7D}") Duration halfLife,
+            @Value("${app.replenishment.default-threshold:5}") int defaultThreshold,
+            @Value("${app.replenishment.lead-time:P3D}") Duration leadTime,
+            @Value("${app.replenishment.coverage:P14D}") Duration coverage,
+            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.velocity = new DecayingCounters(halfLife);
+        this.halfLife = halfLife;
+        this.defaultThreshold = defaultThreshold;
+        this.leadTimeDays = leadTime.toMinutes() / 1440.0;
+        this.coverageDays = coverage.toMinutes() / 1440.0;
+        // Transaction en écriture : lecture sur le primaire, l'état doit inclure le commit qui l'a déclenché
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        Gauge.builder("replenishment.alerts", this, service -> service.alerts.size())
+                .description("Produits en alerte de stock")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reloadLevels();
+        seedVelocity();
+        check();
+    }
+
+    // Chaque vente alimente la vitesse du produit, à la date de la commande
+    @TransactionalEventListener
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        long at = toMillis(event.getOrderDate());
+        event.getQuantities().forEach((productId, quantity) -> velocity.add(productId, quantity, at));
+    }
+
+    // Commande annulée : ses ventes sont retirées des vitesses (l'amorçage exclut déjà les annulations)
+    @TransactionalEventListener
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        if (event.getStatus() != OrderStatus.CANCELLED) {
+            return;
+        }
+        List<Object[]> sales = transactionTemplate.execute(
+                status -> orderItemRepository.findSalesOfOrder(event.getOrderId()));
+        for (Object[] row : sales) {
+            velocity.subtract((Long) row[0], (Integer) row[2], toMillis((LocalDateTime) row[1]));
+        }
+    }
+
+    // Stock ou seuil modifié : seuls les produits touchés sont relus (cache de second niveau)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        Set<Long> productIds = event.getProductIds();
+        if (productIds == null) {
+            reloadLevels();
+        } else if (!productIds.isEmpty()) {
+            refreshLevels(productIds);
+        }
+    }
+
+    // Vérification groupée : une passe en mémoire sur tout le catalogue, un seul journal pour les nouvelles alertes
+    @Scheduled(initialDelayString = "${app.replenishment.check-interval:PT1M}",
+            fixedDelayString = "${app.replenishment.check-interval:PT1M}")
+    public synchronized void check() {
+        long nowMillis = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, StockAlert> previous = alerts;
+        Map<Long, StockAlert> next = new HashMap<>();
+        List<StockAlert> raised = new ArrayList<>();
+
+        levels.forEach((productId, level) -> {
+            StockAlert alert = evaluate(productId, level, nowMillis, now, previous.get(productId));
+            if (alert != null) {
+                next.put(productId, alert);
+                StockAlert before = previous.get(productId);
+                if (alert.getLevel().isMoreUrgentThan(before == null ? null : before.getLevel())) {
+                    raised.add(alert);
+                }
+            }
+        });
+        alerts = next;
+        velocity.prune(nowMillis, MIN_DAILY_RATE / 10);
+
+        if (!raised.isEmpty()) {
+            raised.sort(URGENCY);
+            logger.warn("{} nouvelle(s) alerte(s) de stock : {}{}", raised.size(),
+                    raised.stream().limit(LOGGED_ALERTS)
+                            .map(alert -> alert.getProductName() + " (" + alert.getLevel() + ", stock " + alert.getStock() + ")")
+                            .collect(Collectors.joining(", ")),
+                    raised.size() > LOGGED_ALERTS ? ", ..." : "");
+        }
+    }
+
+    // Alertes en cours, les plus urgentes d'abord
+    public List<StockAlert> getAlerts() {
+        List<StockAlert> current = new ArrayList<>(alerts.values());
+        current.sort(URGENCY);
+        return current;
+    }
+
+    private StockAlert evaluate(Long productId, StockLevel level, long nowMillis, LocalDateTime now, StockAlert previous) {
+        int threshold = level.threshold != null ? level.threshold : defaultThreshold;
+        double rate = velocity.dailyRate(productId, nowMillis);
+        Double daysLeft = rate >= MIN_DAILY_RATE ? Math.max(0, level.stock) / rate : null;
+
+        AlertLevel alertLevel;
+        if (level.stock <= 0) {
+            alertLevel = AlertLevel.OUT_OF_STOCK;
+        } else if (daysLeft != null && daysLeft <= leadTimeDays) {
+            alertLevel = AlertLevel.STOCKOUT_PROJECTED;
+        } else if (level.stock <= threshold) {
+            alertLevel = AlertLevel.BELOW_THRESHOLD;
+        } else {
+            return null;
+        }
+
+        // Couvrir le délai de livraison et la période de couverture, et repasser au-dessus du seuil
+        int target = Math.max((int) Math.ceil(rate * (leadTimeDays + coverageDays)), threshold + 1);
+        return new StockAlert(productId, level.name, alertLevel, level.stock, threshold,
+                Math.round(rate * 100) / 100.0,
+                daysLeft == null ? null : Math.round(daysLeft * 10) / 10.0,
+                daysLeft == null ? null : now.plusMinutes((long) (daysLeft * 1440)),
+                Math.max(0, target - level.stock),
+                previous != null ? previous.getRaisedAt() : now);
+    }
+
+    private void reloadLevels() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Set<Long> seen = new HashSet<>();
+            try (Stream<Object[]> rows = productRepository.streamStockRows()) {
+                rows.forEach(row -> {
+                    Long id = (Long) row[0];
+                    seen.add(id);
+                    putLevel(id, new StockLevel((String) row[1], (Integer) row[2], (Integer) row[3], versionOf(row[4])));
+                });
+            }
+            levels.keySet().retainAll(seen);
+        });
+        logger.info("Réapprovisionnement : {} produit(s) suivi(s)", levels.size());
+    }
+
+    private void refreshLevels(Collection<Long> productIds) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Set<Long> missing = new HashSet<>(productIds);
+            for (Product product : productRepository.findAllById(productIds)) {
+                missing.remove(product.getId());
+                putLevel(product.getId(), new StockLevel(product.getName(), product.getStock(),
+                        product.getLowStockThreshold(), versionOf(product.getVersion())));
+            }
+            for (Long id : missing) {
+                levels.remove(id);
+                velocity.remove(id);
+            }
+        });
+    }
+
+    // Comme FacetIndex : un état plus ancien (version inférieure) que celui connu est ignoré, une relecture
+    // concurrente arrivée en retard ne remplace pas un stock plus récent
+    private void putLevel(Long productId, StockLevel level) {
+        levels.merge(productId, level, (previous, next) -> previous.version > next.version ? previous : next);
+    }
+
+    private static long versionOf(Object version) {
+        return version == null ? 0L : (Long) version;
+    }
+
+    // Ventes des dernières demi-vies (au-delà, leur poids est négligeable), lues une seule fois
+    private void seedVelocity() {
+        LocalDateTime since = LocalDateTime.now().minus(halfLife.multipliedBy(4));
+        long[] count = new long[1];
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<Object[]> rows = orderItemRepository.streamSalesSince(since)) {
+                rows.forEach(row -> {
+                    velocity.add((Long) row[0], (Integer) row[2], toMillis((LocalDateTime) row[1]));
+                    count[0]++;
+                });
+            }
+        });
+        logger.info("Vitesses de vente amorcées avec {} ligne(s) de commande depuis {}", count[0], since.toLocalDate());
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    // Stock et seuil d'un produit (seuil null : seuil par défaut), à la version lue
+    private static final class StockLevel {
+
+        private final String name;
+        private final int stock;
+        private final Integer threshold;
+        private final long version;
+
+        private StockLevel(String name, int stock, Integer threshold, long version) {
+            this.name = name;
+            this.stock = stock;
+            this.threshold = threshold;
+            this.version = version;
+        }
+    }
+}
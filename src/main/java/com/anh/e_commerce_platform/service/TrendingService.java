@@ -0,0 +1,126 @@
+package com.anh.e_commerce_platform.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.anh.e_commerce_platform.dto.TrendingProduct;
+import com.anh.e_commerce_platform.event.OrderPlacedEvent;
+import com.anh.e_commerce_platform.trending.SlidingWindowCounters;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+// Produits tendance : consultations (GET /api/products/{id}) et achats (commandes) comptés en mémoire
+// sur une fenêtre glissante, jamais agrégés en SQL. Les totaux de la fenêtre sont recalculés au plus
+// une fois par période de rafraîchissement ; chaque requête en extrait ses N meilleurs par un tas borné.
+@Service
+public class TrendingService {
+
+    // Du moins bon au meilleur : la tête du tas est le candidat à évincer
+    private static final Comparator<TrendingProduct> ASCENDING = Comparator.comparingLong(TrendingProduct::getScore)
+            .thenComparing(TrendingProduct::getProductId, Comparator.reverseOrder());
+
+    @Autowired
+    private FacetService facetService;
+
+    private final SlidingWindowCounters views;
+    private final SlidingWindowCounters purchases;
+    private final long purchaseWeight;
+    private final long refreshMillis;
+
+    private volatile Snapshot snapshot = new Snapshot(0L, List.of());
+
+    public TrendingService(@Value("${app.trending.window:PT1H}") Duration window,
+            @Value("${app.trending.purchase-weight:10}") long purchaseWeight,
+            @Value("${app.trending.refresh:PT10S}") Duration refresh) {
+        this.views = new SlidingWindowCounters(window);
+        this.purchases = new SlidingWindowCounters(window);
+        this.purchaseWeight = purchaseWeight;
+        this.refreshMillis = refresh.toMillis();
+    }
+
+    public void recordView(Long productId) {
+        views.add(productId, 1, System.currentTimeMillis());
+    }
+
+    @TransactionalEventListener
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        long now = System.currentTimeMillis();
+        event.getQuantities().forEach((productId, quantity) -> purchases.add(productId, quantity, now));
+    }
+
+    // N produits les plus en vogue, tous ou d'une catégorie
+    public List<TrendingProduct> top(int limit, Long categoryId) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        PriorityQueue<TrendingProduct> heap = new PriorityQueue<>(limit + 1, ASCENDING);
+        for (TrendingProduct candidate : currentSnapshot().products) {
+            if (categoryId != null && !categoryId.equals(candidate.getCategoryId())) {
+                continue;
+            }
+            heap.offer(candidate);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+        List<TrendingProduct> top = new ArrayList<>(heap);
+        top.sort(ASCENDING.reversed());
+        return top;
+    }
+
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot;
+        long now = System.currentTimeMillis();
+        if (now - current.computedAt < refreshMillis) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot != current) {
+                return snapshot;
+            }
+            snapshot = compute(now);
+            return snapshot;
+        }
+    }
+
+    // Totaux de la fenêtre, rattachés à leur catégorie ; les produits supprimés du catalogue sont écartés
+    private Snapshot compute(long now) {
+        Map<Long, Long> viewTotals = views.totals(now);
+        Map<Long, Long> purchaseTotals = purchases.totals(now);
+        Set<Long> productIds = new HashSet<>(viewTotals.keySet());
+        productIds.addAll(purchaseTotals.keySet());
+        Map<Long, Long> categories = facetService.categoriesOf(productIds);
+
+        List<TrendingProduct> products = new ArrayList<>(categories.size());
+        for (Long productId : productIds) {
+            if (!categories.containsKey(productId)) {
+                continue;
+            }
+            long viewCount = viewTotals.getOrDefault(productId, 0L);
+            long purchaseCount = purchaseTotals.getOrDefault(productId, 0L);
+            products.add(new TrendingProduct(productId, categories.get(productId), viewCount, purchaseCount,
+                    viewCount + purchaseCount * purchaseWeight));
+        }
+        return new Snapshot(now, products);
+    }
+
+    private static final class Snapshot {
+
+        private final long computedAt;
+        private final List<TrendingProduct> products;
+
+        private Snapshot(long computedAt, List<TrendingProduct> products) {
+            this.computedAt = computedAt;
+            this.products = products;
+        }
+    }
+}
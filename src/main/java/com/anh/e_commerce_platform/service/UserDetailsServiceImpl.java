@@ -1,24 +1,63 @@
 package com.anh.e_commerce_platform.service;
 
 import com.anh.e_commerce_platform.entity.User;
+import com.anh.e_commerce_platform.event.UserChangedEvent;
 import com.anh.e_commerce_platform.security.UserPrincipal;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+// Utilisateurs chargés pour le filtre JWT : gardés en cache (une requête SQL par requête HTTP sinon).
+// Un compte supprimé est oublié aussitôt, sur ce nœud comme sur les autres (bus d'invalidation) ;
+// la durée de vie borne ce qui change directement en base.
 @Service
 public class UserDetailsServiceImpl implements UserDetailsService {
 
     @Autowired
     private UserService userService;
 
+    private final Cache<String, UserPrincipal> cache;
+
+    public UserDetailsServiceImpl(@Value("${app.security.user-cache.ttl:PT5M}") Duration ttl,
+            @Value("${app.security.user-cache.max-size:10000}") long maxSize) {
+        this.cache = Caffeine.newBuilder().expireAfterWrite(ttl).maximumSize(maxSize).build();
+    }
+
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
+        UserPrincipal cached = cache.getIfPresent(email);
+        if (cached != null) {
+            return cached;
+        }
         User user = userService.getUserByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + email));
 
-        return new UserPrincipal(user);
+        UserPrincipal principal = new UserPrincipal(user);
+        cache.put(email, principal);
+        return principal;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        evict(List.of(event.getUserId()));
+    }
+
+    // Utilisateurs à recharger (null : tous)
+    public void evict(Collection<Long> userIds) {
+        if (userIds == null) {
+            cache.invalidateAll();
+        } else {
+            cache.asMap().values().removeIf(principal -> userIds.contains(principal.getUser().getId()));
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,14 +1,17 @@
 package com.anh.e_commerce_platform.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import com.anh.e_commerce_platform.entity.User;
+import com.anh.e_commerce_platform.event.UserChangedEvent;
 import com.anh.e_commerce_platform.repository.UserRepository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Service
 public class UserService {
@@ -19,6 +22,9 @@ public class UserService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     // Créer un utilisateur
     public User createUser(User user) {
         user.setPassword(passwordEncoder.encode(user.getPassword()));
@@ -30,6 +36,11 @@ public class UserService {
         return userRepository.findAll();
     }
 
+    // Tous les utilisateurs en flux (à consommer dans une transaction, puis fermer)
+    public Stream<User> streamAllUsers() {
+        return userRepository.streamAll();
+    }
+
     // Récupérer un utilisateur par ID
     public Optional<User> getUserById(Long id) {
         return userRepository.findById(id);
@@ -48,5 +59,6 @@ public class UserService {
     // Supprimer un utilisateur
     public void deleteUser(Long id) {
         userRepository.deleteById(id);
+        eventPublisher.publishEvent(new UserChangedEvent("user.delete", id));
     }
 }
@@ -0,0 +1,150 @@
+package com.anh.e_commerce_platform.sse;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Diffusion Server-Sent Events par sujet ("orders", "stock:42"...).
+// Un abonné inactif ne tient aucun thread (requête asynchrone du conteneur) : seulement son émetteur
+// et une file vide. Chaque abonné a sa file, vidée par une tâche courte sur l'exécuteur (threads virtuels),
+// ce qui garde l'ordre des événements par abonné sans qu'un client lent ne bloque la publication.
+// Un abonné dont la file dépasse maxPending est déconnecté (le client EventSource se reconnecte).
+public class SseHub {
+
+    private final Map<String, Set<Subscriber>> topics = new ConcurrentHashMap<>();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Executor executor;
+    private final long timeoutMillis;
+    private final int maxPending;
+
+    public SseHub(Executor executor, long timeoutMillis, int maxPending) {
+        this.executor = executor;
+        this.timeoutMillis = timeoutMillis;
+        this.maxPending = maxPending;
+    }
+
+    public SseEmitter subscribe(Collection<String> topicNames) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, Set.copyOf(topicNames));
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+        subscribers.add(subscriber);
+        for (String topic : subscriber.topics) {
+            topics.computeIfAbsent(topic, key -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        }
+        // Premier octet immédiat : en-têtes envoyés, le client sait que le flux est ouvert
+        subscriber.offer(SseEmitter.event().comment("ok"));
+        return emitter;
+    }
+
+    // Un événement par abonné, même s'il suit plusieurs des sujets ; data est déjà sérialisé en JSON
+    public void publish(Collection<String> topicNames, String name, String data) {
+        Set<Subscriber> targets = new LinkedHashSet<>();
+        for (String topic : topicNames) {
+            Set<Subscriber> members = topics.get(topic);
+            if (members != null) {
+                targets.addAll(members);
+            }
+        }
+        if (targets.isEmpty()) {
+            return;
+        }
+        SseEventBuilder event = SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON);
+        for (Subscriber subscriber : targets) {
+            subscriber.offer(event);
+        }
+    }
+
+    // Commentaire périodique : détecte les connexions mortes et garde ouverts les proxys intermédiaires
+    public void heartbeat() {
+        SseEventBuilder event = SseEmitter.event().comment("ping");
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(event);
+        }
+    }
+
+    public boolean hasSubscribers(String topic) {
+        Set<Subscriber> members = topics.get(topic);
+        return members != null && !members.isEmpty();
+    }
+
+    public int size() {
+        return subscribers.size();
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (!subscribers.remove(subscriber)) {
+            return;
+        }
+        for (String topic : subscriber.topics) {
+            topics.computeIfPresent(topic, (key, members) -> {
+                members.remove(subscriber);
+                return members.isEmpty() ? null : members;
+            });
+        }
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Set<String> topics;
+        private final Queue<SseEventBuilder> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingCount = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter, Set<String> topics) {
+            this.emitter = emitter;
+            this.topics = topics;
+        }
+
+        private void offer(SseEventBuilder event) {
+            if (pendingCount.incrementAndGet() > maxPending) {
+                remove(this);
+                emitter.complete();
+                return;
+            }
+            pending.add(event);
+            schedule();
+        }
+
+        private void schedule() {
+            if (draining.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEventBuilder event;
+                while ((event = pending.poll()) != null) {
+                    pendingCount.decrementAndGet();
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client parti ou émetteur déjà terminé
+                remove(this);
+                pending.clear();
+                return;
+            } finally {
+                draining.set(false);
+            }
+            // Un événement a pu arriver entre la fin de la boucle et la libération du drapeau
+            if (!pending.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+}
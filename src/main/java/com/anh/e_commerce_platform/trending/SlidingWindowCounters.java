@@ -0,0 +1,67 @@
+package com.anh.e_commerce_platform.trending;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// Compteurs par clé sur une fenêtre glissante, découpée en tranches d'une minute dans un anneau.
+// Incrément sans verrou : LongAdder (cellules réparties entre threads) dans la tranche de la minute courante ;
+// une tranche sortie de la fenêtre est remplacée par CAS quand l'anneau revient sur elle.
+// La mémoire suit l'activité : seules les clés vues pendant une minute ont un compteur dans sa tranche.
+public class SlidingWindowCounters {
+
+    private static final long MILLIS_PER_MINUTE = 60_000L;
+
+    private final int minutes;
+    private final AtomicReferenceArray<Bucket> ring;
+
+    public SlidingWindowCounters(Duration window) {
+        this.minutes = (int) Math.max(1, window.toMinutes());
+        this.ring = new AtomicReferenceArray<>(minutes);
+    }
+
+    public void add(long key, long amount, long nowMillis) {
+        bucket(nowMillis / MILLIS_PER_MINUTE).counts.computeIfAbsent(key, k -> new LongAdder()).add(amount);
+    }
+
+    // Totaux par clé sur la fenêtre se terminant à nowMillis (copie, à exploiter hors des compteurs)
+    public Map<Long, Long> totals(long nowMillis) {
+        long oldest = nowMillis / MILLIS_PER_MINUTE - minutes + 1;
+        Map<Long, Long> totals = new HashMap<>();
+        for (int i = 0; i < minutes; i++) {
+            Bucket bucket = ring.get(i);
+            if (bucket != null && bucket.minute >= oldest) {
+                bucket.counts.forEach((key, count) -> totals.merge(key, count.sum(), Long::sum));
+            }
+        }
+        return totals;
+    }
+
+    private Bucket bucket(long minute) {
+        int index = (int) Math.floorMod(minute, (long) minutes);
+        while (true) {
+            Bucket current = ring.get(index);
+            // Une écriture en retard d'un tour complet (thread suspendu) est comptée dans la tranche récente
+            if (current != null && current.minute >= minute) {
+                return current;
+            }
+            Bucket fresh = new Bucket(minute);
+            if (ring.compareAndSet(index, current, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    private static final class Bucket {
+
+        private final long minute;
+        private final Map<Long, LongAdder> counts = new ConcurrentHashMap<>();
+
+        private Bucket(long minute) {
+            this.minute = minute;
+        }
+    }
+}
@@ -0,0 +1,3 @@
+-- Profil embedded-db (H2 en mémoire) : le schéma est créé par Hibernate (ddl-auto=create-drop).
+-- Les migrations de db/migration sont écrites pour PostgreSQL ; cet emplacement les remplace par ce
+-- script vide, pour que Flyway démarre sans rien appliquer.
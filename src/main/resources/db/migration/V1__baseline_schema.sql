@@ -0,0 +1,104 @@
+-- Schéma de référence (PostgreSQL), identique à celui que générait ddl-auto.
+-- Idempotent : s'applique sur une base vide comme sur une base créée par ddl-auto=update
+-- (Flyway la prend en charge avec baseline-on-migrate et baseline-version=0).
+
+CREATE TABLE IF NOT EXISTS categories (
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    version bigint DEFAULT 0 NOT NULL,
+    description TEXT,
+    name varchar(255) NOT NULL UNIQUE,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS users (
+    created_at timestamp(6),
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    version bigint DEFAULT 0 NOT NULL,
+    address TEXT,
+    email varchar(255) NOT NULL UNIQUE,
+    first_name varchar(255) NOT NULL,
+    last_name varchar(255) NOT NULL,
+    password varchar(255) NOT NULL,
+    phone varchar(255),
+    role varchar(255) NOT NULL CHECK (role IN ('USER', 'ADMIN')),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS products (
+    price numeric(10,2) NOT NULL,
+    stock integer NOT NULL,
+    category_id bigint,
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    version bigint DEFAULT 0 NOT NULL,
+    description TEXT,
+    name varchar(255) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS orders (
+    discount_amount numeric(10,2),
+    total_amount numeric(10,2) NOT NULL,
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    order_date timestamp(6) NOT NULL,
+    user_id bigint NOT NULL,
+    version bigint DEFAULT 0 NOT NULL,
+    status varchar(255) NOT NULL CHECK (status IN ('PENDING', 'CONFIRMED', 'SHIPPED', 'DELIVERED', 'CANCELLED')),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS order_items (
+    quantity integer NOT NULL,
+    unit_price numeric(10,2) NOT NULL,
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    order_id bigint NOT NULL,
+    product_id bigint NOT NULL,
+    version bigint DEFAULT 0 NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS promotions (
+    active boolean NOT NULL,
+    discount_value numeric(10,2) NOT NULL,
+    min_quantity integer NOT NULL,
+    category_id bigint,
+    ends_at timestamp(6),
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    product_id bigint,
+    starts_at timestamp(6),
+    version bigint DEFAULT 0 NOT NULL,
+    coupon_code varchar(64),
+    name varchar(255) NOT NULL,
+    scope varchar(255) NOT NULL CHECK (scope IN ('ALL', 'CATEGORY', 'PRODUCT')),
+    type varchar(255) NOT NULL CHECK (type IN ('PERCENTAGE', 'FIXED_AMOUNT')),
+    PRIMARY KEY (id)
+);
+
+-- Colonnes ajoutées après la première mise en production (bases créées par ddl-auto=update)
+ALTER TABLE categories ADD COLUMN IF NOT EXISTS version bigint DEFAULT 0 NOT NULL;
+ALTER TABLE users ADD COLUMN IF NOT EXISTS version bigint DEFAULT 0 NOT NULL;
+ALTER TABLE products ADD COLUMN IF NOT EXISTS version bigint DEFAULT 0 NOT NULL;
+ALTER TABLE orders ADD COLUMN IF NOT EXISTS version bigint DEFAULT 0 NOT NULL;
+ALTER TABLE orders ADD COLUMN IF NOT EXISTS discount_amount numeric(10,2);
+ALTER TABLE order_items ADD COLUMN IF NOT EXISTS version bigint DEFAULT 0 NOT NULL;
+
+-- Clés étrangères, sous les noms générés par Hibernate pour ne pas dupliquer celles qui existent déjà
+DO $$
+DECLARE
+    fk record;
+BEGIN
+    FOR fk IN SELECT * FROM (VALUES
+            ('order_items', 'fkbioxgbv59vetrxe0ejfubep1w', 'order_id', 'orders'),
+            ('order_items', 'fkocimc7dtr037rh4ls4l95nlfi', 'product_id', 'products'),
+            ('orders', 'fk32ql8ubntj5uh44ph9659tiih', 'user_id', 'users'),
+            ('products', 'fkog2rp4qthbtt2lfyhfo32lsw9', 'category_id', 'categories'),
+            ('promotions', 'fk909g9g1svefta8r8hvluj7j0n', 'category_id', 'categories'),
+            ('promotions', 'fk5ukm0jhih3cbin6dhkppos7ot', 'product_id', 'products'))
+            AS t(table_name, constraint_name, column_name, referenced_table)
+    LOOP
+        IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = fk.constraint_name) THEN
+            EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I FOREIGN KEY (%I) REFERENCES %I',
+                    fk.table_name, fk.constraint_name, fk.column_name, fk.referenced_table);
+        END IF;
+    END LOOP;
+END
+$$;
@@ -0,0 +1,24 @@
+-- Index alignés sur les requêtes des repositories (déclarés aussi par @Index sur les entités)
+
+-- findByUser / findByUserAndStatus : l'utilisateur d'abord, le statut ensuite
+CREATE INDEX IF NOT EXISTS idx_orders_user_status ON orders (user_id, status);
+-- findByStatus et listes par statut triées par date
+CREATE INDEX IF NOT EXISTS idx_orders_status_date ON orders (status, order_date);
+-- Rapports et filtres par période
+CREATE INDEX IF NOT EXISTS idx_orders_order_date ON orders (order_date);
+
+-- findByOrder, chargement des lignes d'une commande
+CREATE INDEX IF NOT EXISTS idx_order_items_order ON order_items (order_id);
+-- Remise en stock (sous-requête corrélée par produit) et suppression de produit
+CREATE INDEX IF NOT EXISTS idx_order_items_product ON order_items (product_id);
+
+-- findByCategory
+CREATE INDEX IF NOT EXISTS idx_products_category ON products (category_id);
+
+-- findByNameContainingIgnoreCase génère "upper(name) like upper('%...%')" :
+-- un index trigramme sur upper(name) sert ces recherches par sous-chaîne
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_products_name_trgm ON products USING gin (upper(name) gin_trgm_ops);
+
+-- findByActiveTrue (rechargement de l'index des promotions)
+CREATE INDEX IF NOT EXISTS idx_promotions_active ON promotions (active) WHERE active;
@@ -0,0 +1,29 @@
+-- Archive des commandes terminées, partitionnée par mois sur order_date.
+-- Les partitions mensuelles sont créées par OrderArchiveService au moment de l'archivage
+-- (orders_archive_pAAAAMM, order_items_archive_pAAAAMM), éventuellement sur un tablespace froid.
+-- La clé primaire contient la clé de partition, comme l'exige PostgreSQL.
+
+CREATE TABLE IF NOT EXISTS orders_archive (
+    id bigint NOT NULL,
+    order_date timestamp(6) NOT NULL,
+    status varchar(255) NOT NULL,
+    total_amount numeric(10,2) NOT NULL,
+    discount_amount numeric(10,2),
+    user_id bigint NOT NULL,
+    archived_at timestamp(6) NOT NULL,
+    PRIMARY KEY (id, order_date)
+) PARTITION BY RANGE (order_date);
+
+CREATE TABLE IF NOT EXISTS order_items_archive (
+    id bigint NOT NULL,
+    order_id bigint NOT NULL,
+    order_date timestamp(6) NOT NULL,
+    product_id bigint NOT NULL,
+    quantity integer NOT NULL,
+    unit_price numeric(10,2) NOT NULL,
+    PRIMARY KEY (id, order_date)
+) PARTITION BY RANGE (order_date);
+
+-- Index déclarés sur la table mère : chaque partition reçoit le sien
+CREATE INDEX IF NOT EXISTS idx_orders_archive_user_date ON orders_archive (user_id, order_date);
+CREATE INDEX IF NOT EXISTS idx_order_items_archive_order ON order_items_archive (order_id);
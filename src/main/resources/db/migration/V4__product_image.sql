@@ -0,0 +1,4 @@
+-- Image produit : empreinte SHA-256 du fichier original dans le stockage adressé par contenu
+-- (les tailles réduites sont retrouvées à partir de l'empreinte, rien d'autre n'est stocké en base).
+
+ALTER TABLE products ADD COLUMN IF NOT EXISTS image_hash varchar(64);
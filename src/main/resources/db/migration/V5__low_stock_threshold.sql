@@ -0,0 +1,3 @@
+-- Seuil d'alerte de stock bas par produit (NULL : seuil par défaut de l'application)
+
+ALTER TABLE products ADD COLUMN IF NOT EXISTS low_stock_threshold integer;
@@ -0,0 +1,17 @@
+-- Réplica local (profil replicas) : base H2 distincte du primaire, exécutée à chaque connexion (INIT).
+-- Ligne témoin replica.marker : nom de la base (replica-1, replica-2), pour voir où une lecture a été routée.
+CREATE SCHEMA IF NOT EXISTS replica;
+CREATE TABLE IF NOT EXISTS replica.marker (name VARCHAR(64) PRIMARY KEY);
+MERGE INTO replica.marker KEY (name) VALUES (LOWER(DATABASE()));
+
+-- Tables de l'application lues sur le primaire (réplication sans retard), en lecture seule.
+-- Tant que Hibernate n'a pas créé le schéma du primaire, la connexion échoue : réplica écarté, lectures
+-- servies par le primaire jusqu'au contrôle de santé suivant. Toute nouvelle table d'entité est à ajouter ici.
+CREATE LINKED TABLE IF NOT EXISTS categories('', 'jdbc:h2:mem:ecommercedb', 'sa', '', 'PUBLIC', 'CATEGORIES') READONLY;
+CREATE LINKED TABLE IF NOT EXISTS products('', 'jdbc:h2:mem:ecommercedb', 'sa', '', 'PUBLIC', 'PRODUCTS') READONLY;
+CREATE LINKED TABLE IF NOT EXISTS users('', 'jdbc:h2:mem:ecommercedb', 'sa', '', 'PUBLIC', 'USERS') READONLY;
+CREATE LINKED TABLE IF NOT EXISTS orders('', 'jdbc:h2:mem:ecommercedb', 'sa', '', 'PUBLIC', 'ORDERS') READONLY;
+CREATE LINKED TABLE IF NOT EXISTS order_items('', 'jdbc:h2:mem:ecommercedb', 'sa', '', 'PUBLIC', 'ORDER_ITEMS') READONLY;
+CREATE LINKED TABLE IF NOT EXISTS orders_archive('', 'jdbc:h2:mem:ecommercedb', 'sa', '', 'PUBLIC', 'ORDERS_ARCHIVE') READONLY;
+CREATE LINKED TABLE IF NOT EXISTS order_items_archive('', 'jdbc:h2:mem:ecommercedb', 'sa', '', 'PUBLIC', 'ORDER_ITEMS_ARCHIVE') READONLY;
+CREATE LINKED TABLE IF NOT EXISTS promotions('', 'jdbc:h2:mem:ecommercedb', 'sa', '', 'PUBLIC', 'PROMOTIONS') READONLY;
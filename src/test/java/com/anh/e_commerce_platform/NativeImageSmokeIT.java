@@ -0,0 +1,183 @@
+package com.anh.e_commerce_platform;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Test de fumée de l'image native (mvn -Pnative verify) : binaire lancé avec les profils de l'image sur une
+// base H2 en mémoire amorcée (profil embedded-db), puis produits, authentification JWT et commandes.
+// Ignoré sans binaire (-Dnative.binary=chemin pour en viser un autre).
+class NativeImageSmokeIT {
+
+    private static final Pattern PORT = Pattern.compile("Tomcat started on port (\\d+)");
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(60);
+
+    private static final HttpClient client = HttpClient.newHttpClient();
+    private static final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    private static Process application;
+    private static String baseUrl;
+
+    @BeforeAll
+    static void startBinary() throws Exception {
+        Path binary = Path.of(System.getProperty("native.binary", "target/e-commerce-platform"));
+        Assumptions.assumeTrue(Files.isExecutable(binary), "Image native absente : " + binary);
+
+        application = new ProcessBuilder(binary.toAbsolutePath().toString(), "--server.port=0",
+                "--spring.profiles.active=prod,embedded-db", "--app.seed-data.enabled=true",
+                "--management.endpoint.health.probes.enabled=true")
+                .redirectErrorStream(true).start();
+        baseUrl = "http://localhost:" + awaitPort(application);
+        awaitReadiness();
+    }
+
+    @AfterAll
+    static void stopBinary() throws InterruptedException {
+        if (application != null) {
+            application.destroy();
+            application.waitFor();
+        }
+    }
+
+    @Test
+    void productControllerServesCatalog() throws Exception {
+        HttpResponse<String> products = get("/api/products", null);
+        assertEquals(200, products.statusCode(), products.body());
+        assertFalse(json(products).isEmpty());
+
+        JsonNode product = json(get("/api/products/1", null));
+        assertEquals(1, product.get("id").asLong());
+        assertTrue(product.get("price").decimalValue().signum() > 0);
+        assertEquals(404, get("/api/products/999999", null).statusCode());
+    }
+
+    @Test
+    void authControllerIssuesTokensAndRejectsBadCredentials() throws Exception {
+        assertFalse(login("john@test.com", "password123").isBlank());
+
+        HttpResponse<String> rejected = post("/api/auth/login", null,
+                "{\"email\":\"john@test.com\",\"password\":\"wrong\"}");
+        assertNotEquals(200, rejected.statusCode());
+
+        String email = "native-" + System.nanoTime() + "@test.com";
+        HttpResponse<String> registered = post("/api/auth/register", null, """
+                {"firstName":"Native","lastName":"Image","email":"%s","password":"password123"}""".formatted(email));
+        assertEquals(200, registered.statusCode(), registered.body());
+        assertFalse(login(email, "password123").isBlank());
+    }
+
+    @Test
+    void orderControllerQuotesAndCreatesOrders() throws Exception {
+        String order = "{\"items\":[{\"productId\":1,\"quantity\":1}]}";
+        assertNotEquals(200, post("/api/orders/quote", null, order).statusCode());
+
+        String token = login("john@test.com", "password123");
+        HttpResponse<String> quote = post("/api/orders/quote", token, order);
+        assertEquals(200, quote.statusCode(), quote.body());
+
+        HttpResponse<String> created = post("/api/orders", token, order);
+        assertEquals(200, created.statusCode(), created.body());
+        long orderId = json(created).get("id").asLong();
+
+        HttpResponse<String> fetched = get("/api/orders/" + orderId, token);
+        assertEquals(200, fetched.statusCode(), fetched.body());
+        assertEquals(orderId, json(fetched).get("id").asLong());
+    }
+
+    // Port attribué lu dans le journal ; la sortie est ensuite vidée en arrière-plan jusqu'à l'arrêt.
+    // Échec du démarrage : première erreur journalisée (cause, ex. migration refusée), à défaut dernière ligne
+    private static int awaitPort(Process process) throws Exception {
+        BufferedReader output = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        String line;
+        String last = null;
+        String firstError = null;
+        while (System.nanoTime() < deadline && (line = output.readLine()) != null) {
+            last = line;
+            if (firstError == null && line.contains("ERROR")) {
+                firstError = line;
+            }
+            Matcher port = PORT.matcher(line);
+            if (port.find()) {
+                Thread.ofVirtual().start(() -> {
+                    try {
+                        output.transferTo(Writer.nullWriter());
+                    } catch (IOException ignored) {
+                    }
+                });
+                return Integer.parseInt(port.group(1));
+            }
+        }
+        process.destroy();
+        throw new IllegalStateException("Image native non démarrée (code " + process.waitFor() + ") : "
+                + (firstError != null ? firstError : last));
+    }
+
+    // Prête une fois les CommandLineRunner terminés (données d'essai créées), comme pour une sonde Kubernetes
+    private static void awaitReadiness() throws Exception {
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (get("/actuator/health/readiness", null).statusCode() != 200) {
+            if (System.nanoTime() > deadline || !application.isAlive()) {
+                throw new IllegalStateException("Image native jamais prête");
+            }
+            Thread.sleep(50);
+        }
+    }
+
+    private static String login(String email, String password) throws Exception {
+        HttpResponse<String> response = post("/api/auth/login", null,
+                "{\"email\":\"%s\",\"password\":\"%s\"}".formatted(email, password));
+        assertEquals(200, response.statusCode(), response.body());
+        return json(response).get("token").asString();
+    }
+
+    private static HttpResponse<String> get(String path, String token) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path)).GET();
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        return send(request);
+    }
+
+    private static HttpResponse<String> post(String path, String token, String body) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        return send(request);
+    }
+
+    private static HttpResponse<String> send(HttpRequest.Builder request) throws Exception {
+        return client.send(request.timeout(Duration.ofSeconds(10)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static JsonNode json(HttpResponse<String> response) {
+        return jsonMapper.readTree(response.body());
+    }
+}
@@ -0,0 +1,50 @@
+package com.anh.e_commerce_platform;
+
+import com.anh.e_commerce_platform.dto.CreateOrderRequest;
+import com.anh.e_commerce_platform.dto.OrderItemRequest;
+import com.anh.e_commerce_platform.entity.Product;
+import com.anh.e_commerce_platform.entity.User;
+import com.anh.e_commerce_platform.service.OrderService;
+import com.anh.e_commerce_platform.service.ProductService;
+import com.anh.e_commerce_platform.service.UserService;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+// Données propres à chaque test @SpringBootTest : le contexte (et la base) est partagé entre les classes
+// de test, d'où des noms uniques plutôt que les produits de DataInitializer, dont le stock varie.
+public final class TestData {
+
+    public static final String CUSTOMER_EMAIL = "john@test.com";
+
+    private TestData() {
+    }
+
+    public static Product newProduct(ProductService productService) {
+        return newProduct(productService, "Produit de test " + System.nanoTime());
+    }
+
+    public static Product newProduct(ProductService productService, String name) {
+        Product product = new Product();
+        product.setName(name);
+        product.setPrice(new BigDecimal("10.00"));
+        product.setStock(10);
+        return productService.createProduct(product);
+    }
+
+    // Commande du client de DataInitializer, même quantité pour chaque produit
+    public static Long placeOrder(OrderService orderService, UserService userService, int quantity, Long... productIds) {
+        User user = userService.getUserByEmail(CUSTOMER_EMAIL).orElseThrow();
+        List<OrderItemRequest> items = new ArrayList<>();
+        for (Long productId : productIds) {
+            OrderItemRequest item = new OrderItemRequest();
+            item.setProductId(productId);
+            item.setQuantity(quantity);
+            items.add(item);
+        }
+        CreateOrderRequest request = new CreateOrderRequest();
+        request.setItems(items);
+        return orderService.createOrderFromRequest(request, user).getId();
+    }
+}
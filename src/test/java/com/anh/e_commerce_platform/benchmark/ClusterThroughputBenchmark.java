@@ -0,0 +1,80 @@
+package com.anh.e_commerce_platform.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.anh.e_commerce_platform.cluster.MultiNodeLauncher;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Débit de lecture d'un produit par HTTP avec 1 ou 3 nœuds sur une même base (profil multinode).
+// Capacité de chaque nœud volontairement bornée (4 threads Tomcat) : c'est l'ajout de nœuds qui doit faire
+// croître le débit. Tous les nœuds partagent les cœurs de cette JVM : à mesurer sur au moins 6 cœurs.
+// Lancer avec : mvn -Pbenchmark test-compile exec:exec -Dbenchmark="ClusterThroughputBenchmark"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+@Threads(24)
+@Fork(1)
+public class ClusterThroughputBenchmark {
+
+    private static final long PRODUCT_ID = 2L;
+    private static final int THREADS_PER_NODE = 4;
+
+    @Param({ "1", "3" })
+    private int nodes;
+
+    private List<ConfigurableApplicationContext> contexts;
+    private final List<String> productUrls = new ArrayList<>();
+    private final AtomicInteger nextClient = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void startNodes() {
+        contexts = MultiNodeLauncher.start(nodes, 0,
+                "--spring.datasource.url=jdbc:h2:mem:cluster-bench-" + nodes + ";DB_CLOSE_DELAY=-1",
+                "--app.cluster.channel=cluster-bench-" + nodes, "--server.tomcat.threads.max=" + THREADS_PER_NODE,
+                "--logging.level.root=WARN");
+        for (ConfigurableApplicationContext context : contexts) {
+            productUrls.add("http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                    + "/api/products/" + PRODUCT_ID);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopNodes() {
+        contexts.forEach(ConfigurableApplicationContext::close);
+    }
+
+    // Clients répartis à parts égales entre les nœuds
+    @State(Scope.Thread)
+    public static class Client {
+        HttpClient http;
+        HttpRequest request;
+
+        @Setup(Level.Trial)
+        public void connect(ClusterThroughputBenchmark benchmark) {
+            String url = benchmark.productUrls.get(benchmark.nextClient.getAndIncrement() % benchmark.productUrls.size());
+            http = HttpClient.newHttpClient();
+            request = HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(10)).GET().build();
+        }
+    }
+
+    @Benchmark
+    public int readProduct(Client client) throws Exception {
+        HttpResponse<String> response = client.http.send(client.request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Réponse " + response.statusCode() + " : " + response.body());
+        }
+        return response.body().length();
+    }
+}
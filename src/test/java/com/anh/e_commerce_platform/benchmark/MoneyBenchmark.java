@@ -0,0 +1,58 @@
+package com.anh.e_commerce_platform.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.anh.e_commerce_platform.money.Money;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Total d'un panier : BigDecimal (ancienne implémentation) vs centimes en long.
+// Lancer avec : mvn -Pbenchmark test-compile exec:exec -Dbenchmark="MoneyBenchmark -prof gc"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+
+    @Param({ "50", "1000" })
+    private int lines;
+
+    private BigDecimal[] prices;
+    private long[] priceCents;
+    private int[] quantities;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        prices = new BigDecimal[lines];
+        priceCents = new long[lines];
+        quantities = new int[lines];
+        for (int i = 0; i < lines; i++) {
+            priceCents[i] = 99 + random.nextInt(200_000);
+            prices[i] = Money.toBigDecimal(priceCents[i]);
+            quantities[i] = 1 + random.nextInt(10);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalTotal() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < lines; i++) {
+            total = total.add(prices[i].multiply(BigDecimal.valueOf(quantities[i])));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long centsTotal() {
+        long total = 0L;
+        for (int i = 0; i < lines; i++) {
+            total = Money.add(total, Money.times(priceCents[i], quantities[i]));
+        }
+        return total;
+    }
+}
@@ -0,0 +1,110 @@
+package com.anh.e_commerce_platform.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.anh.e_commerce_platform.ECommercePlatformApplication;
+import com.anh.e_commerce_platform.dto.CreateOrderRequest;
+import com.anh.e_commerce_platform.dto.OrderItemRequest;
+import com.anh.e_commerce_platform.dto.OrderResponse;
+import com.anh.e_commerce_platform.entity.Product;
+import com.anh.e_commerce_platform.entity.User;
+import com.anh.e_commerce_platform.repository.ProductRepository;
+import com.anh.e_commerce_platform.service.OrderService;
+import com.anh.e_commerce_platform.service.ProductService;
+import com.anh.e_commerce_platform.service.UserService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Checkout et lecture du catalogue : profil par défaut vs profil high-throughput (pool, lots JDBC).
+// Sur H2 seul l'effet du pool et des lots est visible ; le cache de requêtes préparées concerne PostgreSQL.
+// Lancer avec : mvn -Pbenchmark test-compile exec:exec -Dbenchmark="PersistenceProfileBenchmark"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class PersistenceProfileBenchmark {
+
+    private static final int THREADS = 8;
+    private static final int LINES_PER_ORDER = 5;
+    private static final int CATALOG_SIZE = 500;
+
+    // "default" : aucun profil ajouté à ceux d'application.properties
+    @Param({ "default", "high-throughput" })
+    private String profile;
+
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+    private ProductService productService;
+    private User buyer;
+    private final List<CreateOrderRequest> carts = new ArrayList<>();
+    private final AtomicInteger nextCart = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        SpringApplicationBuilder application = new SpringApplicationBuilder(ECommercePlatformApplication.class);
+        if (!profile.equals("default")) {
+            application.profiles(profile);
+        }
+        context = application.run("--server.port=0", "--logging.level.org.hibernate.SQL=INFO");
+        orderService = context.getBean(OrderService.class);
+        productService = context.getBean(ProductService.class);
+        buyer = context.getBean(UserService.class).getUserByEmail("admin@ecommerce.com").orElseThrow();
+
+        // Un panier distinct par thread : pas de conflit de version sur le stock pendant la mesure
+        ProductRepository productRepository = context.getBean(ProductRepository.class);
+        List<Product> catalog = new ArrayList<>();
+        for (int i = 0; i < CATALOG_SIZE; i++) {
+            Product product = new Product();
+            product.setName("Produit bench " + i);
+            product.setPriceCents(1_000 + i);
+            product.setStock(1_000_000_000);
+            catalog.add(product);
+        }
+        productRepository.saveAll(catalog);
+        for (int t = 0; t < THREADS; t++) {
+            List<OrderItemRequest> items = new ArrayList<>();
+            for (int l = 0; l < LINES_PER_ORDER; l++) {
+                OrderItemRequest item = new OrderItemRequest();
+                item.setProductId(catalog.get(t * LINES_PER_ORDER + l).getId());
+                item.setQuantity(1);
+                items.add(item);
+            }
+            CreateOrderRequest cart = new CreateOrderRequest();
+            cart.setItems(items);
+            carts.add(cart);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Cart {
+        CreateOrderRequest request;
+
+        @Setup(Level.Trial)
+        public void pick(PersistenceProfileBenchmark benchmark) {
+            request = benchmark.carts.get(benchmark.nextCart.getAndIncrement() % THREADS);
+        }
+    }
+
+    @Benchmark
+    public OrderResponse checkout(Cart cart) {
+        return orderService.createOrderFromRequest(cart.request, buyer);
+    }
+
+    @Benchmark
+    public List<Product> catalogRead() {
+        return productService.getAllProducts();
+    }
+}
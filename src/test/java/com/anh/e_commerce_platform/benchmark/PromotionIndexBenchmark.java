@@ -0,0 +1,103 @@
+package com.anh.e_commerce_platform.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.anh.e_commerce_platform.entity.Category;
+import com.anh.e_commerce_platform.entity.Product;
+import com.anh.e_commerce_platform.entity.Promotion;
+import com.anh.e_commerce_platform.entity.PromotionScope;
+import com.anh.e_commerce_platform.entity.PromotionType;
+import com.anh.e_commerce_platform.pricing.PromotionIndex;
+
+import java.math.BigDecimal;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Remises d'un panier de 50 lignes face à des milliers de promotions actives (par produit, par catégorie,
+// globales, avec code promo). Allocation attendue : 0 octet par panier.
+// Lancer avec : mvn -Pbenchmark test-compile exec:exec -Dbenchmark="PromotionIndexBenchmark -prof gc"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PromotionIndexBenchmark {
+
+    private static final int LINES = 50;
+    private static final int PRODUCTS = 20_000;
+    private static final int CATEGORIES = 200;
+
+    @Param({ "1000", "10000" })
+    private int rules;
+
+    @Param({ "", "SUMMER" })
+    private String coupon;
+
+    private PromotionIndex index;
+    private long[] productIds;
+    private long[] categoryIds;
+    private long[] unitCents;
+    private int[] quantities;
+    private final long[] applied = new long[1];
+    private long nowMillis;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<Promotion> promotions = new ArrayList<>(rules);
+        for (int i = 0; i < rules; i++) {
+            Promotion promotion = new Promotion();
+            promotion.setId((long) i + 1);
+            promotion.setType(random.nextBoolean() ? PromotionType.PERCENTAGE : PromotionType.FIXED_AMOUNT);
+            promotion.setDiscountValue(BigDecimal.valueOf(1 + random.nextInt(2_000), 2));
+            promotion.setMinQuantity(1 + random.nextInt(3));
+            int kind = random.nextInt(100);
+            if (kind < 80) {
+                Product product = new Product();
+                product.setId((long) 1 + random.nextInt(PRODUCTS));
+                promotion.setScope(PromotionScope.PRODUCT);
+                promotion.setProduct(product);
+            } else if (kind < 98) {
+                Category category = new Category();
+                category.setId((long) 1 + random.nextInt(CATEGORIES));
+                promotion.setScope(PromotionScope.CATEGORY);
+                promotion.setCategory(category);
+            } else {
+                promotion.setScope(PromotionScope.ALL);
+            }
+            if (random.nextInt(10) == 0) {
+                promotion.setCouponCode("SUMMER");
+            }
+            promotions.add(promotion);
+        }
+        index = PromotionIndex.compile(promotions, ZoneOffset.UTC);
+
+        productIds = new long[LINES];
+        categoryIds = new long[LINES];
+        unitCents = new long[LINES];
+        quantities = new int[LINES];
+        for (int i = 0; i < LINES; i++) {
+            productIds[i] = 1 + random.nextInt(PRODUCTS);
+            categoryIds[i] = 1 + random.nextInt(CATEGORIES);
+            unitCents[i] = 99 + random.nextInt(50_000);
+            quantities[i] = 1 + random.nextInt(5);
+        }
+        nowMillis = System.currentTimeMillis();
+    }
+
+    @Benchmark
+    public long cartDiscount() {
+        String couponCode = coupon.isEmpty() ? null : coupon;
+        long total = 0L;
+        for (int i = 0; i < LINES; i++) {
+            applied[0] = 0L;
+            total += index.lineDiscount(productIds[i], categoryIds[i], unitCents[i], quantities[i], couponCode,
+                    nowMillis, applied);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,105 @@
+package com.anh.e_commerce_platform.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.web.DefaultSecurityFilterChain;
+import org.springframework.security.web.FilterChainProxy;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.util.matcher.AnyRequestMatcher;
+
+import com.anh.e_commerce_platform.ECommercePlatformApplication;
+import com.anh.e_commerce_platform.security.JwtRequestFilter;
+import com.anh.e_commerce_platform.security.JwtTokenUtil;
+import com.anh.e_commerce_platform.service.UserDetailsServiceImpl;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Coût de la sécurité par requête de lecture du catalogue (GET /api/products/1), contrôleur exclu :
+// "split" : chaînes actuelles (route publique servie par la chaîne anonyme) ;
+// "single" : chaîne unique d'avant, filtre JWT exécuté sur toutes les requêtes.
+// Client anonyme ou connecté (le frontend envoie son token sur toutes les requêtes). Les deux variantes sont
+// assemblées de la même façon, sans les observations Micrometer de l'application (communes aux deux).
+// Lancer avec : mvn -Pbenchmark test-compile exec:exec -Dbenchmark="SecurityFilterChainBenchmark -prof gc"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SecurityFilterChainBenchmark {
+
+    private static final FilterChain CONTROLLER = (request, response) -> {
+    };
+
+    @Param({ "split", "single" })
+    private String chains;
+
+    @Param({ "anonymous", "bearer" })
+    private String client;
+
+    private ConfigurableApplicationContext context;
+    private FilterChainProxy security;
+    private String authorization;
+
+    @Setup(Level.Trial)
+    public void startApplication() throws Exception {
+        context = new SpringApplicationBuilder(ECommercePlatformApplication.class)
+                .run("--server.port=0", "--logging.level.root=WARN");
+
+        List<SecurityFilterChain> securityChains = chains.equals("split")
+                ? List.of(context.getBean("publicFilterChain", SecurityFilterChain.class),
+                        context.getBean("filterChain", SecurityFilterChain.class))
+                : List.of(singleChain());
+        security = new FilterChainProxy(securityChains);
+        security.afterPropertiesSet();
+        if (client.equals("bearer")) {
+            JwtTokenUtil jwtTokenUtil = context.getBean(JwtTokenUtil.class);
+            authorization = "Bearer " + jwtTokenUtil.generateToken(
+                    context.getBean(UserDetailsServiceImpl.class).loadUserByUsername("john@test.com"));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public int catalogRead() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products/1");
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        security.doFilter(request, response, CONTROLLER);
+        return response.getStatus();
+    }
+
+    // Chaîne authentifiée seule, pour toutes les requêtes (ses règles permettent toujours le catalogue),
+    // avec un filtre JWT sans court-circuit des routes publiques
+    private SecurityFilterChain singleChain() {
+        SecurityFilterChain authenticated = context.getBean("filterChain", SecurityFilterChain.class);
+        JwtRequestFilter everyRequest = new JwtRequestFilter() {
+            @Override
+            protected boolean shouldNotFilter(HttpServletRequest request) {
+                return false;
+            }
+        };
+        context.getAutowireCapableBeanFactory().autowireBean(everyRequest);
+
+        List<Filter> filters = new ArrayList<>();
+        for (Filter filter : authenticated.getFilters()) {
+            filters.add(filter instanceof JwtRequestFilter ? everyRequest : filter);
+        }
+        return new DefaultSecurityFilterChain(AnyRequestMatcher.INSTANCE, filters);
+    }
+}
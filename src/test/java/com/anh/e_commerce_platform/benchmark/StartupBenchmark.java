@@ -0,0 +1,141 @@
+package com.anh.e_commerce_platform.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+// Démarrage de l'application dans une JVM neuve, jusqu'au journal "Started" : temps mesuré, mémoire résidente
+// (RSS, Linux) affichée en fin d'essai.
+// Modes : jar exécutable tel quel (Dockerfile d'origine), profil lazy, contexte AOT, archive AppCDS (jar éclaté).
+// Profil prod, comme l'image Docker : base PostgreSQL lue dans l'environnement (DB_HOST, DB_NAME, DB_USER,
+// DB_PASSWORD), archive AppCDS entraînée sur H2 (prod,embedded-db). Le jar doit être construit avec l'AOT
+// pour ce profil (aot.profiles vaut prod par défaut) :
+//   mvn -Paot package -DskipTests
+//   mvn -Pbenchmark test-compile exec:exec -Dbenchmark="StartupBenchmark"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StartupBenchmark {
+
+    private static final String PROFILES = "prod";
+
+    @Param({ "jar", "jar-lazy", "aot", "aot-cds", "aot-cds-lazy" })
+    private String mode;
+
+    private final String java = ProcessHandle.current().info().command().orElse("java");
+    private Path workDir;
+    private List<String> command;
+    private Process process;
+    private final List<Long> residentMiB = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void prepare() throws Exception {
+        Path jar = findJar();
+        workDir = Files.createTempDirectory("startup-benchmark");
+        command = new ArrayList<>(List.of(java));
+
+        Path appJar = jar;
+        if (mode.startsWith("aot")) {
+            // Jar éclaté : classpath de jars simples, requis par CDS
+            run(workDir, java, "-Djarmode=tools", "-jar", jar.toString(), "extract", "--destination", "application");
+            workDir = workDir.resolve("application");
+            appJar = workDir.resolve(jar.getFileName());
+            command.add("-Dspring.aot.enabled=true");
+        }
+        if (mode.contains("cds")) {
+            // Démarrage d'entraînement : classes chargées jusqu'au rafraîchissement du contexte archivées à la sortie
+            run(workDir, java, "-XX:ArchiveClassesAtExit=app.jsa", "-Dspring.aot.enabled=true",
+                    "-Dspring.context.exit=onRefresh", "-jar", appJar.toString(),
+                    "--spring.profiles.active=" + PROFILES + ",embedded-db");
+            command.add("-XX:SharedArchiveFile=app.jsa");
+        }
+        command.addAll(List.of("-jar", appJar.toString(), "--server.port=0", "--logging.level.org.hibernate.SQL=INFO",
+                "--spring.profiles.active=" + (mode.endsWith("lazy") ? PROFILES + ",lazy" : PROFILES)));
+    }
+
+    @TearDown(Level.Invocation)
+    public void stop() throws InterruptedException {
+        if (process != null) {
+            process.destroy();
+            process.waitFor();
+            process = null;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void cleanUp() throws IOException {
+        System.out.printf("%n%s : RSS après démarrage %.0f Mio (moyenne de %d démarrages)%n", mode,
+                residentMiB.stream().mapToLong(Long::longValue).average().orElse(-1), residentMiB.size());
+        Path root = workDir.getFileName().toString().equals("application") ? workDir.getParent() : workDir;
+        try (Stream<Path> files = Files.walk(root)) {
+            files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Benchmark
+    public long startup() throws Exception {
+        process = new ProcessBuilder(command).directory(workDir.toFile()).redirectErrorStream(true).start();
+        BufferedReader output = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+        String line;
+        String last = null;
+        while ((line = output.readLine()) != null) {
+            last = line;
+            if (line.contains("Started ECommercePlatformApplication")) {
+                long rss = residentMiB(process.pid());
+                residentMiB.add(rss);
+                // Sortie du processus vidée en arrière-plan jusqu'à son arrêt (flux fermé par destroy)
+                Thread.ofVirtual().start(() -> {
+                    try {
+                        output.transferTo(Writer.nullWriter());
+                    } catch (IOException ignored) {
+                    }
+                });
+                return rss;
+            }
+        }
+        throw new IllegalStateException("Application arrêtée avant la fin du démarrage (code " + process.waitFor()
+                + ") : " + last);
+    }
+
+    private static long residentMiB(long pid) throws IOException {
+        Path status = Path.of("/proc", Long.toString(pid), "status");
+        if (!Files.exists(status)) {
+            return -1;
+        }
+        try (Stream<String> lines = Files.lines(status)) {
+            return lines.filter(line -> line.startsWith("VmRSS:"))
+                    .mapToLong(line -> Long.parseLong(line.replaceAll("\\D", "")) / 1024)
+                    .findFirst().orElse(-1);
+        }
+    }
+
+    private static Path findJar() throws IOException {
+        try (Stream<Path> files = Files.list(Path.of("target"))) {
+            return files.filter(path -> path.toString().endsWith(".jar")).map(Path::toAbsolutePath).findFirst()
+                    .orElseThrow(() -> new IllegalStateException("Aucun jar dans target/ : mvn -Paot -Daot.profiles=dev package"));
+        }
+    }
+
+    private static void run(Path directory, String... command) throws Exception {
+        Process step = new ProcessBuilder(command).directory(directory.toFile()).redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD).start();
+        if (step.waitFor() != 0) {
+            throw new IllegalStateException("Échec de " + String.join(" ", command));
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.anh.e_commerce_platform.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.anh.e_commerce_platform.dto.LoginResponse;
+import com.anh.e_commerce_platform.dto.OrderResponse;
+import com.anh.e_commerce_platform.dto.OrderResponse.OrderItemResponse;
+import com.anh.e_commerce_platform.entity.Category;
+import com.anh.e_commerce_platform.entity.Order;
+import com.anh.e_commerce_platform.entity.OrderStatus;
+import com.anh.e_commerce_platform.entity.Product;
+
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+// JSON vs CBOR vs Smile sur les charges des contrôleurs : coût d'écriture (serveur) et de lecture (client).
+// Les tailles (brute, et gzip pour le JSON) sont affichées au démarrage de chaque essai.
+// Lancer avec : mvn -Pbenchmark test-compile exec:exec -Dbenchmark="WireFormatBenchmark -prof gc"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    @Param({ "json", "cbor", "smile" })
+    private String format;
+
+    @Param({ "products", "order", "login" })
+    private String payload;
+
+    private ObjectMapper mapper;
+    private Object value;
+    private JavaType type;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        mapper = switch (format) {
+            case "cbor" -> CBORMapper.builder().build();
+            case "smile" -> SmileMapper.builder().build();
+            default -> JsonMapper.builder().build();
+        };
+        switch (payload) {
+            case "products" -> {
+                value = products(500);
+                type = mapper.getTypeFactory().constructCollectionType(List.class, Product.class);
+            }
+            case "order" -> {
+                value = order(20);
+                // OrderResponse n'est construit que côté serveur (depuis une Order) : lecture en Map côté client
+                type = mapper.constructType(Map.class);
+            }
+            default -> {
+                value = new LoginResponse("eyJhbGciOiJIUzI1NiJ9." + "x".repeat(180) + ".signature",
+                        "client@example.com", "Jeanne", "Martin", "USER");
+                type = mapper.constructType(LoginResponse.class);
+            }
+        }
+        encoded = mapper.writeValueAsBytes(value);
+        System.out.printf("%n%s / %s : %d octets%s%n", format, payload, encoded.length,
+                format.equals("json") ? " (gzip : " + gzip(encoded).length + " octets)" : "");
+    }
+
+    // Coût serveur : sérialisation de la réponse
+    @Benchmark
+    public byte[] serialize() {
+        return mapper.writeValueAsBytes(value);
+    }
+
+    // Coût client : lecture de la réponse en objets
+    @Benchmark
+    public Object deserialize() {
+        return mapper.readValue(encoded, type);
+    }
+
+    private static List<Product> products(int count) {
+        Random random = new Random(42);
+        List<Category> categories = new ArrayList<>();
+        for (long i = 1; i <= 8; i++) {
+            Category category = new Category();
+            category.setId(i);
+            category.setName("Catégorie " + i);
+            category.setDescription("Description de la catégorie " + i);
+            category.setVersion(0L);
+            categories.add(category);
+        }
+        List<Product> products = new ArrayList<>(count);
+        for (long i = 1; i <= count; i++) {
+            Product product = new Product();
+            product.setId(i);
+            product.setName("Produit " + i);
+            product.setDescription("Description détaillée du produit " + i + ", avec ses caractéristiques principales");
+            product.setPriceCents(99 + random.nextInt(200_000));
+            product.setStock(random.nextInt(500));
+            product.setCategory(categories.get(random.nextInt(categories.size())));
+            product.setVersion((long) random.nextInt(10));
+            products.add(product);
+        }
+        return products;
+    }
+
+    private static OrderResponse order(int lines) {
+        Order order = new Order();
+        order.setId(12345L);
+        order.setOrderDate(LocalDateTime.of(2025, 6, 1, 14, 30));
+        order.setStatus(OrderStatus.PENDING);
+        List<OrderItemResponse> items = new ArrayList<>(lines);
+        long total = 0L;
+        for (long i = 1; i <= lines; i++) {
+            OrderItemResponse item = new OrderItemResponse(i, "Produit " + i, (int) (1 + i % 4), 1999L * i);
+            items.add(item);
+            total += 1999L * i * (1 + i % 4);
+        }
+        order.setTotalAmountCents(total);
+        order.setDiscountAmountCents(0L);
+        return new OrderResponse(order, items);
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        }
+        return out.toByteArray();
+    }
+}
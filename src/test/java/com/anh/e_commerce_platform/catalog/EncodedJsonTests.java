@@ -0,0 +1,64 @@
+package com.anh.e_commerce_platform.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+class EncodedJsonTests {
+
+    @Test
+    void acceptsGzipFollowsTheQualityValue() {
+        assertTrue(EncodedJson.acceptsGzip("gzip, deflate, br"));
+        assertTrue(EncodedJson.acceptsGzip("br;q=1.0, GZIP;q=0.5"));
+        assertTrue(EncodedJson.acceptsGzip("*"));
+        assertFalse(EncodedJson.acceptsGzip(null));
+        assertFalse(EncodedJson.acceptsGzip("identity"));
+        assertFalse(EncodedJson.acceptsGzip("gzip;q=0"));
+        assertFalse(EncodedJson.acceptsGzip("*;q=0.0"));
+    }
+
+    @Test
+    void malformedQualityValueIsRefusedWithoutException() {
+        // En-tête fourni par le client : une valeur illisible ne doit pas se transformer en 500
+        assertFalse(EncodedJson.acceptsGzip("gzip;q=abc"));
+        assertFalse(EncodedJson.acceptsGzip("gzip;q="));
+        assertFalse(EncodedJson.acceptsGzip("gzip;q=NaN"));
+    }
+
+    @Test
+    void arrayIsAssembledFromEncodedElements() throws IOException {
+        List<byte[]> elements = List.of(bytes("{\"id\":1}"), bytes("{\"id\":2}"), bytes("{\"id\":3}"));
+
+        EncodedJson json = EncodedJson.ofArray(elements, 6);
+
+        assertEquals("[{\"id\":1},{\"id\":2},{\"id\":3}]", new String(json.getIdentity(), StandardCharsets.UTF_8));
+        assertArrayEquals(json.getIdentity(), gunzip(json.getGzip()));
+        assertEquals(EncodedJson.of(json.getIdentity(), 1).getEtag(), json.getEtag());
+    }
+
+    @Test
+    void emptyAndSingleElementArrays() {
+        assertEquals("[]", new String(EncodedJson.ofArray(List.of(), 6).getIdentity(), StandardCharsets.UTF_8));
+        assertEquals("[{}]",
+                new String(EncodedJson.ofArray(List.of(bytes("{}")), 6).getIdentity(), StandardCharsets.UTF_8));
+    }
+
+    private static byte[] bytes(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] gunzip(byte[] data) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(data))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.anh.e_commerce_platform.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+class FacetIndexTests {
+
+    // Tranches : [0, 20 €[, [20 €, 50 €[, [50 €, ...[
+    private final FacetIndex index = new FacetIndex(new long[] { 0, 2000, 5000 });
+
+    @Test
+    void boundsMustStartAtZeroAndIncrease() {
+        assertThrows(IllegalArgumentException.class, () -> new FacetIndex(new long[0]));
+        assertThrows(IllegalArgumentException.class, () -> new FacetIndex(new long[] { 100, 2000 }));
+        assertThrows(IllegalArgumentException.class, () -> new FacetIndex(new long[] { 0, 2000, 2000 }));
+    }
+
+    @Test
+    void bucketOfUsesLowerBoundsInclusively() {
+        assertEquals(0, index.bucketOf(0));
+        assertEquals(0, index.bucketOf(1999));
+        assertEquals(1, index.bucketOf(2000));
+        assertEquals(1, index.bucketOf(4999));
+        assertEquals(2, index.bucketOf(5000));
+        assertEquals(2, index.bucketOf(Long.MAX_VALUE));
+    }
+
+    @Test
+    void negativePriceFallsInFirstBucket() {
+        assertEquals(0, index.bucketOf(-1));
+        assertEquals(0, index.bucketOf(Long.MIN_VALUE));
+
+        index.put(1, 10L, -500, 3, 0);
+
+        assertArrayEquals(new long[] { 0, 1, 0, 0, 0, 0 }, index.snapshot().get(10L));
+    }
+
+    @Test
+    void countsFollowUpdatesAndRemovals() {
+        index.put(1, 10L, 1500, 3, 0);
+        index.put(2, 10L, 3000, 0, 0);
+        index.put(3, 20L, 9900, 1, 0);
+        assertArrayEquals(new long[] { 0, 1, 1, 0, 0, 0 }, index.snapshot().get(10L));
+        assertArrayEquals(new long[] { 0, 0, 0, 0, 0, 1 }, index.snapshot().get(20L));
+
+        // Changement de prix, de stock et de catégorie
+        index.put(1, 20L, 6000, 0, 1);
+        assertArrayEquals(new long[] { 0, 0, 1, 0, 0, 0 }, index.snapshot().get(10L));
+        assertArrayEquals(new long[] { 0, 0, 0, 0, 1, 1 }, index.snapshot().get(20L));
+
+        index.remove(3);
+        index.remove(42);
+        assertArrayEquals(new long[] { 0, 0, 0, 0, 1, 0 }, index.snapshot().get(20L));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void olderVersionIsIgnored() {
+        index.put(1, 10L, 1500, 3, 5);
+        index.put(1, 10L, 9000, 0, 4);
+
+        assertArrayEquals(new long[] { 0, 1, 0, 0, 0, 0 }, index.snapshot().get(10L));
+
+        index.put(1, 10L, 9000, 0, 5);
+        assertArrayEquals(new long[] { 0, 0, 0, 0, 1, 0 }, index.snapshot().get(10L));
+    }
+
+    @Test
+    void productsWithoutCategoryAreTrackedButNotCounted() {
+        index.put(1, null, 1500, 3, 0);
+
+        assertEquals(1, index.size());
+        assertTrue(index.snapshot().isEmpty());
+        Map<Long, Long> categories = index.categoriesOf(List.of(1L, 2L));
+        assertTrue(categories.containsKey(1L));
+        assertFalse(categories.containsKey(2L));
+    }
+
+    @Test
+    void snapshotIsACopy() {
+        index.put(1, 10L, 1500, 3, 0);
+        index.snapshot().get(10L)[1] = 99;
+
+        assertEquals(1, index.snapshot().get(10L)[1]);
+        index.clear();
+        assertEquals(0, index.size());
+        assertTrue(index.snapshot().isEmpty());
+    }
+}
@@ -0,0 +1,167 @@
+package com.anh.e_commerce_platform.cluster;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.anh.e_commerce_platform.entity.Product;
+import com.anh.e_commerce_platform.service.ProductService;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// Plusieurs nœuds sur une même base : aucun état de session, aucun cache local périmé après un changement
+// fait sur un autre nœud. Le débit selon le nombre de nœuds est mesuré par ClusterThroughputBenchmark.
+class MultiNodeClusterTests {
+
+    private static final int NODES = 3;
+    private static final long PRODUCT_ID = 2L;
+
+    private static final HttpClient client = HttpClient.newHttpClient();
+    private static final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    private static List<ConfigurableApplicationContext> nodes;
+    private static List<String> baseUrls;
+    private static String adminToken;
+
+    @BeforeAll
+    static void startNodes() throws Exception {
+        nodes = MultiNodeLauncher.start(NODES, 0, "--spring.datasource.url=jdbc:h2:mem:cluster-tests;DB_CLOSE_DELAY=-1",
+                "--app.cluster.channel=cluster-tests", "--logging.level.root=WARN");
+        baseUrls = new ArrayList<>();
+        for (ConfigurableApplicationContext node : nodes) {
+            baseUrls.add("http://localhost:" + node.getEnvironment().getProperty("local.server.port"));
+        }
+        adminToken = login(baseUrls.get(0), "admin@ecommerce.com", "admin123");
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        if (nodes != null) {
+            nodes.forEach(ConfigurableApplicationContext::close);
+        }
+    }
+
+    @Test
+    void tokenIssuedByOneNodeIsAcceptedByAllNodes() throws Exception {
+        String token = login(baseUrls.get(1), "john@test.com", "password123");
+        for (String baseUrl : baseUrls) {
+            assertEquals(200, quote(baseUrl, token).statusCode(), baseUrl);
+        }
+    }
+
+    @Test
+    void noNodeServesStaleProductAfterUpdate() throws Exception {
+        // Produit chargé dans le cache de second niveau de chaque nœud
+        for (String baseUrl : baseUrls) {
+            assertEquals(200, get(baseUrl + "/api/products/" + PRODUCT_ID, null).statusCode());
+        }
+
+        ProductService productService = nodes.get(1).getBean(ProductService.class);
+        Product details = productService.getProductById(PRODUCT_ID).orElseThrow();
+        String name = "iPhone 15 Pro - " + System.nanoTime();
+        details.setName(name);
+        details.setPrice(new BigDecimal("1099.00"));
+        productService.updateProduct(PRODUCT_ID, details);
+
+        // Dès le retour de updateProduct : lecture par identifiant à jour partout
+        for (String baseUrl : baseUrls) {
+            JsonNode product = json(get(baseUrl + "/api/products/" + PRODUCT_ID, null));
+            assertEquals(name, product.get("name").asString(), baseUrl);
+            assertEquals(0, new BigDecimal("1099.00").compareTo(product.get("price").decimalValue()), baseUrl);
+        }
+        // Catalogue précompressé : reconstruit après la fenêtre de regroupement (app.catalog.snapshot.debounce)
+        for (String baseUrl : baseUrls) {
+            assertTrue(eventually(() -> get(baseUrl + "/api/products", null).body().contains(name)), baseUrl);
+        }
+    }
+
+    @Test
+    void deletedUserIsRejectedByEveryNode() throws Exception {
+        String email = "cluster-" + System.nanoTime() + "@test.com";
+        HttpResponse<String> registered = post(baseUrls.get(0) + "/api/auth/register", null, """
+                {"firstName":"Node","lastName":"Test","email":"%s","password":"password123"}""".formatted(email));
+        assertEquals(200, registered.statusCode(), registered.body());
+        String token = login(baseUrls.get(0), email, "password123");
+        // Utilisateur désormais en cache sur chaque nœud
+        for (String baseUrl : baseUrls) {
+            assertEquals(200, quote(baseUrl, token).statusCode(), baseUrl);
+        }
+
+        long userId = json(get(baseUrls.get(2) + "/api/users/email/" + email, adminToken)).get("id").asLong();
+        HttpResponse<String> deleted = send(HttpRequest.newBuilder(URI.create(baseUrls.get(2) + "/api/users/" + userId))
+                .header("Authorization", "Bearer " + adminToken).DELETE());
+        assertTrue(deleted.statusCode() < 300, deleted.body());
+
+        for (String baseUrl : baseUrls) {
+            assertNotEquals(200, quote(baseUrl, token).statusCode(), baseUrl);
+        }
+    }
+
+    private static boolean eventually(Check check) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!check.passes()) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.sleep(50);
+        }
+        return true;
+    }
+
+    private static String login(String baseUrl, String email, String password) throws Exception {
+        HttpResponse<String> response = post(baseUrl + "/api/auth/login", null,
+                "{\"email\":\"%s\",\"password\":\"%s\"}".formatted(email, password));
+        assertEquals(200, response.statusCode(), response.body());
+        return json(response).get("token").asString();
+    }
+
+    private static HttpResponse<String> quote(String baseUrl, String token) throws Exception {
+        return post(baseUrl + "/api/orders/quote", token, "{\"items\":[{\"productId\":1,\"quantity\":1}]}");
+    }
+
+    private static HttpResponse<String> get(String url, String token) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url)).GET();
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        return send(request);
+    }
+
+    private static HttpResponse<String> post(String url, String token, String body) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        return send(request);
+    }
+
+    private static HttpResponse<String> send(HttpRequest.Builder request) throws Exception {
+        return client.send(request.timeout(Duration.ofSeconds(10)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static JsonNode json(HttpResponse<String> response) {
+        return jsonMapper.readTree(response.body());
+    }
+
+    @FunctionalInterface
+    private interface Check {
+        boolean passes() throws Exception;
+    }
+}
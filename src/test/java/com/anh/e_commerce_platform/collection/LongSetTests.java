@@ -0,0 +1,52 @@
+package com.anh.e_commerce_platform.collection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class LongSetTests {
+
+    @Test
+    void addReportsNewKeysOnly() {
+        LongSet set = new LongSet(1);
+
+        assertTrue(set.add(42));
+        assertFalse(set.add(42));
+        assertTrue(set.contains(42));
+        assertFalse(set.contains(43));
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    void zeroAndNegativeKeysAreDistinctFromEmptySlots() {
+        LongSet set = new LongSet(1);
+
+        assertFalse(set.contains(0));
+        set.add(0);
+        set.add(-1);
+        set.add(Long.MIN_VALUE);
+        set.add(Long.MAX_VALUE);
+
+        assertTrue(set.contains(0));
+        assertTrue(set.contains(-1));
+        assertTrue(set.contains(Long.MIN_VALUE));
+        assertTrue(set.contains(Long.MAX_VALUE));
+        assertEquals(4, set.size());
+    }
+
+    @Test
+    void keysSurviveGrowth() {
+        LongSet set = new LongSet(1);
+        for (long key = 0; key < 10_000; key++) {
+            set.add(key * 1_000_003L);
+        }
+
+        assertEquals(10_000, set.size());
+        for (long key = 0; key < 10_000; key++) {
+            assertTrue(set.contains(key * 1_000_003L));
+        }
+        assertFalse(set.contains(7));
+    }
+}
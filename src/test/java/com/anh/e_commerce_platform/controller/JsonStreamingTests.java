@@ -0,0 +1,230 @@
+package com.anh.e_commerce_platform.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.anh.e_commerce_platform.TestData;
+import com.anh.e_commerce_platform.entity.Order;
+import com.anh.e_commerce_platform.entity.OrderStatus;
+import com.anh.e_commerce_platform.repository.OrderRepository;
+import com.anh.e_commerce_platform.repository.UserRepository;
+import com.anh.e_commerce_platform.service.OrderArchiveService;
+import com.anh.e_commerce_platform.service.OrderService;
+import com.anh.e_commerce_platform.service.ProductService;
+import com.anh.e_commerce_platform.service.UserService;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+
+// Listes écrites en flux (JsonStreamingService) à travers un vrai conteneur : flush et entityManager.clear()
+// tous les deux éléments, base dédiée (les commandes archivées ici ne concernent pas les autres classes de test),
+// compression négociée par Tomcat au-delà de server.compression.min-response-size
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:streaming-tests;DB_CLOSE_DELAY=-1",
+        "app.streaming.flush-every=2" })
+class JsonStreamingTests {
+
+    private static final int ORDERS = 12;
+
+    private static final HttpClient client = HttpClient.newHttpClient();
+    private static final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderArchiveService orderArchiveService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private String adminToken;
+
+    @BeforeEach
+    void createOrders() throws Exception {
+        // Bien plus de lignes que app.streaming.flush-every
+        while (orderRepository.count() < ORDERS) {
+            Long productId = TestData.newProduct(productService).getId();
+            TestData.placeOrder(orderService, userService, 1, productId);
+        }
+        adminToken = login("admin@ecommerce.com", "admin123");
+    }
+
+    @Test
+    void everyOrderIsStreamedAsOneJsonArray() throws Exception {
+        HttpResponse<byte[]> response = get("/api/orders", null);
+
+        assertEquals(200, response.statusCode());
+        assertEquals(activeOrderIds(), ids(json(response.body())));
+    }
+
+    @Test
+    void everyUserIsStreamedAsOneJsonArray() throws Exception {
+        HttpResponse<byte[]> response = get("/api/users", null);
+
+        assertEquals(200, response.statusCode());
+        Set<Long> expected = new HashSet<>();
+        userRepository.findAll().forEach(user -> expected.add(user.getId()));
+        assertEquals(expected, ids(json(response.body())));
+    }
+
+    @Test
+    void includeArchivedAppendsTheArchive() throws Exception {
+        Long archivedId = TestData.placeOrder(orderService, userService, 1, TestData.newProduct(productService).getId());
+        deliverLongAgo(archivedId);
+        assertTrue(orderArchiveService.archiveCompletedOrders() >= 1);
+
+        Set<Long> active = activeOrderIds();
+        assertFalse(active.contains(archivedId));
+        assertEquals(active, ids(json(get("/api/orders", null).body())));
+
+        Set<Long> all = ids(json(get("/api/orders?includeArchived=true", null).body()));
+        assertTrue(all.contains(archivedId));
+        assertTrue(all.containsAll(active));
+        Set<Long> archived = new HashSet<>();
+        orderArchiveService.findAllArchivedOrders().forEach(order -> archived.add(order.getId()));
+        assertEquals(active.size() + archived.size(), all.size());
+    }
+
+    @Test
+    void invalidFieldsAreABadRequest() throws Exception {
+        HttpResponse<byte[]> combined = get("/api/orders?fields=id,status&includeArchived=true", null);
+        assertEquals(400, combined.statusCode());
+        assertEquals("fields ne peut pas être combiné avec includeArchived", text(combined));
+
+        HttpResponse<byte[]> unknown = get("/api/orders?fields=id,password", null);
+        assertEquals(400, unknown.statusCode());
+        assertTrue(text(unknown).startsWith("Champ inconnu : password"), text(unknown));
+
+        HttpResponse<byte[]> projected = get("/api/orders?fields=id,status", null);
+        assertEquals(200, projected.statusCode());
+        assertEquals(activeOrderIds(), ids(json(projected.body())));
+    }
+
+    @Test
+    void largeResponsesAreGzippedWhenAccepted() throws Exception {
+        HttpResponse<byte[]> plain = get("/api/orders", null);
+        assertNull(plain.headers().firstValue("Content-Encoding").orElse(null));
+        assertTrue(plain.body().length > 2048, "Réponse trop petite pour le seuil : " + plain.body().length);
+
+        HttpResponse<byte[]> compressed = get("/api/orders", "gzip");
+        assertEquals("gzip", compressed.headers().firstValue("Content-Encoding").orElse(null));
+        assertEquals(json(plain.body()), json(gunzip(compressed.body())));
+    }
+
+    @Test
+    void catalogSnapshotIsNotCompressedTwice() throws Exception {
+        HttpResponse<byte[]> plain = get("/api/products", null);
+        HttpResponse<byte[]> compressed = get("/api/products", "gzip");
+
+        assertEquals(200, compressed.statusCode());
+        assertEquals(1, compressed.headers().allValues("Content-Encoding").size());
+        assertEquals("gzip", compressed.headers().firstValue("Content-Encoding").orElse(null));
+        // Un seul décodage donne le JSON (le gzip de l'instantané n'a pas été recompressé par le conteneur)
+        JsonNode products = json(gunzip(compressed.body()));
+        assertTrue(products.isArray() && products.size() > 0);
+        assertEquals(json(plain.body()), products);
+    }
+
+    private void deliverLongAgo(Long orderId) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Order order = orderRepository.findById(orderId).orElseThrow();
+            order.setStatus(OrderStatus.DELIVERED);
+            order.setOrderDate(LocalDateTime.now().minusDays(365));
+        });
+    }
+
+    private Set<Long> activeOrderIds() {
+        Set<Long> ids = new HashSet<>();
+        orderRepository.findAll().forEach(order -> ids.add(order.getId()));
+        return ids;
+    }
+
+    // Tableau JSON complet et bien formé : chaque élément une fois
+    private static Set<Long> ids(JsonNode array) {
+        assertTrue(array.isArray(), array.toString());
+        Set<Long> ids = new HashSet<>();
+        for (JsonNode element : array) {
+            assertTrue(ids.add(element.get("id").asLong()), "Élément en double : " + element);
+        }
+        return ids;
+    }
+
+    private String login(String email, String password) throws Exception {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(url("/api/auth/login")))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"email\":\"%s\",\"password\":\"%s\"}".formatted(email, password)))
+                .timeout(Duration.ofSeconds(10))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, response.statusCode(), response.body());
+        return jsonMapper.readTree(response.body()).get("token").asString();
+    }
+
+    // HttpClient ne décompresse rien lui-même : le corps reçu est celui envoyé par le serveur
+    private HttpResponse<byte[]> get(String path, String acceptEncoding) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url(path)))
+                .header("Authorization", "Bearer " + adminToken)
+                .timeout(Duration.ofSeconds(10))
+                .GET();
+        if (acceptEncoding != null) {
+            request.header("Accept-Encoding", acceptEncoding);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + port + path;
+    }
+
+    private static JsonNode json(byte[] body) {
+        return jsonMapper.readTree(body);
+    }
+
+    private static String text(HttpResponse<byte[]> response) {
+        return new String(response.body(), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return in.readAllBytes();
+        }
+    }
+}
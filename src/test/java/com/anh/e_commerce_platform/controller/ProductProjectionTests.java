@@ -0,0 +1,87 @@
+package com.anh.e_commerce_platform.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.anh.e_commerce_platform.TestData;
+import com.anh.e_commerce_platform.entity.Product;
+import com.anh.e_commerce_platform.service.ProductService;
+
+// Lectures partielles (?fields=...) de bout en bout : champs invalides -> 400, recherche par nom littérale
+@SpringBootTest
+@AutoConfigureMockMvc
+class ProductProjectionTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductService productService;
+
+    @Test
+    void unknownFieldIsABadRequest() throws Exception {
+        mockMvc.perform(get("/api/products").param("fields", "id,prix"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string(Matchers.startsWith("Champ inconnu : prix")));
+        mockMvc.perform(get("/api/products/1").param("fields", "password"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/products/search").param("name", "a").param("fields", "cat"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void emptyFieldListIsABadRequest() throws Exception {
+        mockMvc.perform(get("/api/products").param("fields", ""))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Aucun champ demandé"));
+        mockMvc.perform(get("/api/products/1").param("fields", " , "))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void onlyRequestedFieldsAreReturned() throws Exception {
+        Product product = newProduct("Projection " + System.nanoTime());
+
+        mockMvc.perform(get("/api/products/" + product.getId()).param("fields", "name,price"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value(product.getName()))
+                .andExpect(jsonPath("$.price").value(10.0))
+                .andExpect(jsonPath("$.id").doesNotExist())
+                .andExpect(jsonPath("$.stock").doesNotExist());
+    }
+
+    @Test
+    void searchWildcardsAreMatchedLiterally() throws Exception {
+        String marker = "J" + System.nanoTime();
+        Product percent = newProduct(marker + " remise 50% coton");
+        newProduct(marker + " remise 500 coton");
+        Product underscore = newProduct(marker + " taille_m");
+        newProduct(marker + " tailleXm");
+
+        mockMvc.perform(get("/api/products/search").param("name", marker + " remise 50%").param("fields", "id"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(percent.getId()));
+        mockMvc.perform(get("/api/products/search").param("name", marker + " taille_").param("fields", "id"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(underscore.getId()));
+        // Même résultat que la recherche complète (findByNameContainingIgnoreCase)
+        mockMvc.perform(get("/api/products/search").param("name", marker + " TAILLE_"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    private Product newProduct(String name) {
+        return TestData.newProduct(productService, name);
+    }
+}
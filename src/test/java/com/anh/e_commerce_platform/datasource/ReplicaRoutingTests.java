@@ -0,0 +1,140 @@
+package com.anh.e_commerce_platform.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.anh.e_commerce_platform.entity.Category;
+import com.anh.e_commerce_platform.repository.CategoryRepository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// Profil replicas : primaire et réplicas sont des bases H2 distinctes, chacune avec sa ligne témoin
+// (replica.marker, db/replicas/replica.sql) ; la base qui répond à une lecture dit où elle a été routée
+@SpringBootTest
+@ActiveProfiles("replicas")
+class ReplicaRoutingTests {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ReplicaPool replicaPool;
+
+    // Réplicas disponibles une fois le schéma du primaire créé ; ligne témoin du primaire ajoutée ici
+    @BeforeEach
+    void awaitReplicas() throws InterruptedException {
+        jdbcTemplate.execute("CREATE SCHEMA IF NOT EXISTS replica");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS replica.marker (name VARCHAR(64) PRIMARY KEY)");
+        jdbcTemplate.execute("MERGE INTO replica.marker KEY (name) VALUES ('primary')");
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!replicaPool.getReplicas().stream().allMatch(ReplicaPool.Replica::isHealthy)) {
+            assertTrue(System.nanoTime() < deadline, "Réplicas jamais disponibles");
+            Thread.sleep(50);
+            replicaPool.checkHealth();
+        }
+    }
+
+    @AfterEach
+    void clearPrincipal() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionsGoToTheReplicas() {
+        Set<String> databases = new HashSet<>();
+        for (int i = 0; i < 10; i++) {
+            databases.add(readOnlyMarker());
+        }
+
+        assertEquals(Set.of("replica-1", "replica-2"), databases);
+        assertEquals("primary", marker(false));
+    }
+
+    @Test
+    void readsStayOnThePrimaryRightAfterAWrite() {
+        signIn("writer-" + System.nanoTime());
+        assertTrue(readOnlyMarker().startsWith("replica-"));
+
+        TransactionTemplate write = new TransactionTemplate(transactionManager);
+        write.executeWithoutResult(status -> {
+            Category category = new Category();
+            category.setName("Catégorie " + System.nanoTime());
+            categoryRepository.save(category);
+        });
+
+        assertEquals("primary", readOnlyMarker());
+        assertEquals("primary", readOnlyMarker());
+
+        // Un autre utilisateur n'est pas concerné
+        signIn("reader-" + System.nanoTime());
+        assertTrue(readOnlyMarker().startsWith("replica-"));
+    }
+
+    @Test
+    void transactionWithoutWritesDoesNotStick() {
+        signIn("reader-" + System.nanoTime());
+
+        // Transaction sans readOnly qui ne fait que lire
+        assertEquals("primary", marker(false));
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> categoryRepository.findAll());
+
+        assertTrue(readOnlyMarker().startsWith("replica-"));
+    }
+
+    @Test
+    @DirtiesContext
+    void readsFailOverWhenAReplicaIsDown() {
+        ReplicaPool.Replica down = replicaPool.getReplicas().get(0);
+        down.getDataSource().close();
+
+        List<String> databases = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            databases.add(readOnlyMarker());
+        }
+
+        // Réplica écarté à son premier refus (lecture servie par le primaire), l'autre sert ensuite tout
+        assertFalse(down.isHealthy());
+        assertFalse(databases.contains("replica-1"), databases.toString());
+        assertEquals(List.of("replica-2", "replica-2", "replica-2", "replica-2"), databases.subList(2, 6));
+    }
+
+    private String readOnlyMarker() {
+        return marker(true);
+    }
+
+    private String marker(boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM replica.marker", String.class));
+    }
+
+    private static void signIn(String name) {
+        SecurityContextHolder.getContext()
+                .setAuthentication(UsernamePasswordAuthenticationToken.authenticated(name, null, List.of()));
+    }
+}
@@ -0,0 +1,72 @@
+package com.anh.e_commerce_platform.entity;
+
+import static com.anh.e_commerce_platform.entity.OrderStatus.CANCELLED;
+import static com.anh.e_commerce_platform.entity.OrderStatus.CONFIRMED;
+import static com.anh.e_commerce_platform.entity.OrderStatus.DELIVERED;
+import static com.anh.e_commerce_platform.entity.OrderStatus.PENDING;
+import static com.anh.e_commerce_platform.entity.OrderStatus.SHIPPED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+class OrderStatusTests {
+
+    // Table attendue, écrite indépendamment de celle de l'enum
+    private static final Map<OrderStatus, Set<OrderStatus>> EXPECTED = new EnumMap<>(Map.of(
+            PENDING, EnumSet.of(CONFIRMED, CANCELLED),
+            CONFIRMED, EnumSet.of(SHIPPED, CANCELLED),
+            SHIPPED, EnumSet.of(DELIVERED),
+            DELIVERED, EnumSet.noneOf(OrderStatus.class),
+            CANCELLED, EnumSet.noneOf(OrderStatus.class)));
+
+    @Test
+    void everyPairFollowsTheTransitionTable() {
+        for (OrderStatus from : OrderStatus.values()) {
+            for (OrderStatus to : OrderStatus.values()) {
+                assertEquals(EXPECTED.get(from).contains(to), from.canTransitionTo(to), from + " -> " + to);
+            }
+            assertEquals(EXPECTED.get(from), from.allowedTransitions(), from.name());
+        }
+    }
+
+    @Test
+    void noStatusTransitionsToItself() {
+        for (OrderStatus status : OrderStatus.values()) {
+            assertFalse(status.canTransitionTo(status), status.name());
+        }
+    }
+
+    @Test
+    void cannotCancelOnceShipped() {
+        assertFalse(SHIPPED.canTransitionTo(CANCELLED));
+        assertFalse(DELIVERED.canTransitionTo(CANCELLED));
+    }
+
+    @Test
+    void sourcesAreTheInverseOfTheTable() {
+        assertEquals(EnumSet.of(PENDING, CONFIRMED), OrderStatus.sourcesOf(CANCELLED));
+        assertEquals(EnumSet.of(PENDING), OrderStatus.sourcesOf(CONFIRMED));
+        assertEquals(EnumSet.of(CONFIRMED), OrderStatus.sourcesOf(SHIPPED));
+        assertEquals(EnumSet.of(SHIPPED), OrderStatus.sourcesOf(DELIVERED));
+        assertEquals(EnumSet.noneOf(OrderStatus.class), OrderStatus.sourcesOf(PENDING));
+    }
+
+    @Test
+    void onlyDeliveredAndCancelledAreTerminal() {
+        for (OrderStatus status : OrderStatus.values()) {
+            assertEquals(status == DELIVERED || status == CANCELLED, status.isTerminal(), status.name());
+        }
+    }
+
+    @Test
+    void allowedTransitionsCannotBeModified() {
+        assertThrows(UnsupportedOperationException.class, () -> PENDING.allowedTransitions().add(DELIVERED));
+    }
+}
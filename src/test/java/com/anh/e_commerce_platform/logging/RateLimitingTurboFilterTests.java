@@ -0,0 +1,81 @@
+package com.anh.e_commerce_platform.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+class RateLimitingTurboFilterTests {
+
+    private final LoggerContext context = new LoggerContext();
+    private final RateLimitingTurboFilter filter = new RateLimitingTurboFilter();
+    private Logger stock;
+    private Logger orders;
+
+    @BeforeEach
+    void setUp() {
+        stock = context.getLogger("com.anh.stock");
+        orders = context.getLogger("com.anh.orders");
+        context.getLogger(Logger.ROOT_LOGGER_NAME).setLevel(Level.INFO);
+        filter.setLimit(3);
+        filter.setInterval("PT1M");
+    }
+
+    @Test
+    void sameMessageIsDeniedPastTheLimit() {
+        for (int i = 0; i < 3; i++) {
+            assertEquals(FilterReply.NEUTRAL, warn(stock, "Stock bas pour {}", i));
+        }
+        assertEquals(FilterReply.DENY, warn(stock, "Stock bas pour {}", 3));
+        assertEquals(FilterReply.DENY, warn(stock, "Stock bas pour {}", 4));
+    }
+
+    @Test
+    void limitIsCountedPerLoggerAndFormat() {
+        for (int i = 0; i < 3; i++) {
+            warn(stock, "Stock bas pour {}", i);
+        }
+
+        // Même format sur un autre logger, autre format sur le même logger : compteurs distincts
+        assertEquals(FilterReply.NEUTRAL, warn(orders, "Stock bas pour {}", 0));
+        assertEquals(FilterReply.NEUTRAL, warn(stock, "Rupture pour {}", 0));
+        assertEquals(FilterReply.DENY, warn(stock, "Stock bas pour {}", 0));
+    }
+
+    @Test
+    void otherLevelsAndEnabledChecksAreNeverCounted() {
+        for (int i = 0; i < 10; i++) {
+            assertEquals(FilterReply.NEUTRAL, filter.decide(null, stock, Level.ERROR, "Échec {}", new Object[] { i }, null));
+            assertEquals(FilterReply.NEUTRAL, filter.decide(null, stock, Level.WARN, null, null, null));
+        }
+        assertEquals(FilterReply.NEUTRAL, warn(stock, "Échec {}", 0));
+    }
+
+    @Test
+    void countsAreResetWhenTheIntervalHasElapsed() {
+        for (int i = 0; i < 4; i++) {
+            warn(stock, "Stock bas pour {}", i);
+        }
+        assertEquals(FilterReply.DENY, warn(stock, "Stock bas pour {}", 4));
+
+        // Début de fenêtre reculé d'un intervalle plutôt qu'une attente réelle
+        AtomicLong windowStart = (AtomicLong) ReflectionTestUtils.getField(filter, "windowStart");
+        windowStart.addAndGet(-60_000);
+
+        assertEquals(FilterReply.NEUTRAL, warn(stock, "Stock bas pour {}", 5));
+        assertEquals(FilterReply.NEUTRAL, warn(stock, "Stock bas pour {}", 6));
+        assertEquals(FilterReply.NEUTRAL, warn(stock, "Stock bas pour {}", 7));
+        assertEquals(FilterReply.DENY, warn(stock, "Stock bas pour {}", 8));
+    }
+
+    private FilterReply warn(Logger logger, String format, Object param) {
+        return filter.decide(null, logger, Level.WARN, format, new Object[] { param }, null);
+    }
+}
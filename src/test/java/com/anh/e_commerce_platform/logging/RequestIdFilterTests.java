@@ -0,0 +1,74 @@
+package com.anh.e_commerce_platform.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+class RequestIdFilterTests {
+
+    private final RequestIdFilter filter = new RequestIdFilter();
+
+    @Test
+    void validHeaderIsReusedInMdcAndResponse() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        String inMdc = filter(request("proxy-42:a.b_c"), response);
+
+        assertEquals("proxy-42:a.b_c", inMdc);
+        assertEquals("proxy-42:a.b_c", response.getHeader(RequestIdFilter.HEADER));
+        assertNull(MDC.get(RequestIdFilter.MDC_KEY));
+    }
+
+    @Test
+    void missingHeaderGetsGeneratedId() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        String inMdc = filter(new MockHttpServletRequest("GET", "/api/products"), response);
+
+        assertTrue(inMdc.matches("[0-9a-f]{1,16}"), inMdc);
+        assertEquals(inMdc, response.getHeader(RequestIdFilter.HEADER));
+    }
+
+    @Test
+    void invalidHeaderIsReplaced() throws Exception {
+        // Retour à la ligne : fausse entrée de journal
+        String forged = "abc\n2026-01-01 ERROR faux";
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        String inMdc = filter(request(forged), response);
+
+        assertNotEquals(forged, inMdc);
+        assertTrue(inMdc.matches("[0-9a-f]{1,16}"), inMdc);
+        assertEquals(inMdc, response.getHeader(RequestIdFilter.HEADER));
+    }
+
+    @Test
+    void oversizedHeaderIsReplaced() throws Exception {
+        String longest = "a".repeat(64);
+        String oversized = "a".repeat(65);
+
+        assertEquals(longest, filter(request(longest), new MockHttpServletResponse()));
+        String inMdc = filter(request(oversized), new MockHttpServletResponse());
+        assertTrue(inMdc.matches("[0-9a-f]{1,16}"), inMdc);
+    }
+
+    private static MockHttpServletRequest request(String requestId) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products");
+        request.addHeader(RequestIdFilter.HEADER, requestId);
+        return request;
+    }
+
+    // Identifiant vu dans le MDC par la suite de la chaîne
+    private String filter(MockHttpServletRequest request, MockHttpServletResponse response) throws Exception {
+        AtomicReference<String> inMdc = new AtomicReference<>();
+        FilterChain chain = (req, res) -> inMdc.set(MDC.get(RequestIdFilter.MDC_KEY));
+        filter.doFilter(request, response, chain);
+        return inMdc.get();
+    }
+}
@@ -0,0 +1,68 @@
+package com.anh.e_commerce_platform.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SamplingTurboFilterTests {
+
+    private static final int EVENTS = 10_000;
+
+    private final LoggerContext context = new LoggerContext();
+    private final SamplingTurboFilter filter = new SamplingTurboFilter();
+
+    @BeforeEach
+    void setUp() {
+        context.getLogger(Logger.ROOT_LOGGER_NAME).setLevel(Level.DEBUG);
+        filter.setCategory("org.hibernate.SQL");
+        filter.setKeepOneIn(10);
+    }
+
+    @Test
+    void categoryAndItsChildrenAreSampled() {
+        int kept = kept(context.getLogger("org.hibernate.SQL"), Level.DEBUG);
+        int keptChild = kept(context.getLogger("org.hibernate.SQL.batch"), Level.DEBUG);
+
+        // Un sur dix en moyenne, large marge pour un tirage aléatoire
+        assertTrue(kept > 500 && kept < 1500, "gardés : " + kept);
+        assertTrue(keptChild > 500 && keptChild < 1500, "gardés : " + keptChild);
+    }
+
+    @Test
+    void loggerSharingOnlyTheNamePrefixIsNotSampled() {
+        assertEquals(EVENTS, kept(context.getLogger("org.hibernate.SQLx"), Level.DEBUG));
+        assertEquals(EVENTS, kept(context.getLogger("org.hibernate.SQL_STATS"), Level.DEBUG));
+        assertEquals(EVENTS, kept(context.getLogger("org.hibernate"), Level.DEBUG));
+    }
+
+    @Test
+    void warningsAndErrorsAreAlwaysKept() {
+        Logger sql = context.getLogger("org.hibernate.SQL");
+
+        assertEquals(EVENTS, kept(sql, Level.WARN));
+        assertEquals(EVENTS, kept(sql, Level.ERROR));
+    }
+
+    @Test
+    void keepOneInOfOneDisablesSampling() {
+        filter.setKeepOneIn(1);
+
+        assertEquals(EVENTS, kept(context.getLogger("org.hibernate.SQL"), Level.DEBUG));
+    }
+
+    private int kept(Logger logger, Level level) {
+        int kept = 0;
+        for (int i = 0; i < EVENTS; i++) {
+            if (filter.decide(null, logger, level, "select {}", new Object[] { i }, null) == FilterReply.NEUTRAL) {
+                kept++;
+            }
+        }
+        return kept;
+    }
+}
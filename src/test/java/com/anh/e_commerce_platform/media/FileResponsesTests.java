@@ -0,0 +1,57 @@
+package com.anh.e_commerce_platform.media;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+class FileResponsesTests {
+
+    private static final long LENGTH = 1000;
+
+    @Test
+    void closedRange() {
+        assertArrayEquals(new long[] { 0, 99 }, FileResponses.parseRange("bytes=0-99", LENGTH));
+        assertArrayEquals(new long[] { 500, 500 }, FileResponses.parseRange("bytes=500-500", LENGTH));
+        // Fin au-delà du fichier : ramenée au dernier octet
+        assertArrayEquals(new long[] { 900, 999 }, FileResponses.parseRange("bytes=900-5000", LENGTH));
+    }
+
+    @Test
+    void openEndedRange() {
+        assertArrayEquals(new long[] { 200, 999 }, FileResponses.parseRange("bytes=200-", LENGTH));
+        assertArrayEquals(new long[] { 999, 999 }, FileResponses.parseRange("bytes=999-", LENGTH));
+    }
+
+    @Test
+    void suffixRange() {
+        assertArrayEquals(new long[] { 900, 999 }, FileResponses.parseRange("bytes=-100", LENGTH));
+        // Suffixe plus long que le fichier : le fichier entier
+        assertArrayEquals(new long[] { 0, 999 }, FileResponses.parseRange("bytes=-5000", LENGTH));
+    }
+
+    @Test
+    void unsatisfiableRange() {
+        assertArrayEquals(new long[0], FileResponses.parseRange("bytes=1000-", LENGTH));
+        assertArrayEquals(new long[0], FileResponses.parseRange("bytes=1000-1100", LENGTH));
+        assertArrayEquals(new long[0], FileResponses.parseRange("bytes=500-400", LENGTH));
+        assertArrayEquals(new long[0], FileResponses.parseRange("bytes=-0", LENGTH));
+        assertArrayEquals(new long[0], FileResponses.parseRange("bytes=-10", 0));
+        assertArrayEquals(new long[0], FileResponses.parseRange("bytes=0-", 0));
+    }
+
+    @Test
+    void multipleRangesAreIgnored() {
+        assertNull(FileResponses.parseRange("bytes=0-99,200-299", LENGTH));
+        assertNull(FileResponses.parseRange("bytes=-100, 0-1", LENGTH));
+    }
+
+    @Test
+    void malformedRangesAreIgnored() {
+        assertNull(FileResponses.parseRange("items=0-99", LENGTH));
+        assertNull(FileResponses.parseRange("bytes=100", LENGTH));
+        assertNull(FileResponses.parseRange("bytes=abc-def", LENGTH));
+        assertNull(FileResponses.parseRange("bytes=-", LENGTH));
+        assertNull(FileResponses.parseRange("bytes=99999999999999999999-", LENGTH));
+    }
+}
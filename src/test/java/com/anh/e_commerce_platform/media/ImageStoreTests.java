@@ -0,0 +1,78 @@
+package com.anh.e_commerce_platform.media;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+class ImageStoreTests {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void imageWithinLimitIsStored() throws IOException {
+        ImageStore store = new ImageStore(root, 100 * 100);
+
+        String hash = store.store(png(100, 100));
+
+        assertTrue(ImageStore.isHash(hash));
+        assertTrue(store.find(hash, ImageVariant.ORIGINAL).isPresent());
+    }
+
+    @Test
+    void oversizedImageIsRejectedBeforePublication() throws IOException {
+        ImageStore store = new ImageStore(root, 100 * 100);
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> store.store(png(101, 100)));
+
+        assertTrue(e.getMessage().startsWith("Image trop grande (101 x 100"), e.getMessage());
+        assertNothingPublished();
+    }
+
+    @Test
+    void unsupportedContentIsRejected() throws IOException {
+        ImageStore store = new ImageStore(root, 100 * 100);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> store.store(new ByteArrayInputStream("pas une image".getBytes(StandardCharsets.UTF_8))));
+        assertNothingPublished();
+    }
+
+    @Test
+    void truncatedHeaderIsRejected() throws IOException {
+        ImageStore store = new ImageStore(root, 100 * 100);
+        byte[] png = png(10, 10).readAllBytes();
+        byte[] truncated = new byte[12];
+        System.arraycopy(png, 0, truncated, 0, truncated.length);
+
+        assertThrows(IllegalArgumentException.class, () -> store.store(new ByteArrayInputStream(truncated)));
+        assertNothingPublished();
+    }
+
+    private void assertNothingPublished() throws IOException {
+        try (var entries = Files.list(root)) {
+            assertEquals(1, entries.count());
+        }
+        try (var temps = Files.list(root.resolve("tmp"))) {
+            assertEquals(0, temps.count());
+        }
+    }
+
+    private static ByteArrayInputStream png(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+        return new ByteArrayInputStream(out.toByteArray());
+    }
+}
@@ -0,0 +1,38 @@
+package com.anh.e_commerce_platform.money;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+class MoneyConverterTests {
+
+    private final MoneyConverter converter = new MoneyConverter();
+
+    @Test
+    void writesCentsAsTwoDecimalNumeric() {
+        assertEquals(new BigDecimal("12.30"), converter.convertToDatabaseColumn(1230L));
+        assertEquals(2, converter.convertToDatabaseColumn(0L).scale());
+    }
+
+    @Test
+    void readsNumericColumnAsCents() {
+        assertEquals(1230L, converter.convertToEntityAttribute(new BigDecimal("12.30")));
+        assertEquals(1230L, converter.convertToEntityAttribute(new BigDecimal("12.3")));
+    }
+
+    @Test
+    void roundTripsEveryCentValue() {
+        for (long cents = -1_000; cents <= 100_000; cents += 7) {
+            assertEquals(cents, converter.convertToEntityAttribute(converter.convertToDatabaseColumn(cents)));
+        }
+    }
+
+    @Test
+    void nullStaysNull() {
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertNull(converter.convertToEntityAttribute(null));
+    }
+}
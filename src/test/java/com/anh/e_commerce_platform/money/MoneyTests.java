@@ -0,0 +1,93 @@
+package com.anh.e_commerce_platform.money;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import com.anh.e_commerce_platform.entity.Order;
+import com.anh.e_commerce_platform.entity.OrderItem;
+import com.anh.e_commerce_platform.entity.Product;
+
+import java.math.BigDecimal;
+
+class MoneyTests {
+
+    @Test
+    void convertsExactAmountsToCents() {
+        assertEquals(1999L, Money.toCents(new BigDecimal("19.99")));
+        assertEquals(1950L, Money.toCents(new BigDecimal("19.5")));
+        assertEquals(1900L, Money.toCents(new BigDecimal("19")));
+        assertEquals(1950L, Money.toCents(new BigDecimal("19.5000")));
+        assertEquals(-5L, Money.toCents(new BigDecimal("-0.05")));
+        assertEquals(2000L, Money.toCents(new BigDecimal("2E+1")));
+    }
+
+    @Test
+    void rejectsAmountsFinerThanOneCent() {
+        assertThrows(IllegalArgumentException.class, () -> Money.toCents(new BigDecimal("19.999")));
+        assertThrows(IllegalArgumentException.class, () -> Money.toCents(new BigDecimal("0.001")));
+    }
+
+    @Test
+    void rejectsAmountsBeyondLongRange() {
+        assertThrows(IllegalArgumentException.class, () -> Money.toCents(new BigDecimal("1E+30")));
+    }
+
+    @Test
+    void convertsCentsBackWithTwoDecimals() {
+        assertEquals(new BigDecimal("19.99"), Money.toBigDecimal(1999L));
+        assertEquals(new BigDecimal("0.00"), Money.toBigDecimal(0L));
+        assertEquals(new BigDecimal("-1.05"), Money.toBigDecimal(-105L));
+    }
+
+    @Test
+    void arithmeticDetectsOverflow() {
+        assertEquals(5997L, Money.times(1999L, 3));
+        assertEquals(3L, Money.add(1L, 2L));
+        assertEquals(-1L, Money.subtract(1L, 2L));
+        assertThrows(ArithmeticException.class, () -> Money.times(Long.MAX_VALUE / 2, 3));
+        assertThrows(ArithmeticException.class, () -> Money.add(Long.MAX_VALUE, 1L));
+        assertThrows(ArithmeticException.class, () -> Money.subtract(Long.MIN_VALUE, 1L));
+    }
+
+    @Test
+    void percentageRoundsHalfUp() {
+        // 12,50 % de 19,99 = 2,49875 -> 2,50
+        assertEquals(250L, Money.percentage(1999L, 1250L));
+        // 10 % de 0,05 = 0,005 -> 0,01
+        assertEquals(1L, Money.percentage(5L, 1000L));
+        // 10 % de 0,04 = 0,004 -> 0,00
+        assertEquals(0L, Money.percentage(4L, 1000L));
+        assertEquals(1999L, Money.percentage(1999L, 10_000L));
+    }
+
+    @Test
+    void divideHalfUpRoundsAwayFromZeroOnTies() {
+        assertEquals(3L, Money.divideHalfUp(5L, 2L));
+        assertEquals(2L, Money.divideHalfUp(7L, 4L));
+        assertEquals(1L, Money.divideHalfUp(5L, 4L));
+        assertEquals(-3L, Money.divideHalfUp(-5L, 2L));
+        assertEquals(-3L, Money.divideHalfUp(5L, -2L));
+        assertEquals(0L, Money.divideHalfUp(0L, 7L));
+    }
+
+    @Test
+    void centsGettersOfNewEntitiesAreNull() {
+        assertNull(new Product().getPriceCents());
+        assertNull(new OrderItem().getUnitPriceCents());
+        assertNull(new Order().getTotalAmountCents());
+        assertEquals(0L, new Order().getDiscountAmountCents());
+    }
+
+    @Test
+    void entitySettersRejectSubCentAmounts() {
+        Product product = new Product();
+        product.setPrice(new BigDecimal("10.50"));
+        assertEquals(1050L, product.getPriceCents());
+        assertEquals(new BigDecimal("10.50"), product.getPrice());
+        assertThrows(IllegalArgumentException.class, () -> product.setPrice(new BigDecimal("10.505")));
+        assertEquals(1050L, product.getPriceCents());
+    }
+}
@@ -0,0 +1,174 @@
+package com.anh.e_commerce_platform.pricing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.anh.e_commerce_platform.entity.Category;
+import com.anh.e_commerce_platform.entity.Product;
+import com.anh.e_commerce_platform.entity.Promotion;
+import com.anh.e_commerce_platform.entity.PromotionScope;
+import com.anh.e_commerce_platform.entity.PromotionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+class PromotionIndexTests {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 15, 12, 0);
+    private static final long NOW_MILLIS = NOW.toInstant(ZoneOffset.UTC).toEpochMilli();
+
+    private static final long PRODUCT = 7L;
+    private static final long CATEGORY = 3L;
+
+    private final long[] applied = new long[1];
+
+    @Test
+    void appliesBestOfProductCategoryAndGlobalRules() {
+        PromotionIndex index = compile(
+                promotion(1, PromotionType.PERCENTAGE, "10", PromotionScope.ALL),
+                onProduct(promotion(2, PromotionType.FIXED_AMOUNT, "3.00", PromotionScope.PRODUCT), PRODUCT),
+                onCategory(promotion(3, PromotionType.PERCENTAGE, "20", PromotionScope.CATEGORY), CATEGORY));
+
+        // 2 x 20,00 : 10 % = 4,00 ; 3,00 par unité = 6,00 ; 20 % = 8,00
+        assertEquals(800L, index.lineDiscount(PRODUCT, CATEGORY, 2_000L, 2, null, NOW_MILLIS, applied));
+        assertEquals(3L, applied[0]);
+
+        // Autre catégorie : la remise par produit reste la meilleure
+        applied[0] = 0L;
+        assertEquals(600L, index.lineDiscount(PRODUCT, 99L, 2_000L, 2, null, NOW_MILLIS, applied));
+        assertEquals(2L, applied[0]);
+
+        // Ni produit ni catégorie ciblés : règle globale seule
+        applied[0] = 0L;
+        assertEquals(400L, index.lineDiscount(8L, 0L, 2_000L, 2, null, NOW_MILLIS, applied));
+        assertEquals(1L, applied[0]);
+    }
+
+    @Test
+    void discountNeverExceedsLineTotal() {
+        PromotionIndex index = compile(promotion(1, PromotionType.FIXED_AMOUNT, "50.00", PromotionScope.ALL));
+
+        assertEquals(1_999L, index.lineDiscount(PRODUCT, CATEGORY, 1_999L, 1, null, NOW_MILLIS, applied));
+    }
+
+    @Test
+    void tierAppliesFromMinimumQuantity() {
+        Promotion tier = promotion(1, PromotionType.PERCENTAGE, "15", PromotionScope.ALL);
+        tier.setMinQuantity(3);
+        PromotionIndex index = compile(tier);
+
+        assertEquals(0L, index.lineDiscount(PRODUCT, CATEGORY, 1_000L, 2, null, NOW_MILLIS, applied));
+        assertEquals(0L, applied[0]);
+        assertEquals(450L, index.lineDiscount(PRODUCT, CATEGORY, 1_000L, 3, null, NOW_MILLIS, applied));
+        assertEquals(1L, applied[0]);
+    }
+
+    @Test
+    void couponRulesOnlyApplyWithTheirCodeAndOnlyWhenBetter() {
+        Promotion base = promotion(1, PromotionType.PERCENTAGE, "10", PromotionScope.ALL);
+        Promotion coupon = promotion(2, PromotionType.PERCENTAGE, "25", PromotionScope.ALL);
+        coupon.setCouponCode("summer25");
+        Promotion weakCoupon = promotion(3, PromotionType.PERCENTAGE, "5", PromotionScope.ALL);
+        weakCoupon.setCouponCode("SMALL");
+        PromotionIndex index = compile(base, coupon, weakCoupon);
+
+        assertEquals(100L, index.lineDiscount(PRODUCT, CATEGORY, 1_000L, 1, null, NOW_MILLIS, applied));
+        assertEquals(1L, applied[0]);
+        assertEquals(250L, index.lineDiscount(PRODUCT, CATEGORY, 1_000L, 1, "SUMMER25", NOW_MILLIS, applied));
+        assertEquals(2L, applied[0]);
+        applied[0] = 0L;
+        assertEquals(100L, index.lineDiscount(PRODUCT, CATEGORY, 1_000L, 1, "SMALL", NOW_MILLIS, applied));
+        assertEquals(1L, applied[0]);
+    }
+
+    @Test
+    void couponIsValidOnlyWithinItsWindow() {
+        Promotion expired = promotion(1, PromotionType.PERCENTAGE, "10", PromotionScope.ALL);
+        expired.setCouponCode("OLD");
+        expired.setEndsAt(NOW.minusDays(1));
+        Promotion upcoming = promotion(2, PromotionType.PERCENTAGE, "10", PromotionScope.ALL);
+        upcoming.setCouponCode("SOON");
+        upcoming.setStartsAt(NOW.plusDays(1));
+        Promotion current = onProduct(promotion(3, PromotionType.PERCENTAGE, "10", PromotionScope.PRODUCT), PRODUCT);
+        current.setCouponCode("NOW");
+        current.setStartsAt(NOW.minusDays(1));
+        current.setEndsAt(NOW.plusDays(1));
+        PromotionIndex index = compile(expired, upcoming, current);
+
+        assertFalse(index.hasCoupon("OLD", NOW_MILLIS));
+        assertFalse(index.hasCoupon("SOON", NOW_MILLIS));
+        assertTrue(index.hasCoupon(" now ", NOW_MILLIS));
+        assertFalse(index.hasCoupon("UNKNOWN", NOW_MILLIS));
+        assertFalse(index.hasCoupon("  ", NOW_MILLIS));
+        // Fin de période exclue
+        assertFalse(index.hasCoupon("NOW", NOW.plusDays(1).toInstant(ZoneOffset.UTC).toEpochMilli()));
+        assertTrue(index.hasCoupon("SOON", NOW.plusDays(1).toInstant(ZoneOffset.UTC).toEpochMilli()));
+    }
+
+    @Test
+    void promotionsWithoutTargetAreSkipped() {
+        PromotionIndex index = compile(
+                promotion(1, PromotionType.PERCENTAGE, "50", PromotionScope.PRODUCT),
+                promotion(2, PromotionType.PERCENTAGE, "50", PromotionScope.CATEGORY),
+                promotion(3, PromotionType.PERCENTAGE, "10", PromotionScope.ALL));
+
+        assertEquals(1, index.ruleCount());
+        assertEquals(100L, index.lineDiscount(PRODUCT, CATEGORY, 1_000L, 1, null, NOW_MILLIS, applied));
+    }
+
+    @Test
+    void manyRulesAreIndexedByProductAndCategory() {
+        List<Promotion> promotions = new ArrayList<>();
+        for (int i = 1; i <= 5_000; i++) {
+            promotions.add(onProduct(promotion(i, PromotionType.FIXED_AMOUNT, "0.01", PromotionScope.PRODUCT), i));
+        }
+        for (int i = 1; i <= 500; i++) {
+            Promotion category = promotion(10_000 + i, PromotionType.FIXED_AMOUNT, "0.02", PromotionScope.CATEGORY);
+            promotions.add(onCategory(category, -i));
+        }
+        PromotionIndex index = PromotionIndex.compile(promotions, ZoneOffset.UTC);
+
+        assertEquals(5_500, index.ruleCount());
+        assertEquals(1L, index.lineDiscount(4_321L, 0L, 1_000L, 1, null, NOW_MILLIS, applied));
+        assertEquals(4_321L, applied[0]);
+        assertEquals(2L, index.lineDiscount(4_321L, -42L, 1_000L, 1, null, NOW_MILLIS, applied));
+        assertEquals(10_042L, applied[0]);
+        applied[0] = 0L;
+        assertEquals(0L, index.lineDiscount(9_999L, 0L, 1_000L, 1, null, NOW_MILLIS, applied));
+        assertEquals(0L, applied[0]);
+    }
+
+    private static PromotionIndex compile(Promotion... promotions) {
+        return PromotionIndex.compile(List.of(promotions), ZoneOffset.UTC);
+    }
+
+    private static Promotion promotion(long id, PromotionType type, String value, PromotionScope scope) {
+        Promotion promotion = new Promotion();
+        promotion.setId(id);
+        promotion.setName("Promotion " + id);
+        promotion.setType(type);
+        promotion.setScope(scope);
+        promotion.setDiscountValue(new BigDecimal(value));
+        return promotion;
+    }
+
+    private static Promotion onProduct(Promotion promotion, long productId) {
+        Product product = new Product();
+        product.setId(productId);
+        promotion.setProduct(product);
+        return promotion;
+    }
+
+    private static Promotion onCategory(Promotion promotion, long categoryId) {
+        Category category = new Category();
+        category.setId(categoryId);
+        promotion.setCategory(category);
+        return promotion;
+    }
+}
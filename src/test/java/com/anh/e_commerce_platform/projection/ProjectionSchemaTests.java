@@ -0,0 +1,79 @@
+package com.anh.e_commerce_platform.projection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.anh.e_commerce_platform.projection.ProjectionSchema.Field;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+class ProjectionSchemaTests {
+
+    @Test
+    void fieldsAreSelectedInRequestedOrder() {
+        assertEquals(List.of("price", "id", "name"), names(ProjectionSchemas.PRODUCT.select("price,id,name")));
+    }
+
+    @Test
+    void blanksAndDuplicatesAreIgnored() {
+        assertEquals(List.of("id", "name"), names(ProjectionSchemas.PRODUCT.select(" id , ,name,id,")));
+    }
+
+    @Test
+    void prefixSelectsAllNestedFields() {
+        assertEquals(List.of("id", "category.id", "category.name", "category.description", "category.version"),
+                names(ProjectionSchemas.PRODUCT.select("id,category")));
+        // Un sous-champ déjà demandé n'est pas répété
+        assertEquals(List.of("category.name", "category.id", "category.description", "category.version"),
+                names(ProjectionSchemas.PRODUCT.select("category.name,category")));
+    }
+
+    @Test
+    void nestedFieldHasItsJoinPath() {
+        Field field = ProjectionSchemas.PRODUCT.select("category.name").get(0);
+        assertEquals(List.of("category", "name"), List.of(field.getPath()));
+    }
+
+    @Test
+    void unknownFieldIsRejectedWithTheAvailableOnes() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> ProjectionSchemas.PRODUCT.select("id,prix"));
+        assertTrue(e.getMessage().startsWith("Champ inconnu : prix"), e.getMessage());
+        assertTrue(e.getMessage().contains("category.name"), e.getMessage());
+    }
+
+    @Test
+    void partialPrefixIsNotAField() {
+        // "cat" n'est ni un champ ni un préfixe complet de "category.*"
+        assertThrows(IllegalArgumentException.class, () -> ProjectionSchemas.PRODUCT.select("cat"));
+        assertThrows(IllegalArgumentException.class, () -> ProjectionSchemas.PRODUCT.select("category."));
+    }
+
+    @Test
+    void emptySelectionIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> ProjectionSchemas.PRODUCT.select(""));
+        assertThrows(IllegalArgumentException.class, () -> ProjectionSchemas.PRODUCT.select(" , ,"));
+    }
+
+    @Test
+    void passwordIsNeverSelectable() {
+        assertThrows(IllegalArgumentException.class, () -> ProjectionSchemas.ORDER.select("user.password"));
+        assertTrue(names(ProjectionSchemas.ORDER.select("user")).stream().noneMatch(name -> name.contains("password")));
+    }
+
+    @Test
+    void amountsAreConvertedFromCents() {
+        Field price = ProjectionSchemas.PRODUCT.select("price").get(0);
+        assertEquals(new BigDecimal("12.50"), price.convert(1250L));
+        assertNull(price.convert(null));
+    }
+
+    private static List<String> names(List<Field> fields) {
+        return fields.stream().map(Field::getName).toList();
+    }
+}
@@ -0,0 +1,111 @@
+package com.anh.e_commerce_platform.recommendation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class CoOccurrenceMatrixTests {
+
+    private final CoOccurrenceMatrix matrix = new CoOccurrenceMatrix();
+
+    @Test
+    void countsOrdersAndPairs() {
+        matrix.addOrder(1, new long[] { 10, 20, 30 });
+        matrix.addOrder(2, new long[] { 10, 20 });
+
+        assertEquals(2, matrix.orderCount());
+        assertEquals(3, matrix.productCount());
+        assertEquals(3, matrix.pairCount());
+        Neighbours top = matrix.topK(10, 5, 1);
+        assertEquals(20, top.productId(0));
+        assertEquals(2, top.coPurchases(0));
+    }
+
+    @Test
+    void sameOrderIsCountedOnce() {
+        assertTrue(matrix.addOrder(1, new long[] { 10, 20 }));
+        assertFalse(matrix.addOrder(1, new long[] { 10, 20 }));
+
+        assertEquals(1, matrix.orderCount());
+        assertEquals(1, matrix.topK(10, 5, 1).coPurchases(0));
+    }
+
+    @Test
+    void removedOrderNoLongerCounts() {
+        matrix.addOrder(1, new long[] { 10, 20 });
+        matrix.addOrder(2, new long[] { 10, 20 });
+        matrix.addOrder(3, new long[] { 10, 30 });
+
+        assertTrue(matrix.removeOrder(2, new long[] { 10, 20 }));
+        assertEquals(2, matrix.orderCount());
+        assertEquals(1, matrix.topK(10, 5, 1).coPurchases(0));
+        assertEquals(0, matrix.topK(10, 5, 2).size());
+
+        assertTrue(matrix.removeOrder(1, new long[] { 10, 20 }));
+        // Paire retombée à zéro : plus voisine, plus comptée
+        Neighbours top = matrix.topK(10, 5, 1);
+        assertEquals(1, top.size());
+        assertEquals(30, top.productId(0));
+        assertEquals(0, matrix.topK(20, 5, 1).size());
+        assertEquals(1, matrix.pairCount());
+    }
+
+    @Test
+    void unknownOrAlreadyRemovedOrderIsIgnored() {
+        matrix.addOrder(1, new long[] { 10, 20 });
+
+        assertFalse(matrix.removeOrder(99, new long[] { 10, 20 }));
+        assertTrue(matrix.removeOrder(1, new long[] { 10, 20 }));
+        assertFalse(matrix.removeOrder(1, new long[] { 10, 20 }));
+
+        assertEquals(0, matrix.orderCount());
+        assertEquals(0, matrix.topK(10, 5, 0).size());
+    }
+
+    @Test
+    void cosineDampsPopularProducts() {
+        // 20 est dans toutes les commandes, 30 seulement avec 10 : 30 est le plus proche de 10
+        for (long order = 1; order <= 10; order++) {
+            matrix.addOrder(order, new long[] { 20, 100 + order });
+        }
+        matrix.addOrder(11, new long[] { 10, 20, 30 });
+        matrix.addOrder(12, new long[] { 10, 20, 30 });
+
+        Neighbours top = matrix.topK(10, 5, 2);
+        assertEquals(2, top.size());
+        assertEquals(30, top.productId(0));
+        assertEquals(1.0, top.score(0), 1e-9);
+        assertEquals(20, top.productId(1));
+        assertTrue(top.score(1) < top.score(0));
+    }
+
+    @Test
+    void topKKeepsTheBestNeighbours() {
+        // 10 acheté avec 20 trois fois, 30 deux fois, 40 une fois
+        matrix.addOrder(1, new long[] { 10, 20, 30, 40 });
+        matrix.addOrder(2, new long[] { 10, 20, 30 });
+        matrix.addOrder(3, new long[] { 10, 20 });
+
+        Neighbours top = matrix.topK(10, 2, 1);
+        assertEquals(2, top.size());
+        assertEquals(20, top.productId(0));
+        assertEquals(30, top.productId(1));
+        assertEquals(0, matrix.topK(99, 2, 1).size());
+    }
+
+    @Test
+    void snapshotIsNotAffectedByLaterOrders() {
+        matrix.addOrder(1, new long[] { 10, 20 });
+        CoOccurrenceMatrix snapshot = matrix.snapshot();
+
+        matrix.addOrder(2, new long[] { 10, 20 });
+        matrix.addOrder(3, new long[] { 10, 30 });
+
+        assertEquals(1, snapshot.orderCount());
+        assertEquals(2, snapshot.productCount());
+        assertEquals(1, snapshot.topK(10, 5, 1).coPurchases(0));
+        assertEquals(2, matrix.topK(10, 5, 1).coPurchases(0));
+    }
+}
@@ -0,0 +1,56 @@
+package com.anh.e_commerce_platform.recommendation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+class LongIntMapTests {
+
+    @Test
+    void countersSurviveGrowth() {
+        LongIntMap map = new LongIntMap(1);
+        Map<Long, Integer> expected = new HashMap<>();
+        for (long i = 0; i < 5_000; i++) {
+            long key = (i % 1_000) * 7_919 - 3_000;
+            map.increment(key);
+            expected.merge(key, 1, Integer::sum);
+        }
+
+        assertEquals(expected.size(), map.size());
+        Map<Long, Integer> actual = new HashMap<>();
+        map.forEach(actual::put);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void decrementKeepsTheKey() {
+        LongIntMap map = new LongIntMap(4);
+        map.increment(5);
+
+        assertEquals(0, map.decrement(5));
+        assertEquals(0, map.get(5));
+        assertEquals(1, map.size());
+        // Clé absente : rien n'est ajouté
+        assertEquals(0, map.decrement(6));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void copyIsIndependent() {
+        LongIntMap map = new LongIntMap(4);
+        map.increment(1);
+        LongIntMap copy = map.copy();
+
+        map.increment(1);
+        for (long key = 2; key < 100; key++) {
+            map.increment(key);
+        }
+
+        assertEquals(1, copy.get(1));
+        assertEquals(1, copy.size());
+        assertEquals(2, map.get(1));
+    }
+}
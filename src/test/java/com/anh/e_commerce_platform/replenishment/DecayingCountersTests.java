@@ -0,0 +1,112 @@
+package com.anh.e_commerce_platform.replenishment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+class DecayingCountersTests {
+
+    private static final long DAY = Duration.ofDays(1).toMillis();
+    private static final long T0 = 1_000 * DAY;
+
+    private final DecayingCounters counters = new DecayingCounters(Duration.ofDays(7));
+
+    @Test
+    void unknownKeyHasNoRate() {
+        assertEquals(0.0, counters.dailyRate(1, T0));
+    }
+
+    @Test
+    void valueHalvesEveryHalfLife() {
+        counters.add(1, 100, T0);
+        double rate = counters.dailyRate(1, T0);
+
+        assertEquals(rate / 2, counters.dailyRate(1, T0 + 7 * DAY), 1e-9);
+        assertEquals(rate / 4, counters.dailyRate(1, T0 + 14 * DAY), 1e-9);
+        // Une lecture antérieure à la dernière vente ne fait pas remonter la valeur
+        assertEquals(rate, counters.dailyRate(1, T0 - DAY), 1e-9);
+    }
+
+    @Test
+    void constantSalesConvergeToTheirRate() {
+        // 10 unités par jour pendant 20 demi-vies
+        for (int day = 0; day < 140; day++) {
+            counters.add(1, 10, T0 + day * DAY);
+        }
+
+        // Mesurée juste après une vente : au plus une demi-vente quotidienne au-dessus du rythme
+        assertEquals(10.0, counters.dailyRate(1, T0 + 139 * DAY), 0.6);
+    }
+
+    @Test
+    void salesAddedOutOfOrderGiveTheSameValue() {
+        DecayingCounters ordered = new DecayingCounters(Duration.ofDays(7));
+        ordered.add(1, 5, T0);
+        ordered.add(1, 3, T0 + 2 * DAY);
+        ordered.add(1, 8, T0 + 5 * DAY);
+
+        counters.add(1, 8, T0 + 5 * DAY);
+        counters.add(1, 5, T0);
+        counters.add(1, 3, T0 + 2 * DAY);
+
+        assertEquals(ordered.dailyRate(1, T0 + 6 * DAY), counters.dailyRate(1, T0 + 6 * DAY), 1e-9);
+    }
+
+    @Test
+    void subtractCancelsAPreviousSale() {
+        counters.add(1, 5, T0);
+        counters.add(1, 3, T0 + DAY);
+
+        counters.subtract(1, 3, T0 + DAY);
+
+        DecayingCounters expected = new DecayingCounters(Duration.ofDays(7));
+        expected.add(1, 5, T0);
+        assertEquals(expected.dailyRate(1, T0 + 3 * DAY), counters.dailyRate(1, T0 + 3 * DAY), 1e-9);
+    }
+
+    @Test
+    void subtractOfAnOlderSaleUsesItsDecayedWeight() {
+        counters.add(1, 4, T0);
+        counters.add(1, 6, T0 + 7 * DAY);
+
+        counters.subtract(1, 4, T0);
+
+        DecayingCounters expected = new DecayingCounters(Duration.ofDays(7));
+        expected.add(1, 6, T0 + 7 * DAY);
+        assertEquals(expected.dailyRate(1, T0 + 8 * DAY), counters.dailyRate(1, T0 + 8 * DAY), 1e-9);
+    }
+
+    @Test
+    void subtractNeverGoesBelowZero() {
+        counters.add(1, 2, T0);
+
+        counters.subtract(1, 5, T0 + DAY);
+
+        assertEquals(0.0, counters.dailyRate(1, T0 + 2 * DAY));
+    }
+
+    @Test
+    void subtractOfUnknownKeyIsIgnored() {
+        counters.subtract(1, 5, T0);
+
+        assertEquals(0, counters.size());
+    }
+
+    @Test
+    void pruneForgetsNegligibleCounters() {
+        counters.add(1, 500, T0);
+        counters.add(2, 1, T0);
+
+        // Après 10 demi-vies : ~0.05 par jour pour le premier, ~0.0001 pour le second
+        int pruned = counters.prune(T0 + 70 * DAY, 0.01);
+
+        assertEquals(1, pruned);
+        assertEquals(1, counters.size());
+        assertEquals(0.0, counters.dailyRate(2, T0 + 70 * DAY));
+
+        counters.remove(1);
+        assertEquals(0, counters.size());
+    }
+}
@@ -0,0 +1,95 @@
+package com.anh.e_commerce_platform.reporting;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+class LongAggregateMapTests {
+
+    @Test
+    void keyZeroAndNegativeKeysAreDistinctEntries() {
+        LongAggregateMap map = new LongAggregateMap(1);
+        map.add(0L, 1, 2, 300);
+        map.add(-1L, 1, 1, 100);
+        map.add(Long.MIN_VALUE, 1, 5, 500);
+        map.add(0L, 1, 3, 200);
+
+        List<long[]> entries = entries(map);
+        assertEquals(3, map.size());
+        assertArrayEquals(new long[] { Long.MIN_VALUE, 1, 5, 500 }, entries.get(0));
+        assertArrayEquals(new long[] { -1L, 1, 1, 100 }, entries.get(1));
+        assertArrayEquals(new long[] { 0L, 2, 5, 500 }, entries.get(2));
+    }
+
+    @Test
+    void growsPastInitialCapacityWithoutLosingEntries() {
+        LongAggregateMap map = new LongAggregateMap(1);
+        for (long key = 1; key <= 10_000; key++) {
+            map.add(key, 1, key, key * 100);
+        }
+        for (long key = 1; key <= 10_000; key++) {
+            map.add(key, 1, 1, 1);
+        }
+
+        List<long[]> entries = entries(map);
+        assertEquals(10_000, map.size());
+        for (int i = 0; i < entries.size(); i++) {
+            long key = i + 1;
+            assertArrayEquals(new long[] { key, 2, key + 1, key * 100 + 1 }, entries.get(i));
+        }
+    }
+
+    @Test
+    void collidingKeysKeepSeparateAggregates() {
+        // Multiples de la capacité : même case de départ sans le mélange, sondage linéaire sinon
+        LongAggregateMap map = new LongAggregateMap(8);
+        Map<Long, long[]> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 5_000; i++) {
+            long key = (random.nextInt(300) - 150) * 1024L;
+            map.add(key, 1, i, 2L * i);
+            long[] totals = expected.computeIfAbsent(key, k -> new long[3]);
+            totals[0]++;
+            totals[1] += i;
+            totals[2] += 2L * i;
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (long[] entry : entries(map)) {
+            long[] totals = expected.get(entry[0]);
+            assertArrayEquals(totals, new long[] { entry[1], entry[2], entry[3] }, Long.toString(entry[0]));
+        }
+    }
+
+    @Test
+    void mergeAddsPartialResults() {
+        LongAggregateMap left = new LongAggregateMap(1);
+        left.add(1L, 1, 2, 20);
+        left.add(2L, 1, 1, 10);
+        LongAggregateMap right = new LongAggregateMap(1);
+        right.add(2L, 2, 3, 30);
+        right.add(-3L, 1, 1, 5);
+
+        left.merge(right);
+
+        List<long[]> entries = entries(left);
+        assertEquals(3, left.size());
+        assertArrayEquals(new long[] { -3L, 1, 1, 5 }, entries.get(0));
+        assertArrayEquals(new long[] { 1L, 1, 2, 20 }, entries.get(1));
+        assertArrayEquals(new long[] { 2L, 3, 4, 40 }, entries.get(2));
+    }
+
+    // Entrées { clé, lignes, quantité, centimes } dans l'ordre croissant des clés
+    private static List<long[]> entries(LongAggregateMap map) {
+        List<long[]> entries = new ArrayList<>();
+        map.forEachSorted((key, lines, quantity, revenue) -> entries.add(new long[] { key, lines, quantity, revenue }));
+        return entries;
+    }
+}
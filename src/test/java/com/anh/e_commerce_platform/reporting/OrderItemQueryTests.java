@@ -0,0 +1,107 @@
+package com.anh.e_commerce_platform.reporting;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.anh.e_commerce_platform.entity.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+
+class OrderItemQueryTests {
+
+    private static final long JAN_31 = epochSecond(LocalDate.of(2024, 1, 31)) + 23 * 3600;
+    private static final long FEB_01 = epochSecond(LocalDate.of(2024, 2, 1));
+    private static final long MAR_15 = epochSecond(LocalDate.of(2024, 3, 15)) + 12 * 3600;
+
+    private final OrderItemColumnStore store = new OrderItemColumnStore.Builder(0)
+            .add(1L, 2, 1_000, JAN_31, OrderStatus.DELIVERED.ordinal())
+            .add(2L, 1, 2_550, FEB_01, OrderStatus.DELIVERED.ordinal())
+            .add(1L, 3, 1_000, FEB_01, OrderStatus.CANCELLED.ordinal())
+            .add(3L, 1, 99, MAR_15, OrderStatus.PENDING.ordinal())
+            .build();
+
+    @Test
+    void totalWithoutFilters() {
+        List<ReportRow> rows = new OrderItemQuery().execute(store);
+
+        assertEquals(1, rows.size());
+        assertRow(rows.get(0), "TOTAL", 4, 7, "76.49");
+    }
+
+    @Test
+    void emptyStoreGivesNoRow() {
+        assertTrue(new OrderItemQuery().groupBy(ReportGroupBy.PRODUCT).execute(OrderItemColumnStore.empty()).isEmpty());
+    }
+
+    @Test
+    void filtersByStatusDateRangeAndProduct() {
+        List<ReportRow> rows = new OrderItemQuery()
+                .statuses(List.of(OrderStatus.DELIVERED, OrderStatus.CANCELLED))
+                .from(LocalDate.of(2024, 2, 1))
+                .to(LocalDate.of(2024, 2, 1))
+                .productIds(List.of(1L, 1L))
+                .groupBy(ReportGroupBy.PRODUCT)
+                .execute(store);
+
+        assertEquals(1, rows.size());
+        assertRow(rows.get(0), "1", 1, 3, "30.00");
+    }
+
+    @Test
+    void groupsByStatusDayAndMonth() {
+        List<ReportRow> byStatus = new OrderItemQuery().groupBy(ReportGroupBy.STATUS).execute(store);
+        assertEquals(List.of("PENDING", "DELIVERED", "CANCELLED"), byStatus.stream().map(ReportRow::getKey).toList());
+
+        List<ReportRow> byDay = new OrderItemQuery().groupBy(ReportGroupBy.DAY).execute(store);
+        assertEquals(List.of("2024-01-31", "2024-02-01", "2024-03-15"), byDay.stream().map(ReportRow::getKey).toList());
+        assertRow(byDay.get(1), "2024-02-01", 2, 4, "55.50");
+
+        List<ReportRow> byMonth = new OrderItemQuery().groupBy(ReportGroupBy.MONTH).execute(store);
+        assertEquals(List.of("2024-01", "2024-02", "2024-03"), byMonth.stream().map(ReportRow::getKey).toList());
+    }
+
+    @Test
+    void parallelScanMatchesSequentialTotals() {
+        // Assez de lignes pour que le scan soit découpé en plusieurs tranches fork-join
+        OrderItemColumnStore.Builder builder = new OrderItemColumnStore.Builder(0);
+        long expectedRevenue = 0;
+        for (int i = 0; i < 200_000; i++) {
+            int quantity = 1 + i % 3;
+            builder.add(i % 50, quantity, 100 + i % 7, FEB_01 + i, OrderStatus.DELIVERED.ordinal());
+            expectedRevenue += (100L + i % 7) * quantity;
+        }
+
+        List<ReportRow> rows = new OrderItemQuery().groupBy(ReportGroupBy.PRODUCT).execute(builder.build());
+
+        assertEquals(50, rows.size());
+        assertEquals(200_000, rows.stream().mapToLong(ReportRow::getLineCount).sum());
+        assertEquals(BigDecimal.valueOf(expectedRevenue, 2),
+                rows.stream().map(ReportRow::getRevenue).reduce(BigDecimal.ZERO, BigDecimal::add));
+    }
+
+    @Test
+    void monthIndexMatchesCalendar() {
+        for (LocalDate day = LocalDate.of(1969, 12, 1); day.isBefore(LocalDate.of(2101, 1, 1)); day = day.plusDays(13)) {
+            YearMonth month = YearMonth.from(day);
+            assertEquals(month.getYear() * 12L + month.getMonthValue() - 1, OrderItemQuery.monthIndex(day.toEpochDay()),
+                    day.toString());
+        }
+    }
+
+    private static void assertRow(ReportRow row, String key, long lines, long quantity, String revenue) {
+        assertEquals(key, row.getKey());
+        assertEquals(lines, row.getLineCount());
+        assertEquals(quantity, row.getQuantity());
+        assertEquals(new BigDecimal(revenue), row.getRevenue());
+    }
+
+    private static long epochSecond(LocalDate day) {
+        return day.atStartOfDay().toEpochSecond(ZoneOffset.UTC);
+    }
+}
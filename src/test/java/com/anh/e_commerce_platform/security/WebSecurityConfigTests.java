@@ -0,0 +1,123 @@
+package com.anh.e_commerce_platform.security;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.anh.e_commerce_platform.service.UserDetailsServiceImpl;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+// Deux chaînes de sécurité : lectures du catalogue publiques quel que soit le token envoyé, écritures du
+// catalogue réservées aux admins, administration et commandes inchangées
+@SpringBootTest
+@AutoConfigureMockMvc
+class WebSecurityConfigTests {
+
+    private static final String CATEGORY = "{\"name\":\"Catégorie de test\",\"description\":\"test\"}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenUtil jwtTokenUtil;
+
+    @Autowired
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Value("${jwt.secret}")
+    private String secret;
+
+    @Test
+    void anonymousCatalogWritesAreRejected() throws Exception {
+        mockMvc.perform(json(post("/api/products"), "{\"name\":\"Pirate\",\"price\":1.00,\"stock\":1}"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(json(put("/api/products/1"), "{\"name\":\"Pirate\",\"price\":1.00,\"stock\":1}"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(delete("/api/products/1")).andExpect(status().isForbidden());
+        mockMvc.perform(multipart("/api/products/1/image")
+                .file(new MockMultipartFile("file", "image.png", "image/png", new byte[] { 1, 2, 3 })))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(json(post("/api/categories"), CATEGORY)).andExpect(status().isForbidden());
+        mockMvc.perform(delete("/api/categories/1")).andExpect(status().isForbidden());
+    }
+
+    @Test
+    void catalogWritesNeedTheAdminRole() throws Exception {
+        String user = bearer(jwtTokenUtil.generateToken(userDetailsService.loadUserByUsername("john@test.com")));
+        String admin = bearer(jwtTokenUtil.generateToken(userDetailsService.loadUserByUsername("admin@ecommerce.com")));
+
+        mockMvc.perform(delete("/api/products/1").header(HttpHeaders.AUTHORIZATION, user))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(json(post("/api/categories"), "{\"name\":\"Catégorie " + System.nanoTime() + "\"}")
+                .header(HttpHeaders.AUTHORIZATION, admin))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void catalogReadsIgnoreForgedOrExpiredTokens() throws Exception {
+        // Signé avec une autre clé
+        String forged = Jwts.builder().subject("admin@ecommerce.com")
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor("une-autre-cle-de-signature-de-32-octets-au-moins".getBytes(StandardCharsets.UTF_8)))
+                .compact();
+        String expired = Jwts.builder().subject("john@test.com")
+                .issuedAt(new Date(System.currentTimeMillis() - 120_000))
+                .expiration(new Date(System.currentTimeMillis() - 60_000))
+                .signWith(Keys.hmacShaKeyFor(secret.getBytes()))
+                .compact();
+
+        for (String token : new String[] { forged, expired, "pas-un-jwt" }) {
+            mockMvc.perform(get("/api/products/1").header(HttpHeaders.AUTHORIZATION, bearer(token)))
+                    .andExpect(status().isOk());
+            mockMvc.perform(get("/api/categories").header(HttpHeaders.AUTHORIZATION, bearer(token)))
+                    .andExpect(status().isOk());
+        }
+    }
+
+    @Test
+    void adminAndOrderRoutesAreUnchanged() throws Exception {
+        String user = bearer(jwtTokenUtil.generateToken(userDetailsService.loadUserByUsername("john@test.com")));
+        String admin = bearer(jwtTokenUtil.generateToken(userDetailsService.loadUserByUsername("admin@ecommerce.com")));
+
+        mockMvc.perform(get("/api/admin/cache/stats")).andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/admin/cache/stats").header(HttpHeaders.AUTHORIZATION, user))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/admin/cache/stats").header(HttpHeaders.AUTHORIZATION, admin))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/orders")).andExpect(status().isForbidden());
+        mockMvc.perform(put("/api/orders/status").header(HttpHeaders.AUTHORIZATION, user)
+                .contentType(MediaType.APPLICATION_JSON).content("[]"))
+                .andExpect(status().isForbidden());
+        // Passé la sécurité : réponse du contrôleur (utilisateur inconnu)
+        mockMvc.perform(get("/api/orders/user/0").header(HttpHeaders.AUTHORIZATION, admin))
+                .andExpect(status().isNotFound());
+    }
+
+    private static MockHttpServletRequestBuilder json(MockHttpServletRequestBuilder request, String body) {
+        return request.contentType(MediaType.APPLICATION_JSON).content(body);
+    }
+
+    private static String bearer(String token) {
+        return "Bearer " + token;
+    }
+}
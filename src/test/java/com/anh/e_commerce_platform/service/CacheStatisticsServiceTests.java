@@ -0,0 +1,96 @@
+package com.anh.e_commerce_platform.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.anh.e_commerce_platform.TestData;
+import com.anh.e_commerce_platform.dto.CacheRegionStatistics;
+import com.anh.e_commerce_platform.entity.OrderStatus;
+import com.anh.e_commerce_platform.entity.Product;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+
+// Région "product" du cache de second niveau : lectures servies par le cache, écritures jamais masquées
+// (mise à jour, décrément du stock au checkout, remise en stock groupée à l'annulation)
+@SpringBootTest
+class CacheStatisticsServiceTests {
+
+    @Autowired
+    private CacheStatisticsService cacheStatisticsService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void secondReadIsACacheHit() {
+        Long id = TestData.newProduct(productService).getId();
+        productService.getProductById(id);
+        assertTrue(sessionFactory().getCache().containsEntity(Product.class, id));
+        long hits = productRegion().getHitCount();
+
+        productService.getProductById(id);
+
+        assertEquals(hits + 1, productRegion().getHitCount());
+    }
+
+    @Test
+    void updateIsSeenByTheNextRead() {
+        Long id = TestData.newProduct(productService).getId();
+        Product before = productService.getProductById(id).orElseThrow();
+
+        Product details = new Product();
+        details.setName(before.getName());
+        details.setPrice(new BigDecimal("12.00"));
+        details.setStock(3);
+        details.setVersion(before.getVersion());
+        productService.updateProduct(id, details);
+
+        Product after = productService.getProductById(id).orElseThrow();
+        assertEquals(3, after.getStock());
+        assertEquals(0, new BigDecimal("12.00").compareTo(after.getPrice()));
+        assertEquals(before.getVersion() + 1, after.getVersion());
+    }
+
+    @Test
+    void checkoutAndCancellationAreSeenByTheNextRead() {
+        Long id = TestData.newProduct(productService).getId();
+        Product before = productService.getProductById(id).orElseThrow();
+
+        Long orderId = TestData.placeOrder(orderService, userService, 4, id);
+        Product ordered = productService.getProductById(id).orElseThrow();
+        assertEquals(before.getStock() - 4, ordered.getStock());
+        assertEquals(before.getVersion() + 1, ordered.getVersion());
+
+        // Remise en stock par une requête groupée (update versioned), hors des entités en cache
+        orderService.updateOrderStatus(orderId, OrderStatus.CANCELLED);
+        Product restocked = productService.getProductById(id).orElseThrow();
+        assertEquals(before.getStock(), restocked.getStock());
+        assertEquals(ordered.getVersion() + 1, restocked.getVersion());
+    }
+
+    private CacheRegionStatistics productRegion() {
+        return cacheStatisticsService.regionStatistics().stream()
+                .filter(region -> region.getRegion().equals("product"))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private SessionFactory sessionFactory() {
+        return entityManagerFactory.unwrap(SessionFactory.class);
+    }
+}
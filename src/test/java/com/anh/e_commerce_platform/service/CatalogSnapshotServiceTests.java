@@ -0,0 +1,51 @@
+package com.anh.e_commerce_platform.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.anh.e_commerce_platform.TestData;
+import com.anh.e_commerce_platform.entity.Product;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+@SpringBootTest
+class CatalogSnapshotServiceTests {
+
+    @Autowired
+    private CatalogSnapshotService catalogSnapshotService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Test
+    void patchedSnapshotMatchesAFullRebuild() {
+        catalogSnapshotService.rebuild();
+
+        // Création, modification et suppression dans la même fenêtre
+        Product kept = TestData.newProduct(productService);
+        Product updated = TestData.newProduct(productService);
+        Product deleted = TestData.newProduct(productService);
+        Product details = new Product();
+        details.setName(updated.getName() + " modifié");
+        details.setPrice(new BigDecimal("15.50"));
+        details.setStock(3);
+        details.setVersion(productService.getProductById(updated.getId()).orElseThrow().getVersion());
+        productService.updateProduct(updated.getId(), details);
+        productService.deleteProduct(deleted.getId());
+
+        byte[] patched = catalogSnapshotService.applyPendingChanges().getProducts().getIdentity();
+        byte[] full = catalogSnapshotService.rebuild().getProducts().getIdentity();
+
+        assertArrayEquals(full, patched);
+        String json = new String(patched, StandardCharsets.UTF_8);
+        assertTrue(json.contains(kept.getName()));
+        assertTrue(json.contains(details.getName()));
+        assertFalse(json.contains(deleted.getName()));
+    }
+}
@@ -0,0 +1,122 @@
+package com.anh.e_commerce_platform.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.anh.e_commerce_platform.entity.OrderStatus;
+import com.anh.e_commerce_platform.entity.Role;
+import com.anh.e_commerce_platform.entity.User;
+import com.anh.e_commerce_platform.event.CatalogChangedEvent;
+import com.anh.e_commerce_platform.event.OrderStatusChangedEvent;
+import com.anh.e_commerce_platform.repository.ProductRepository;
+import com.anh.e_commerce_platform.sse.EmitterConnection;
+import com.anh.e_commerce_platform.sse.SseHub;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+class LiveEventServiceTests {
+
+    private static final long PRODUCT_ID = 5L;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private LiveEventService liveEventService;
+
+    @BeforeEach
+    void setUp() {
+        liveEventService = new LiveEventService(Duration.ofMinutes(30), 256, mock(PlatformTransactionManager.class),
+                new SimpleMeterRegistry());
+        // Diffusion sur le thread du test plutôt que sur des threads virtuels
+        ReflectionTestUtils.setField(liveEventService, "hub", new SseHub(Runnable::run, 60_000, 256));
+        ReflectionTestUtils.setField(liveEventService, "productRepository", productRepository);
+        ReflectionTestUtils.setField(liveEventService, "jsonMapper", jsonMapper);
+    }
+
+    @Test
+    void customerOnlyReceivesTheirOwnOrders() {
+        EmitterConnection customer = EmitterConnection.open(liveEventService.subscribeOrders(user(1L, Role.USER)));
+        EmitterConnection otherCustomer = EmitterConnection.open(liveEventService.subscribeOrders(user(2L, Role.USER)));
+        EmitterConnection admin = EmitterConnection.open(liveEventService.subscribeOrders(user(3L, Role.ADMIN)));
+
+        liveEventService.onOrderStatusChanged(new OrderStatusChangedEvent(10L, 1L, OrderStatus.SHIPPED));
+        liveEventService.onOrderStatusChanged(new OrderStatusChangedEvent(11L, 2L, OrderStatus.CANCELLED));
+
+        assertEquals(List.of(10L), orderIds(customer));
+        assertEquals(List.of(11L), orderIds(otherCustomer));
+        assertEquals(List.of(10L, 11L), orderIds(admin));
+    }
+
+    @Test
+    void olderStockVersionNeverOverwritesANewerOne() {
+        EmitterConnection watcher = EmitterConnection.open(liveEventService.subscribeStock(List.of(PRODUCT_ID)));
+
+        stockRead(7, 3L);
+        // Relecture d'un commit plus ancien arrivée en retard
+        stockRead(9, 2L);
+        // Même version : pas de doublon
+        stockRead(7, 3L);
+        stockRead(4, 4L);
+
+        assertEquals(List.of(7, 4), stocks(watcher));
+        assertArrayEquals(new long[] { 4L, 4L }, lastStock().get(PRODUCT_ID));
+    }
+
+    @Test
+    void unwatchedProductsAreNotRead() {
+        EmitterConnection watcher = EmitterConnection.open(liveEventService.subscribeStock(List.of(PRODUCT_ID)));
+        when(productRepository.findStockLevels(anyCollection())).thenThrow(new AssertionError("Produit non suivi relu"));
+
+        liveEventService.onCatalogChanged(new CatalogChangedEvent("order", List.of(6L)));
+
+        assertTrue(watcher.events().isEmpty());
+        assertTrue(lastStock().isEmpty());
+    }
+
+    private void stockRead(int stock, long version) {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[] { PRODUCT_ID, stock, version });
+        when(productRepository.findStockLevels(List.of(PRODUCT_ID))).thenReturn(rows);
+        liveEventService.onCatalogChanged(new CatalogChangedEvent("order", List.of(PRODUCT_ID)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, long[]> lastStock() {
+        return (Map<Long, long[]>) ReflectionTestUtils.getField(liveEventService, "lastStock");
+    }
+
+    private List<Long> orderIds(EmitterConnection connection) {
+        return connection.events().stream().map(event -> jsonMapper.readTree(data(event)).get("orderId").asLong())
+                .toList();
+    }
+
+    private List<Integer> stocks(EmitterConnection connection) {
+        return connection.events().stream().map(event -> jsonMapper.readTree(data(event)).get("stock").asInt())
+                .toList();
+    }
+
+    private static String data(String event) {
+        return event.substring(event.indexOf("data:") + "data:".length());
+    }
+
+    private static User user(Long id, Role role) {
+        User user = new User();
+        user.setId(id);
+        user.setRole(role);
+        return user;
+    }
+}
@@ -0,0 +1,140 @@
+package com.anh.e_commerce_platform.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.anh.e_commerce_platform.TestData;
+import com.anh.e_commerce_platform.entity.ArchivedOrderItem;
+import com.anh.e_commerce_platform.entity.Order;
+import com.anh.e_commerce_platform.entity.OrderItem;
+import com.anh.e_commerce_platform.entity.OrderStatus;
+import com.anh.e_commerce_platform.entity.User;
+import com.anh.e_commerce_platform.repository.ArchivedOrderItemRepository;
+import com.anh.e_commerce_platform.repository.OrderItemRepository;
+import com.anh.e_commerce_platform.repository.OrderRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// Archivage d'une commande livrée depuis plus de app.archive.after-days jours ; les commandes des autres
+// classes de test (même base) sont récentes et restent en place
+@SpringBootTest
+class OrderArchiveServiceTests {
+
+    @Autowired
+    private OrderArchiveService orderArchiveService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private ArchivedOrderItemRepository archivedOrderItemRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void oldDeliveredOrderIsOnlyReadWithIncludeArchived() {
+        Long productId = TestData.newProduct(productService).getId();
+        Long oldId = TestData.placeOrder(orderService, userService, 2, productId);
+        Long recentId = TestData.placeOrder(orderService, userService, 1, productId);
+        LocalDateTime orderDate = LocalDateTime.now().minusDays(365).withNano(0);
+        deliver(oldId, orderDate);
+        Order before = orderService.getOrderById(oldId).orElseThrow();
+        Set<Long> itemIds = orderItemRepository.findByOrder(before).stream()
+                .map(OrderItem::getId)
+                .collect(Collectors.toSet());
+
+        assertTrue(orderArchiveService.archiveCompletedOrders() >= 1);
+
+        // Lectures par défaut : commande active seulement
+        User customer = userService.getUserByEmail(TestData.CUSTOMER_EMAIL).orElseThrow();
+        assertTrue(orderService.getOrderById(oldId, false).isEmpty());
+        assertTrue(orderService.getOrderById(recentId, false).isPresent());
+        assertFalse(ids(orderService.getOrdersByUser(customer, false)).contains(oldId));
+        assertFalse(ids(orderService.getAllOrders(false)).contains(oldId));
+
+        // includeArchived : commande archivée sous son identifiant d'origine, montants et date inchangés
+        Order archived = orderService.getOrderById(oldId, true).orElseThrow();
+        assertEquals(oldId, archived.getId());
+        assertEquals(OrderStatus.DELIVERED, archived.getStatus());
+        assertEquals(orderDate, archived.getOrderDate());
+        assertEquals(before.getTotalAmountCents(), archived.getTotalAmountCents());
+        assertEquals(customer.getId(), archived.getUser().getId());
+        Set<Long> byUser = ids(orderService.getOrdersByUser(customer, true));
+        assertTrue(byUser.containsAll(Set.of(oldId, recentId)));
+        assertTrue(ids(orderService.getAllOrders(true)).containsAll(Set.of(oldId, recentId)));
+
+        // Lectures directes de l'archive
+        assertEquals(oldId, orderArchiveService.findArchivedOrder(oldId).orElseThrow().getId());
+        assertTrue(orderArchiveService.findArchivedOrder(recentId).isEmpty());
+        Set<Long> archivedByUser = ids(orderArchiveService.findArchivedOrdersByUser(customer));
+        assertTrue(archivedByUser.contains(oldId));
+        assertFalse(archivedByUser.contains(recentId));
+
+        // Lignes déplacées elles aussi, sans renumérotation
+        Set<Long> archivedItemIds = archivedOrderItemRepository.findAll().stream()
+                .filter(item -> item.getOrderId().equals(oldId))
+                .map(ArchivedOrderItem::getId)
+                .collect(Collectors.toSet());
+        assertEquals(itemIds, archivedItemIds);
+
+        // Déjà archivée : une seconde passe ne la reprend pas
+        orderArchiveService.archiveCompletedOrders();
+        assertEquals(1, orderArchiveService.findArchivedOrdersByUser(customer).stream()
+                .filter(order -> order.getId().equals(oldId))
+                .count());
+    }
+
+    @Test
+    void recentOrPendingOrdersAreNotArchived() {
+        Long productId = TestData.newProduct(productService).getId();
+        Long recentDelivered = TestData.placeOrder(orderService, userService, 1, productId);
+        deliver(recentDelivered, LocalDateTime.now().minusDays(1));
+        Long oldPending = TestData.placeOrder(orderService, userService, 1, productId);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                orderRepository.findById(oldPending).orElseThrow().setOrderDate(LocalDateTime.now().minusDays(365)));
+
+        orderArchiveService.archiveCompletedOrders();
+
+        assertTrue(orderService.getOrderById(recentDelivered, false).isPresent());
+        assertTrue(orderService.getOrderById(oldPending, false).isPresent());
+        assertTrue(Stream.of(recentDelivered, oldPending)
+                .allMatch(id -> orderArchiveService.findArchivedOrder(id).isEmpty()));
+    }
+
+    // Livraison par les transitions normales, puis commande datée dans le passé
+    private void deliver(Long orderId, LocalDateTime orderDate) {
+        orderService.updateOrderStatus(orderId, OrderStatus.CONFIRMED);
+        orderService.updateOrderStatus(orderId, OrderStatus.SHIPPED);
+        orderService.updateOrderStatus(orderId, OrderStatus.DELIVERED);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                orderRepository.findById(orderId).orElseThrow().setOrderDate(orderDate));
+    }
+
+    private static Set<Long> ids(List<Order> orders) {
+        return orders.stream().map(Order::getId).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,63 @@
+package com.anh.e_commerce_platform.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.anh.e_commerce_platform.TestData;
+import com.anh.e_commerce_platform.entity.OrderStatus;
+
+@SpringBootTest
+class OrderServiceTests {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    void repeatingTheCurrentStatusIsANoOp() {
+        Long productId = newProduct();
+        Long orderId = placeOrder(productId, 2);
+        int stockAfterOrder = stock(productId);
+
+        orderService.updateOrderStatus(orderId, OrderStatus.CONFIRMED);
+        assertEquals(OrderStatus.CONFIRMED, orderService.updateOrderStatus(orderId, OrderStatus.CONFIRMED).getStatus());
+
+        orderService.updateOrderStatus(orderId, OrderStatus.CANCELLED);
+        assertEquals(stockAfterOrder + 2, stock(productId));
+        // Annulation rejouée : pas de seconde remise en stock
+        assertEquals(OrderStatus.CANCELLED, orderService.updateOrderStatus(orderId, OrderStatus.CANCELLED).getStatus());
+        assertEquals(stockAfterOrder + 2, stock(productId));
+    }
+
+    @Test
+    void invalidTransitionIsRejected() {
+        Long orderId = placeOrder(newProduct(), 1);
+        orderService.updateOrderStatus(orderId, OrderStatus.CONFIRMED);
+        orderService.updateOrderStatus(orderId, OrderStatus.SHIPPED);
+
+        assertThrows(IllegalStateException.class, () -> orderService.updateOrderStatus(orderId, OrderStatus.CANCELLED));
+        assertThrows(IllegalStateException.class, () -> orderService.updateOrderStatus(orderId, OrderStatus.PENDING));
+        assertEquals(OrderStatus.SHIPPED, orderService.getOrderById(orderId).orElseThrow().getStatus());
+    }
+
+    private Long newProduct() {
+        return TestData.newProduct(productService).getId();
+    }
+
+    private Long placeOrder(Long productId, int quantity) {
+        return TestData.placeOrder(orderService, userService, quantity, productId);
+    }
+
+    private int stock(Long productId) {
+        return productService.getProductById(productId).orElseThrow().getStock();
+    }
+}
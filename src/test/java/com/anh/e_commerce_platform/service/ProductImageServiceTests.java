@@ -0,0 +1,78 @@
+package com.anh.e_commerce_platform.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+class ProductImageServiceTests {
+
+    @Test
+    void landscapeImageIsFittedOnItsWidth() {
+        BufferedImage resized = ProductImageService.resize(image(1200, 800, BufferedImage.TYPE_INT_RGB), 300);
+
+        assertEquals(300, resized.getWidth());
+        assertEquals(200, resized.getHeight());
+    }
+
+    @Test
+    void portraitImageIsFittedOnItsHeight() {
+        BufferedImage resized = ProductImageService.resize(image(500, 1000, BufferedImage.TYPE_INT_RGB), 256);
+
+        assertEquals(128, resized.getWidth());
+        assertEquals(256, resized.getHeight());
+    }
+
+    @Test
+    void smallImageIsNotEnlarged() {
+        BufferedImage source = image(100, 50, BufferedImage.TYPE_INT_RGB);
+
+        BufferedImage resized = ProductImageService.resize(source, 300);
+
+        assertEquals(100, resized.getWidth());
+        assertEquals(50, resized.getHeight());
+        assertNotSame(source, resized);
+    }
+
+    @Test
+    void thinImageKeepsAtLeastOnePixel() {
+        BufferedImage resized = ProductImageService.resize(image(4000, 2, BufferedImage.TYPE_INT_RGB), 100);
+
+        assertEquals(100, resized.getWidth());
+        assertEquals(1, resized.getHeight());
+    }
+
+    @Test
+    void transparencyIsKept() {
+        assertTrue(ProductImageService.resize(image(800, 800, BufferedImage.TYPE_INT_ARGB), 100)
+                .getColorModel().hasAlpha());
+        assertFalse(ProductImageService.resize(image(800, 800, BufferedImage.TYPE_INT_RGB), 100)
+                .getColorModel().hasAlpha());
+    }
+
+    @Test
+    void uniformColorIsPreserved() {
+        BufferedImage resized = ProductImageService.resize(image(1024, 1024, BufferedImage.TYPE_INT_RGB), 64);
+
+        assertEquals(64, resized.getWidth());
+        assertEquals(Color.RED.getRGB(), resized.getRGB(32, 32));
+    }
+
+    private static BufferedImage image(int width, int height, int type) {
+        BufferedImage image = new BufferedImage(width, height, type);
+        Graphics2D graphics = image.createGraphics();
+        try {
+            graphics.setColor(Color.RED);
+            graphics.fillRect(0, 0, width, height);
+        } finally {
+            graphics.dispose();
+        }
+        return image;
+    }
+}
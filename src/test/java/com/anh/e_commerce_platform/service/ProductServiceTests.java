@@ -0,0 +1,93 @@
+package com.anh.e_commerce_platform.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.ConcurrencyFailureException;
+
+import com.anh.e_commerce_platform.TestData;
+import com.anh.e_commerce_platform.entity.Product;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+@SpringBootTest
+class ProductServiceTests {
+
+    private static final int WRITERS = 8;
+
+    @Autowired
+    private ProductService productService;
+
+    @Test
+    void concurrentUpdatesOfTheSameVersionHaveExactlyOneWinner() throws Exception {
+        Product created = TestData.newProduct(productService);
+        Long version = productService.getProductById(created.getId()).orElseThrow().getVersion();
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(WRITERS)) {
+            for (int i = 0; i < WRITERS; i++) {
+                String name = "Écriture " + i;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        productService.updateProduct(created.getId(), details(name, version));
+                        return name;
+                    } catch (ConcurrencyFailureException e) {
+                        return null;
+                    }
+                }));
+            }
+            start.countDown();
+        }
+
+        List<String> winners = new ArrayList<>();
+        for (Future<String> result : results) {
+            if (result.get() != null) {
+                winners.add(result.get());
+            }
+        }
+        assertEquals(1, winners.size(), winners.toString());
+        Product stored = productService.getProductById(created.getId()).orElseThrow();
+        assertEquals(winners.get(0), stored.getName());
+        assertEquals(version + 1, stored.getVersion());
+    }
+
+    @Test
+    void staleVersionIsRejectedWithoutOverwriting() {
+        Product created = TestData.newProduct(productService);
+        Long version = productService.getProductById(created.getId()).orElseThrow().getVersion();
+        productService.updateProduct(created.getId(), details("Première", version));
+
+        assertThrows(ConcurrencyFailureException.class,
+                () -> productService.updateProduct(created.getId(), details("Périmée", version)));
+        assertEquals("Première", productService.getProductById(created.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    void updateWithoutVersionIsRejected() {
+        Product created = TestData.newProduct(productService);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> productService.updateProduct(created.getId(), details("Sans version", null)));
+        assertEquals(created.getName(), productService.getProductById(created.getId()).orElseThrow().getName());
+    }
+
+    private static Product details(String name, Long version) {
+        Product details = new Product();
+        details.setName(name);
+        details.setPrice(new BigDecimal("12.00"));
+        details.setStock(5);
+        details.setVersion(version);
+        return details;
+    }
+}
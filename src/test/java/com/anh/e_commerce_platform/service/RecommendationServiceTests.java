@@ -0,0 +1,74 @@
+package com.anh.e_commerce_platform.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.anh.e_commerce_platform.TestData;
+import com.anh.e_commerce_platform.dto.ProductRecommendation;
+import com.anh.e_commerce_platform.entity.OrderStatus;
+
+import java.util.List;
+
+@SpringBootTest
+class RecommendationServiceTests {
+
+    @Autowired
+    private RecommendationService recommendationService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    void cancelledOrderIsRemovedFromRecommendations() {
+        Long first = newProduct();
+        Long second = newProduct();
+        Long firstOrder = placeOrder(first, second);
+        placeOrder(first, second);
+
+        // Deux achats communs (app.recommendations.min-co-purchases)
+        List<ProductRecommendation> before = recommendationService.recommend(first, 5);
+        assertEquals(1, before.size());
+        assertEquals(second, before.get(0).getProductId());
+        assertEquals(2, before.get(0).getCoPurchases());
+
+        orderService.updateOrderStatus(firstOrder, OrderStatus.CANCELLED);
+        assertTrue(recommendationService.recommend(first, 5).isEmpty());
+        assertTrue(recommendationService.recommend(second, 5).isEmpty());
+
+        // Annulation rejouée : rien n'est retiré une seconde fois
+        orderService.updateOrderStatus(firstOrder, OrderStatus.CANCELLED);
+        placeOrder(first, second);
+        assertEquals(2, recommendationService.recommend(first, 5).get(0).getCoPurchases());
+    }
+
+    @Test
+    void rebuildFromTheDatabaseGivesTheSameCounts() {
+        Long first = newProduct();
+        Long second = newProduct();
+        placeOrder(first, second);
+        placeOrder(first, second);
+
+        recommendationService.build();
+        recommendationService.scheduledRescore();
+
+        assertEquals(2, recommendationService.recommend(first, 5).get(0).getCoPurchases());
+    }
+
+    private Long newProduct() {
+        return TestData.newProduct(productService).getId();
+    }
+
+    private Long placeOrder(Long... productIds) {
+        return TestData.placeOrder(orderService, userService, 1, productIds);
+    }
+}
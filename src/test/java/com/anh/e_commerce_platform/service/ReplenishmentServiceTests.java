@@ -0,0 +1,178 @@
+package com.anh.e_commerce_platform.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.anh.e_commerce_platform.dto.StockAlert;
+import com.anh.e_commerce_platform.entity.OrderStatus;
+import com.anh.e_commerce_platform.entity.Product;
+import com.anh.e_commerce_platform.event.CatalogChangedEvent;
+import com.anh.e_commerce_platform.event.OrderPlacedEvent;
+import com.anh.e_commerce_platform.event.OrderStatusChangedEvent;
+import com.anh.e_commerce_platform.replenishment.AlertLevel;
+import com.anh.e_commerce_platform.repository.OrderItemRepository;
+import com.anh.e_commerce_platform.repository.ProductRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+class ReplenishmentServiceTests {
+
+    private static final long PRODUCT_ID = 7L;
+    private static final long ORDER_ID = 40L;
+
+    // Demi-vie de 7 jours : une vente de q unités à l'instant donne une vitesse de q × ln 2 / 7 par jour
+    private static final double DAILY_RATE_PER_UNIT = Math.log(2) / 7;
+
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final OrderItemRepository orderItemRepository = mock(OrderItemRepository.class);
+    private ReplenishmentService replenishmentService;
+
+    @BeforeEach
+    void setUp() {
+        // Seuil par défaut 5, délai de livraison 3 jours, couverture 14 jours
+        replenishmentService = new ReplenishmentService(Duration.ofDays(7), 5, Duration.ofDays(3), Duration.ofDays(14),
+                mock(PlatformTransactionManager.class), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(replenishmentService, "productRepository", productRepository);
+        ReflectionTestUtils.setField(replenishmentService, "orderItemRepository", orderItemRepository);
+    }
+
+    @Test
+    void emptyStockIsOutOfStock() {
+        level(0, null, 1L);
+
+        StockAlert alert = onlyAlert();
+        assertEquals(AlertLevel.OUT_OF_STOCK, alert.getLevel());
+        assertNull(alert.getDaysOfStockLeft());
+        // Sans ventes : de quoi repasser au-dessus du seuil
+        assertEquals(6, alert.getSuggestedReorder());
+    }
+
+    @Test
+    void stockAtTheThresholdIsBelowThreshold() {
+        level(5, null, 1L);
+        StockAlert alert = onlyAlert();
+        assertEquals(AlertLevel.BELOW_THRESHOLD, alert.getLevel());
+        assertEquals(5, alert.getThreshold());
+        assertEquals(1, alert.getSuggestedReorder());
+
+        // Seuil propre au produit
+        level(7, 8, 2L);
+        alert = onlyAlert();
+        assertEquals(AlertLevel.BELOW_THRESHOLD, alert.getLevel());
+        assertEquals(8, alert.getThreshold());
+        assertEquals(2, alert.getSuggestedReorder());
+
+        level(9, 8, 3L);
+        replenishmentService.check();
+        assertTrue(replenishmentService.getAlerts().isEmpty());
+    }
+
+    @Test
+    void fastSalesProjectAStockoutWithinTheLeadTime() {
+        level(20, null, 1L);
+        sell(101, LocalDateTime.now());
+
+        StockAlert alert = onlyAlert();
+        double rate = 101 * DAILY_RATE_PER_UNIT;
+        assertEquals(AlertLevel.STOCKOUT_PROJECTED, alert.getLevel());
+        assertEquals(Math.round(rate * 100) / 100.0, alert.getDailyVelocity());
+        assertEquals(Math.round(20 / rate * 10) / 10.0, alert.getDaysOfStockLeft());
+        // Délai de livraison et couverture (17 jours de ventes), moins le stock restant
+        assertEquals((int) Math.ceil(rate * 17) - 20, alert.getSuggestedReorder());
+    }
+
+    @Test
+    void cancelledSalesAreRemovedFromTheVelocity() {
+        LocalDateTime orderDate = LocalDateTime.now();
+        level(20, null, 1L);
+        sell(101, orderDate);
+        assertEquals(AlertLevel.STOCKOUT_PROJECTED, onlyAlert().getLevel());
+
+        // Autre statut : rien n'est relu ni retiré
+        replenishmentService.onOrderStatusChanged(new OrderStatusChangedEvent(ORDER_ID, 1L, OrderStatus.SHIPPED));
+        verify(orderItemRepository, never()).findSalesOfOrder(anyLong());
+
+        when(orderItemRepository.findSalesOfOrder(ORDER_ID))
+                .thenReturn(List.<Object[]>of(new Object[] { PRODUCT_ID, orderDate, 101 }));
+        replenishmentService.onOrderStatusChanged(new OrderStatusChangedEvent(ORDER_ID, 1L, OrderStatus.CANCELLED));
+
+        replenishmentService.check();
+        assertTrue(replenishmentService.getAlerts().isEmpty());
+
+        // Vitesse revenue à zéro : plus de rupture projetée une fois sous le seuil
+        level(3, null, 2L);
+        StockAlert alert = onlyAlert();
+        assertEquals(AlertLevel.BELOW_THRESHOLD, alert.getLevel());
+        assertEquals(0.0, alert.getDailyVelocity());
+        assertNull(alert.getDaysOfStockLeft());
+    }
+
+    @Test
+    void olderVersionNeverReplacesANewerLevel() {
+        level(0, null, 3L);
+        assertEquals(AlertLevel.OUT_OF_STOCK, onlyAlert().getLevel());
+
+        // Relecture concurrente arrivée en retard
+        level(50, null, 2L);
+        StockAlert alert = onlyAlert();
+        assertEquals(AlertLevel.OUT_OF_STOCK, alert.getLevel());
+        assertEquals(0, alert.getStock());
+
+        level(50, null, 4L);
+        replenishmentService.check();
+        assertTrue(replenishmentService.getAlerts().isEmpty());
+    }
+
+    @Test
+    void deletedProductIsNoLongerTracked() {
+        level(0, null, 1L);
+        assertEquals(AlertLevel.OUT_OF_STOCK, onlyAlert().getLevel());
+
+        when(productRepository.findAllById(Set.of(PRODUCT_ID))).thenReturn(List.of());
+        replenishmentService.onCatalogChanged(new CatalogChangedEvent("suppression", Set.of(PRODUCT_ID)));
+
+        replenishmentService.check();
+        assertTrue(replenishmentService.getAlerts().isEmpty());
+    }
+
+    // Stock relu après un changement du catalogue (cache de second niveau simulé par le dépôt)
+    private void level(int stock, Integer threshold, long version) {
+        Product product = new Product();
+        product.setId(PRODUCT_ID);
+        product.setName("Produit suivi");
+        product.setStock(stock);
+        product.setLowStockThreshold(threshold);
+        product.setVersion(version);
+        when(productRepository.findAllById(Set.of(PRODUCT_ID))).thenReturn(List.of(product));
+        replenishmentService.onCatalogChanged(new CatalogChangedEvent("stock", Set.of(PRODUCT_ID)));
+    }
+
+    private void sell(int quantity, LocalDateTime orderDate) {
+        replenishmentService.onOrderPlaced(new OrderPlacedEvent(ORDER_ID, 1L, orderDate, Map.of(PRODUCT_ID, quantity)));
+    }
+
+    private StockAlert onlyAlert() {
+        replenishmentService.check();
+        List<StockAlert> alerts = replenishmentService.getAlerts();
+        assertEquals(1, alerts.size(), alerts.toString());
+        assertEquals(PRODUCT_ID, alerts.get(0).getProductId());
+        return alerts.get(0);
+    }
+}
@@ -0,0 +1,103 @@
+package com.anh.e_commerce_platform.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.anh.e_commerce_platform.dto.TrendingProduct;
+import com.anh.e_commerce_platform.event.OrderPlacedEvent;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+class TrendingServiceTests {
+
+    // Catégorie de chaque produit connu des facettes ; le produit 4 a été supprimé du catalogue
+    private static final Map<Long, Long> CATEGORIES = Map.of(1L, 10L, 2L, 10L, 3L, 20L);
+
+    private TrendingService trendingService;
+
+    @BeforeEach
+    void setUp() {
+        FacetService facetService = mock(FacetService.class);
+        when(facetService.categoriesOf(anyCollection())).thenAnswer(invocation -> {
+            Map<Long, Long> found = new HashMap<>();
+            for (Object id : invocation.<Iterable<?>>getArgument(0)) {
+                if (CATEGORIES.containsKey(id)) {
+                    found.put((Long) id, CATEGORIES.get(id));
+                }
+            }
+            return found;
+        });
+        // Rafraîchissement nul : chaque lecture recalcule les totaux
+        trendingService = new TrendingService(Duration.ofHours(1), 10, Duration.ZERO);
+        ReflectionTestUtils.setField(trendingService, "facetService", facetService);
+    }
+
+    @Test
+    void purchasesWeighMoreThanViews() {
+        views(1L, 12);
+        views(2L, 3);
+        trendingService.onOrderPlaced(order(2L, 1));
+
+        List<TrendingProduct> top = trendingService.top(10, null);
+
+        assertEquals(List.of(2L, 1L), ids(top));
+        assertEquals(13, top.get(0).getScore());
+        assertEquals(3, top.get(0).getViews());
+        assertEquals(1, top.get(0).getPurchases());
+        assertEquals(12, top.get(1).getScore());
+    }
+
+    @Test
+    void limitKeepsTheBestAndTiesAreOrderedById() {
+        views(3L, 5);
+        views(2L, 5);
+        views(1L, 1);
+
+        assertEquals(List.of(2L, 3L), ids(trendingService.top(2, null)));
+        assertTrue(trendingService.top(0, null).isEmpty());
+    }
+
+    @Test
+    void categoryFilter() {
+        views(1L, 1);
+        views(2L, 2);
+        views(3L, 3);
+
+        assertEquals(List.of(2L, 1L), ids(trendingService.top(10, 10L)));
+        assertEquals(List.of(3L), ids(trendingService.top(10, 20L)));
+        assertTrue(trendingService.top(10, 99L).isEmpty());
+    }
+
+    @Test
+    void deletedProductsAreLeftOut() {
+        views(4L, 100);
+        views(1L, 1);
+
+        assertEquals(List.of(1L), ids(trendingService.top(10, null)));
+    }
+
+    private void views(Long productId, int count) {
+        for (int i = 0; i < count; i++) {
+            trendingService.recordView(productId);
+        }
+    }
+
+    private static OrderPlacedEvent order(Long productId, int quantity) {
+        return new OrderPlacedEvent(1L, 1L, LocalDateTime.now(), Map.of(productId, quantity));
+    }
+
+    private static List<Long> ids(List<TrendingProduct> products) {
+        return products.stream().map(TrendingProduct::getProductId).toList();
+    }
+}
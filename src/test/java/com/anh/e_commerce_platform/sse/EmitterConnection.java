@@ -0,0 +1,108 @@
+package com.anh.e_commerce_platform.sse;
+
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+// Connexion HTTP simulée d'un SseEmitter, sans conteneur de servlets : événements écrits (texte du flux),
+// fin de la réponse, et délai ou erreur déclenchés comme le ferait le conteneur.
+// L'interface du conteneur (ResponseBodyEmitter.Handler) n'est pas publique : branchée par réflexion.
+public final class EmitterConnection implements InvocationHandler {
+
+    private final List<String> events = new ArrayList<>();
+    private Runnable timeoutCallback;
+    private Consumer<Throwable> errorCallback;
+    private Runnable completionCallback;
+    private boolean completed;
+    private boolean broken;
+
+    private EmitterConnection() {
+    }
+
+    public static EmitterConnection open(SseEmitter emitter) {
+        EmitterConnection connection = new EmitterConnection();
+        try {
+            Class<?> handlerType = Class.forName(ResponseBodyEmitter.class.getName() + "$Handler");
+            Object handler = Proxy.newProxyInstance(handlerType.getClassLoader(), new Class<?>[] { handlerType },
+                    connection);
+            ReflectionTestUtils.invokeMethod(emitter, "initialize", handler);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+        return connection;
+    }
+
+    // Événements reçus par le client ; les commentaires (":ok", ":ping") sont écartés
+    public List<String> events() {
+        return events.stream().filter(event -> !event.startsWith(":")).toList();
+    }
+
+    public List<String> comments() {
+        return events.stream().filter(event -> event.startsWith(":")).toList();
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    // Client parti : les écritures suivantes échouent
+    public void disconnect() {
+        broken = true;
+    }
+
+    public void timeout() {
+        timeoutCallback.run();
+    }
+
+    public void error(Throwable failure) {
+        errorCallback.accept(failure);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object invoke(Object proxy, Method method, Object[] args) throws IOException {
+        switch (method.getName()) {
+            case "send" -> {
+                if (broken) {
+                    throw new IOException("Connexion fermée par le client");
+                }
+                StringBuilder event = new StringBuilder();
+                if (args.length == 2) {
+                    event.append(args[0]);
+                } else {
+                    for (ResponseBodyEmitter.DataWithMediaType part : (Collection<ResponseBodyEmitter.DataWithMediaType>) args[0]) {
+                        event.append(part.getData());
+                    }
+                }
+                events.add(event.toString().strip());
+            }
+            case "complete", "completeWithError" -> {
+                completed = true;
+                completionCallback.run();
+            }
+            case "onTimeout" -> timeoutCallback = (Runnable) args[0];
+            case "onError" -> errorCallback = (Consumer<Throwable>) args[0];
+            case "onCompletion" -> completionCallback = (Runnable) args[0];
+            case "toString" -> {
+                return "EmitterConnection";
+            }
+            case "hashCode" -> {
+                return System.identityHashCode(proxy);
+            }
+            case "equals" -> {
+                return proxy == args[0];
+            }
+            default -> throw new UnsupportedOperationException(method.getName());
+        }
+        return null;
+    }
+}
@@ -0,0 +1,149 @@
+package com.anh.e_commerce_platform.sse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+
+class SseHubTests {
+
+    private static final long TIMEOUT_MILLIS = 60_000;
+
+    // Tâches de vidage exécutées à la demande, sur le thread du test
+    private final ManualExecutor executor = new ManualExecutor();
+
+    @Test
+    void eventsReachEachSubscriberInPublicationOrder() {
+        SseHub hub = new SseHub(Runnable::run, TIMEOUT_MILLIS, 16);
+        EmitterConnection first = EmitterConnection.open(hub.subscribe(List.of("stock:1")));
+        EmitterConnection second = EmitterConnection.open(hub.subscribe(List.of("stock")));
+
+        for (int i = 1; i <= 5; i++) {
+            hub.publish(List.of("stock", "stock:1"), "stock", "{\"stock\":" + i + "}");
+        }
+
+        List<String> expected = List.of(event(1), event(2), event(3), event(4), event(5));
+        assertEquals(expected, first.events());
+        assertEquals(expected, second.events());
+        assertEquals(List.of(":ok"), first.comments());
+    }
+
+    @Test
+    void eventsQueuedBehindASlowDrainKeepTheirOrder() {
+        SseHub hub = new SseHub(executor, TIMEOUT_MILLIS, 16);
+        EmitterConnection connection = EmitterConnection.open(hub.subscribe(List.of("stock")));
+
+        hub.publish(List.of("stock"), "stock", "{\"stock\":1}");
+        hub.publish(List.of("stock"), "stock", "{\"stock\":2}");
+        // Une seule tâche de vidage par abonné, quel que soit le nombre d'événements en attente
+        assertEquals(1, executor.size());
+        executor.runAll();
+        hub.publish(List.of("stock"), "stock", "{\"stock\":3}");
+        executor.runAll();
+
+        assertEquals(List.of(event(1), event(2), event(3)), connection.events());
+    }
+
+    @Test
+    void subscriberIsDisconnectedPastMaxPending() {
+        SseHub hub = new SseHub(executor, TIMEOUT_MILLIS, 3);
+        EmitterConnection slow = EmitterConnection.open(hub.subscribe(List.of("stock")));
+
+        // Commentaire d'ouverture + 2 événements : file pleine, le suivant déborde
+        hub.publish(List.of("stock"), "stock", "{\"stock\":1}");
+        hub.publish(List.of("stock"), "stock", "{\"stock\":2}");
+        assertFalse(slow.isCompleted());
+        hub.publish(List.of("stock"), "stock", "{\"stock\":3}");
+
+        assertTrue(slow.isCompleted());
+        assertEquals(0, hub.size());
+        assertFalse(hub.hasSubscribers("stock"));
+    }
+
+    @Test
+    void failedWriteRemovesTheSubscriber() {
+        SseHub hub = new SseHub(Runnable::run, TIMEOUT_MILLIS, 16);
+        EmitterConnection gone = EmitterConnection.open(hub.subscribe(List.of("stock")));
+        EmitterConnection other = EmitterConnection.open(hub.subscribe(List.of("stock")));
+
+        gone.disconnect();
+        hub.publish(List.of("stock"), "stock", "{\"stock\":1}");
+
+        assertEquals(1, hub.size());
+        assertEquals(List.of(event(1)), other.events());
+    }
+
+    @Test
+    void timeoutAndErrorRemoveTheSubscriber() {
+        SseHub hub = new SseHub(Runnable::run, TIMEOUT_MILLIS, 16);
+        EmitterConnection timedOut = EmitterConnection.open(hub.subscribe(List.of("stock:1")));
+        EmitterConnection failed = EmitterConnection.open(hub.subscribe(List.of("stock:2")));
+        assertEquals(2, hub.size());
+
+        timedOut.timeout();
+        assertEquals(1, hub.size());
+        assertFalse(hub.hasSubscribers("stock:1"));
+
+        failed.error(new IllegalStateException("Réponse interrompue"));
+        assertEquals(0, hub.size());
+        assertFalse(hub.hasSubscribers("stock:2"));
+    }
+
+    @Test
+    void overlappingTopicsDeliverOneEventPerSubscriber() {
+        SseHub hub = new SseHub(Runnable::run, TIMEOUT_MILLIS, 16);
+        EmitterConnection both = EmitterConnection.open(hub.subscribe(List.of("orders", "orders:user:1")));
+        EmitterConnection admin = EmitterConnection.open(hub.subscribe(List.of("orders")));
+        EmitterConnection otherUser = EmitterConnection.open(hub.subscribe(List.of("orders:user:2")));
+
+        hub.publish(List.of("orders", "orders:user:1"), "order-status", "{\"orderId\":7}");
+
+        String expected = "event:order-status\ndata:{\"orderId\":7}";
+        assertEquals(List.of(expected), both.events());
+        assertEquals(List.of(expected), admin.events());
+        assertTrue(otherUser.events().isEmpty());
+    }
+
+    @Test
+    void heartbeatReachesEverySubscriber() {
+        SseHub hub = new SseHub(Runnable::run, TIMEOUT_MILLIS, 16);
+        EmitterConnection first = EmitterConnection.open(hub.subscribe(List.of("stock")));
+        EmitterConnection second = EmitterConnection.open(hub.subscribe(List.of("orders")));
+
+        hub.heartbeat();
+
+        assertEquals(List.of(":ok", ":ping"), first.comments());
+        assertEquals(List.of(":ok", ":ping"), second.comments());
+    }
+
+    private static String event(int stock) {
+        return "event:stock\ndata:{\"stock\":" + stock + "}";
+    }
+
+    private static final class ManualExecutor implements Executor {
+
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        int size() {
+            return tasks.size();
+        }
+
+        void runAll() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.anh.e_commerce_platform.trending;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+class SlidingWindowCountersTests {
+
+    private static final long MINUTE = 60_000L;
+    private static final long T0 = 1_000_000 * MINUTE;
+
+    // Fenêtre de 5 minutes : anneau de 5 tranches
+    private final SlidingWindowCounters counters = new SlidingWindowCounters(Duration.ofMinutes(5));
+
+    @Test
+    void countsWithinTheWindowAreSummed() {
+        counters.add(1, 2, T0);
+        counters.add(1, 3, T0 + MINUTE);
+        counters.add(2, 1, T0 + 4 * MINUTE + 59_999);
+
+        assertEquals(Map.of(1L, 5L, 2L, 1L), counters.totals(T0 + 4 * MINUTE + 59_999));
+    }
+
+    @Test
+    void minutesLeaveTheWindowOneByOne() {
+        for (int minute = 0; minute < 5; minute++) {
+            counters.add(1, 1, T0 + minute * MINUTE);
+        }
+
+        assertEquals(5L, counters.totals(T0 + 4 * MINUTE).get(1L));
+        assertEquals(4L, counters.totals(T0 + 5 * MINUTE).get(1L));
+        assertEquals(2L, counters.totals(T0 + 7 * MINUTE + 30_000).get(1L));
+        assertTrue(counters.totals(T0 + 9 * MINUTE).isEmpty());
+    }
+
+    @Test
+    void reusedSlotStartsFromZero() {
+        counters.add(1, 10, T0);
+
+        // Même case de l'anneau, un tour plus tard : l'ancienne tranche est remplacée, pas prolongée
+        counters.add(1, 1, T0 + 5 * MINUTE);
+
+        assertEquals(Map.of(1L, 1L), counters.totals(T0 + 5 * MINUTE));
+    }
+
+    @Test
+    void lateWriteFromAPreviousTurnGoesToTheRecentSlot() {
+        counters.add(1, 1, T0 + 5 * MINUTE);
+
+        // Écriture d'un thread resté suspendu un tour complet : comptée dans la tranche récente
+        counters.add(1, 1, T0);
+
+        assertEquals(Map.of(1L, 2L), counters.totals(T0 + 5 * MINUTE));
+    }
+
+    @Test
+    void longIdleGapExpiresEverything() {
+        counters.add(1, 3, T0);
+        counters.add(2, 4, T0 + 2 * MINUTE);
+
+        assertTrue(counters.totals(T0 + 60 * MINUTE).isEmpty());
+        counters.add(2, 1, T0 + 60 * MINUTE);
+        assertEquals(Map.of(2L, 1L), counters.totals(T0 + 60 * MINUTE));
+    }
+
+    @Test
+    void windowShorterThanAMinuteKeepsOneSlot() {
+        SlidingWindowCounters tiny = new SlidingWindowCounters(Duration.ofSeconds(10));
+        tiny.add(1, 1, T0);
+        tiny.add(1, 1, T0 + 59_000);
+
+        assertEquals(Map.of(1L, 2L), tiny.totals(T0 + 59_000));
+        assertTrue(tiny.totals(T0 + MINUTE).isEmpty());
+    }
+
+    @Test
+    void concurrentAddsAreAllCounted() throws Exception {
+        int threads = 8;
+        int addsPerThread = 10_000;
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                executor.submit(() -> {
+                    for (int i = 0; i < addsPerThread; i++) {
+                        // Plusieurs minutes : remplacements de tranches concurrents
+                        counters.add(i % 3, 1, T0 + (i % 3) * MINUTE);
+                    }
+                });
+            }
+        }
+
+        Map<Long, Long> totals = counters.totals(T0 + 2 * MINUTE);
+        assertEquals((long) threads * addsPerThread, totals.values().stream().mapToLong(Long::longValue).sum());
+    }
+}